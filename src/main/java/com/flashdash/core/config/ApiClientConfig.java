@@ -0,0 +1,62 @@
+package com.flashdash.core.config;
+
+import com.flashdash.core.config.interceptor.BearerTokenInterceptor;
+import com.p4r1nc3.flashdash.activity.api.ActivitiesApi;
+import com.p4r1nc3.flashdash.notification.api.NotificationsApi;
+import com.p4r1nc3.flashdash.notification.api.SubscribersApi;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class ApiClientConfig {
+
+    @Value("${api-client.connect-timeout-ms}")
+    private long connectTimeoutMs;
+
+    @Value("${api-client.read-timeout-ms}")
+    private long readTimeoutMs;
+
+    @Value("${api-client.max-connections-per-route}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${api-client.max-idle-connections}")
+    private int maxIdleConnections;
+
+    @Value("${api-client.keep-alive-seconds}")
+    private long keepAliveSeconds;
+
+    @Bean
+    public OkHttpClient apiHttpClient(BearerTokenInterceptor bearerTokenInterceptor) {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(maxConnectionsPerRoute);
+
+        return new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(maxIdleConnections, keepAliveSeconds, TimeUnit.SECONDS))
+                .dispatcher(dispatcher)
+                .connectTimeout(connectTimeoutMs, TimeUnit.MILLISECONDS)
+                .readTimeout(readTimeoutMs, TimeUnit.MILLISECONDS)
+                .addInterceptor(bearerTokenInterceptor)
+                .build();
+    }
+
+    @Bean
+    public ActivitiesApi activitiesApi(OkHttpClient apiHttpClient) {
+        return new ActivitiesApi(new com.p4r1nc3.flashdash.activity.ApiClient(apiHttpClient));
+    }
+
+    @Bean
+    public NotificationsApi notificationsApi(OkHttpClient apiHttpClient) {
+        return new NotificationsApi(new com.p4r1nc3.flashdash.notification.ApiClient(apiHttpClient));
+    }
+
+    @Bean
+    public SubscribersApi subscribersApi(OkHttpClient apiHttpClient) {
+        return new SubscribersApi(new com.p4r1nc3.flashdash.notification.ApiClient(apiHttpClient));
+    }
+}
@@ -0,0 +1,18 @@
+package com.flashdash.core.config;
+
+import com.flashdash.core.utils.FrnGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FrnGeneratorConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(FrnGeneratorConfig.class);
+
+    public FrnGeneratorConfig(@Value("${frn.generator.mode}") FrnGenerator.Mode mode) {
+        FrnGenerator.setMode(mode);
+        logger.info("Generating FRNs in {} mode", mode);
+    }
+}
@@ -0,0 +1,38 @@
+package com.flashdash.core.config;
+
+import java.util.Date;
+
+public class JwtClaims {
+
+    private final String userFrn;
+    private final String email;
+    private final int tokenVersion;
+    private final Date expiration;
+
+    public JwtClaims(String userFrn, String email, int tokenVersion, Date expiration) {
+        this.userFrn = userFrn;
+        this.email = email;
+        this.tokenVersion = tokenVersion;
+        this.expiration = expiration;
+    }
+
+    public String getUserFrn() {
+        return userFrn;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public Date getExpiration() {
+        return expiration;
+    }
+
+    public boolean isExpired() {
+        return expiration.before(new Date());
+    }
+}
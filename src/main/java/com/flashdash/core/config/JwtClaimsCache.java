@@ -0,0 +1,56 @@
+package com.flashdash.core.config;
+
+import com.flashdash.core.utils.BoundedTtlMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Keeps the claims of tokens that already passed signature verification, keyed by a SHA-256 digest
+ * of the token so raw tokens are never held in memory. Entries are dropped once the token expires.
+ */
+@Component
+public class JwtClaimsCache {
+
+    private final JwtManager jwtManager;
+    private final BoundedTtlMap<String, JwtClaims> cache;
+
+    public JwtClaimsCache(JwtManager jwtManager,
+                          @Value("${jwt.claims-cache.max-size}") int maxSize) {
+        this.jwtManager = jwtManager;
+        this.cache = new BoundedTtlMap<>(0, maxSize);
+    }
+
+    public JwtClaims getClaims(String token) {
+        final String key = digest(token);
+        final JwtClaims cached = cache.get(key);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        // Throws for expired or tampered tokens, so only verified claims are ever cached.
+        final JwtClaims claims = jwtManager.parseToken(token);
+        cache.put(key, claims, claims.getExpiration().getTime());
+
+        return claims;
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
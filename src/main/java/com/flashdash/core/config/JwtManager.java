@@ -9,6 +9,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -17,10 +18,16 @@ import java.util.function.Function;
 @Component
 public class JwtManager {
 
+    private static final String EMAIL_CLAIM = "email";
+    private static final String TOKEN_VERSION_CLAIM = "ver";
+
     private final Key secretKey;
+    private final Duration tokenValidity;
 
-    public JwtManager(@Value("${jwt.secret}") String secret) {
+    public JwtManager(@Value("${jwt.secret}") String secret,
+                      @Value("${jwt.access-token.expiration-minutes}") long expirationMinutes) {
         this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        this.tokenValidity = Duration.ofMinutes(expirationMinutes);
     }
 
     public String extractUserFrn(String token) {
@@ -32,6 +39,17 @@ public class JwtManager {
         return claimsResolver.apply(claims);
     }
 
+    public JwtClaims parseToken(String token) {
+        final Claims claims = extractAllClaims(token);
+        final Integer tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Integer.class);
+        return new JwtClaims(
+                claims.getSubject(),
+                claims.get(EMAIL_CLAIM, String.class),
+                tokenVersion != null ? tokenVersion : 0,
+                claims.getExpiration()
+        );
+    }
+
     private Claims extractAllClaims(String token) {
         return Jwts.parserBuilder()
                 .setSigningKey(secretKey)
@@ -41,29 +59,33 @@ public class JwtManager {
     }
 
     public String generateToken(String userFrn, String email) {
-        return createToken(userFrn, email);
+        return createToken(userFrn, email, 0);
     }
 
-    private String createToken(String userFrn, String email) {
+    public String generateToken(String userFrn, String email, int tokenVersion) {
+        return createToken(userFrn, email, tokenVersion);
+    }
+
+    private String createToken(String userFrn, String email, int tokenVersion) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("email", email);
+        claims.put(EMAIL_CLAIM, email);
+        claims.put(TOKEN_VERSION_CLAIM, tokenVersion);
 
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(userFrn)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60))
+                .setExpiration(new Date(System.currentTimeMillis() + tokenValidity.toMillis()))
                 .signWith(SignatureAlgorithm.HS256, secretKey)
                 .compact();
     }
 
-    public boolean validateToken(String token, String userFrn) {
-        final String extractedUserFrn = extractUserFrn(token);
-        return (extractedUserFrn.equals(userFrn) && !isTokenExpired(token));
+    public Duration getTokenValidity() {
+        return tokenValidity;
     }
 
-    private boolean isTokenExpired(String token) {
-        final Date expiration = extractClaim(token, Claims::getExpiration);
-        return expiration.before(new Date());
+    public boolean validateToken(String token, String userFrn) {
+        final JwtClaims claims = parseToken(token);
+        return (claims.getUserFrn().equals(userFrn) && !claims.isExpired());
     }
 }
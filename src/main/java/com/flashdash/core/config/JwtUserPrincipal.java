@@ -0,0 +1,46 @@
+package com.flashdash.core.config;
+
+import com.flashdash.core.model.UserPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Principal built from verified token claims, so authenticated requests do not need to load the
+ * {@code users} row. Services that need the full entity still go through {@code UserService}.
+ */
+public class JwtUserPrincipal implements UserPrincipal {
+
+    private final String userFrn;
+    private final String email;
+
+    public JwtUserPrincipal(JwtClaims claims) {
+        this.userFrn = claims.getUserFrn();
+        this.email = claims.getEmail();
+    }
+
+    @Override
+    public String getUserFrn() {
+        return userFrn;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    @Override
+    public String getUsername() {
+        return userFrn;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.emptyList();
+    }
+}
@@ -0,0 +1,53 @@
+package com.flashdash.core.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Periodically measures the replication lag with a configurable query returning the lag in seconds,
+ * e.g. against a heartbeat table, and stops routing reads to the replica while the lag exceeds the
+ * tolerated lag or the replica cannot be reached. Without a query the replica is always considered
+ * up to date.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final long maxLagMillis;
+
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, String lagQuery, long maxLagMillis) {
+        this.routingDataSource = routingDataSource;
+        this.replicaJdbcTemplate = new JdbcTemplate(routingDataSource.getReplica());
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms}")
+    public void checkLag() {
+        if (lagQuery == null || lagQuery.isBlank()) {
+            return;
+        }
+
+        boolean available;
+        try {
+            Number lagSeconds = replicaJdbcTemplate.queryForObject(lagQuery, Number.class);
+            available = lagSeconds != null && lagSeconds.doubleValue() * 1000 <= maxLagMillis;
+            if (!available) {
+                logger.warn("Replica lags behind by {} seconds, reading from the primary", lagSeconds);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to measure replica lag, reading from the primary. Error: {}", e.getMessage());
+            available = false;
+        }
+
+        if (available && !routingDataSource.isReplicaAvailable()) {
+            logger.info("Replica caught up, reading from the replica again");
+        }
+        routingDataSource.setReplicaAvailable(available);
+    }
+}
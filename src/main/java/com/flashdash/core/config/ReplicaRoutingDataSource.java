@@ -0,0 +1,106 @@
+package com.flashdash.core.config;
+
+import com.flashdash.core.model.UserPrincipal;
+import com.flashdash.core.utils.BoundedTtlMap;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Sends connections of read-only transactions to the replica and everything else to the primary.
+ * A user whose own transaction committed within the tolerated replication lag keeps reading from the
+ * primary, so they always see their own writes. Reads also fall back to the primary while the replica
+ * is marked unavailable, e.g. because it lags behind by more than the tolerated lag.
+ * Must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, so the
+ * connection is only fetched once the transaction is marked read-only.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final BoundedTtlMap<String, Long> lastWrites;
+    private volatile boolean replicaAvailable = true;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, long maxLagMillis, int maxSize) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lastWrites = new BoundedTtlMap<>(maxLagMillis, maxSize);
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    public DataSource getReplica() {
+        return replica;
+    }
+
+    public void setReplicaAvailable(boolean replicaAvailable) {
+        this.replicaAvailable = replicaAvailable;
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    public void recordWrite(String userFrn) {
+        lastWrites.put(userFrn, System.currentTimeMillis());
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return route();
+    }
+
+    Route route() {
+        String userFrn = currentUserFrn();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (userFrn != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        recordWrite(userFrn);
+                    }
+                });
+            }
+            return Route.PRIMARY;
+        }
+
+        if (!replicaAvailable || (userFrn != null && wroteRecently(userFrn))) {
+            return Route.PRIMARY;
+        }
+        return Route.REPLICA;
+    }
+
+    private boolean wroteRecently(String userFrn) {
+        return lastWrites.get(userFrn) != null;
+    }
+
+    private static String currentUserFrn() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getUserFrn();
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+        if (replica instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.flashdash.core.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.metamodel.EntityType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Checks on startup that every index declared through {@link Table#indexes()} on an entity exists in the
+ * database with the same leading columns. Hibernate's schema validation only covers tables and columns,
+ * so without this a migration that forgets or reorders an index would only show up as slow queries.
+ */
+@Component
+public class SchemaIndexVerifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchemaIndexVerifier.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final DataSource dataSource;
+    private final boolean enabled;
+
+    public SchemaIndexVerifier(EntityManagerFactory entityManagerFactory,
+                               DataSource dataSource,
+                               @Value("${schema.index-verification.enabled}") boolean enabled) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.dataSource = dataSource;
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    public void verifyOnStartup() {
+        if (!enabled) {
+            return;
+        }
+
+        List<String> missing = findMissingIndexes();
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Database schema is missing indexes declared on entities: " + String.join(", ", missing));
+        }
+        logger.info("Verified secondary indexes of {} entities", entityManagerFactory.getMetamodel().getEntities().size());
+    }
+
+    public List<String> findMissingIndexes() {
+        List<String> missing = new ArrayList<>();
+
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+
+            for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+                Table table = entity.getJavaType().getAnnotation(Table.class);
+                if (table == null || table.indexes().length == 0) {
+                    continue;
+                }
+
+                List<List<String>> existing = readIndexColumns(metaData, connection.getCatalog(), table.name());
+                for (Index index : table.indexes()) {
+                    List<String> expected = Arrays.stream(index.columnList().split(","))
+                            .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                            .toList();
+
+                    boolean covered = existing.stream()
+                            .anyMatch(columns -> columns.size() >= expected.size() && columns.subList(0, expected.size()).equals(expected));
+                    if (!covered) {
+                        missing.add(table.name() + "." + index.name() + " " + expected);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to read database indexes", e);
+        }
+
+        return missing;
+    }
+
+    private List<List<String>> readIndexColumns(DatabaseMetaData metaData, String catalog, String tableName) throws SQLException {
+        String table = metaData.storesUpperCaseIdentifiers() ? tableName.toUpperCase(Locale.ROOT) : tableName;
+        Map<String, Map<Short, String>> columnsByIndex = new TreeMap<>();
+
+        try (ResultSet rs = metaData.getIndexInfo(catalog, null, table, false, false)) {
+            while (rs.next()) {
+                String indexName = rs.getString("INDEX_NAME");
+                String columnName = rs.getString("COLUMN_NAME");
+                if (indexName == null || columnName == null) {
+                    continue;
+                }
+                columnsByIndex.computeIfAbsent(indexName, name -> new TreeMap<>())
+                        .put(rs.getShort("ORDINAL_POSITION"), columnName.toLowerCase(Locale.ROOT));
+            }
+        }
+
+        return columnsByIndex.values().stream()
+                .map(columns -> (List<String>) new ArrayList<>(columns.values()))
+                .toList();
+    }
+}
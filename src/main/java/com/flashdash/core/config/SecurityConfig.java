@@ -4,6 +4,7 @@ import com.flashdash.core.config.filter.CorrelationIdFilter;
 import com.flashdash.core.config.filter.JwtAuthenticationFilter;
 import com.flashdash.core.config.handler.CustomAccessDeniedHandler;
 import com.flashdash.core.config.handler.CustomAuthenticationEntryPoint;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -62,7 +63,7 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${password-hashing.bcrypt-strength}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 }
@@ -0,0 +1,86 @@
+package com.flashdash.core.config;
+
+import com.flashdash.core.repository.UserRepository;
+import com.flashdash.core.utils.BoundedTtlMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Holds the token used to call downstream services on behalf of a user. A token is signed lazily and
+ * reused until it is within the refresh margin of its expiry. Callers that already know a user's email
+ * register it with {@link #remember(String, String)}; the database is only consulted for users that
+ * were never seen by this instance, such as the recipient of a friend invitation.
+ */
+@Component
+public class ServiceTokenCache {
+
+    private final JwtManager jwtManager;
+    private final UserRepository userRepository;
+    private final long refreshMarginMillis;
+    private final BoundedTtlMap<String, Entry> cache;
+
+    public ServiceTokenCache(JwtManager jwtManager,
+                             UserRepository userRepository,
+                             @Value("${jwt.service-token-cache.refresh-margin-seconds}") long refreshMarginSeconds,
+                             @Value("${jwt.service-token-cache.max-size}") int maxSize) {
+        this.jwtManager = jwtManager;
+        this.userRepository = userRepository;
+        this.refreshMarginMillis = refreshMarginSeconds * 1000;
+        // Entries keep the email after their token expired, so they do not expire themselves
+        this.cache = new BoundedTtlMap<>(Long.MAX_VALUE, maxSize);
+    }
+
+    public void remember(String userFrn, String email) {
+        if (userFrn == null || email == null) {
+            return;
+        }
+
+        Entry entry = cache.get(userFrn);
+        if (entry == null || !email.equals(entry.email)) {
+            cache.put(userFrn, new Entry(email, null, 0));
+        }
+    }
+
+    public Optional<String> getToken(String userFrn) {
+        Entry entry = cache.get(userFrn);
+
+        if (entry == null) {
+            Optional<String> email = userRepository.findEmailByUserFrn(userFrn);
+            if (email.isEmpty()) {
+                return Optional.empty();
+            }
+            entry = new Entry(email.get(), null, 0);
+        }
+
+        if (!entry.isUsable(refreshMarginMillis)) {
+            String token = jwtManager.generateToken(userFrn, entry.email);
+            entry = new Entry(entry.email, token, System.currentTimeMillis() + jwtManager.getTokenValidity().toMillis());
+            cache.put(userFrn, entry);
+        }
+
+        return Optional.of(entry.token);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private static final class Entry {
+        private final String email;
+        private final String token;
+        private final long expiresAt;
+
+        private Entry(String email, String token, long expiresAt) {
+            this.email = Objects.requireNonNull(email);
+            this.token = token;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isUsable(long refreshMarginMillis) {
+            return token != null && System.currentTimeMillis() < expiresAt - refreshMarginMillis;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.flashdash.core.config;
+
+import com.flashdash.core.repository.UserRepository;
+import com.flashdash.core.utils.BoundedTtlMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Short-lived cache of each user's current token version. A token is only accepted while the version
+ * it was issued with matches; bumping the version (password change) or revoking the user (deletion)
+ * invalidates every token issued before. Entries are reloaded from the database after the TTL so
+ * changes made on other instances are picked up.
+ */
+@Component
+public class TokenVersionCache {
+
+    private final UserRepository userRepository;
+    private final BoundedTtlMap<String, Entry> cache;
+
+    public TokenVersionCache(UserRepository userRepository,
+                             @Value("${jwt.token-version-cache.ttl-seconds}") long ttlSeconds,
+                             @Value("${jwt.token-version-cache.max-size}") int maxSize) {
+        this.userRepository = userRepository;
+        this.cache = new BoundedTtlMap<>(ttlSeconds * 1000, maxSize);
+    }
+
+    public boolean isCurrent(String userFrn, int tokenVersion) {
+        Entry entry = cache.get(userFrn);
+
+        if (entry == null) {
+            Optional<Integer> version = userRepository.findActiveTokenVersionByUserFrn(userFrn);
+            entry = new Entry(version.orElse(null));
+            cache.put(userFrn, entry);
+        }
+
+        return entry.version != null && entry.version == tokenVersion;
+    }
+
+    public void update(String userFrn, int tokenVersion) {
+        cache.put(userFrn, new Entry(tokenVersion));
+    }
+
+    public void revoke(String userFrn) {
+        cache.put(userFrn, new Entry(null));
+    }
+
+    /**
+     * Version of an active user, or null for users that are disabled, deleted or revoked.
+     */
+    private record Entry(Integer version) {
+    }
+}
@@ -1,6 +1,10 @@
 package com.flashdash.core.config.filter;
 
-import com.flashdash.core.config.JwtManager;
+import com.flashdash.core.config.JwtClaims;
+import com.flashdash.core.config.JwtClaimsCache;
+import com.flashdash.core.config.JwtUserPrincipal;
+import com.flashdash.core.config.ServiceTokenCache;
+import com.flashdash.core.config.TokenVersionCache;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.security.SignatureException;
 import jakarta.servlet.FilterChain;
@@ -11,11 +15,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
-import org.springframework.context.annotation.Lazy;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
@@ -24,12 +25,16 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
-    private final JwtManager jwtManager;
-    private final UserDetailsService userDetailsService;
+    private final JwtClaimsCache jwtClaimsCache;
+    private final TokenVersionCache tokenVersionCache;
+    private final ServiceTokenCache serviceTokenCache;
 
-    public JwtAuthenticationFilter(JwtManager jwtManager, @Lazy UserDetailsService userDetailsService) {
-        this.jwtManager = jwtManager;
-        this.userDetailsService = userDetailsService;
+    public JwtAuthenticationFilter(JwtClaimsCache jwtClaimsCache,
+                                   TokenVersionCache tokenVersionCache,
+                                   ServiceTokenCache serviceTokenCache) {
+        this.jwtClaimsCache = jwtClaimsCache;
+        this.tokenVersionCache = tokenVersionCache;
+        this.serviceTokenCache = serviceTokenCache;
     }
 
     @Override
@@ -45,16 +50,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String token = authorizationHeader.substring(7);
         try {
-            final String userFrn = jwtManager.extractUserFrn(token);
+            final JwtClaims claims = jwtClaimsCache.getClaims(token);
+            final String userFrn = claims.getUserFrn();
 
             if (userFrn != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(userFrn);
-
-                if (jwtManager.validateToken(token, userFrn)) {
+                if (tokenVersionCache.isCurrent(userFrn, claims.getTokenVersion())) {
+                    JwtUserPrincipal principal = new JwtUserPrincipal(claims);
                     UsernamePasswordAuthenticationToken authenticationToken =
-                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
                     authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+                    serviceTokenCache.remember(userFrn, claims.getEmail());
+                } else {
+                    logger.warn("JWT token has been revoked for user: {}", userFrn);
                 }
             }
         } catch (ExpiredJwtException e) {
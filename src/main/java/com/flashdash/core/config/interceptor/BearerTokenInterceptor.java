@@ -0,0 +1,55 @@
+package com.flashdash.core.config.interceptor;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Adds the bearer token of the current caller to outbound requests made through the shared HTTP client.
+ * The token is bound to the calling thread with {@link #withToken(String)} for the duration of a single call.
+ */
+@Component
+public class BearerTokenInterceptor implements Interceptor {
+
+    private static final ThreadLocal<String> CURRENT_TOKEN = new ThreadLocal<>();
+
+    public static TokenScope withToken(String token) {
+        String previous = CURRENT_TOKEN.get();
+        CURRENT_TOKEN.set(token);
+        return new TokenScope(previous);
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        String token = CURRENT_TOKEN.get();
+        if (token == null) {
+            return chain.proceed(chain.request());
+        }
+
+        Request request = chain.request().newBuilder()
+                .header("Authorization", "Bearer " + token)
+                .build();
+        return chain.proceed(request);
+    }
+
+    public static final class TokenScope implements AutoCloseable {
+
+        private final String previous;
+
+        private TokenScope(String previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                CURRENT_TOKEN.remove();
+            } else {
+                CURRENT_TOKEN.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.flashdash.core.config.migration;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves friendships out of the legacy users.friends_frn JSON column into the friendships table, then drops
+ * the column. Users are read in batches of their FRN; the JSON lists were kept symmetric by hand, so both
+ * directions of every friendship are inserted unless they exist already, and friends that are no longer
+ * users are skipped. Runs before {@link V3__Store_frns_as_binary}, while FRNs are still textual.
+ */
+@Component
+public class V1_5__Move_friends_to_friendships extends BaseJavaMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(V1_5__Move_friends_to_friendships.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String SELECT_USERS =
+            "SELECT user_frn, friends_frn FROM users WHERE user_frn > ? ORDER BY user_frn LIMIT " + BATCH_SIZE;
+    private static final String INSERT_FRIENDSHIP =
+            "INSERT INTO friendships (user_frn, friend_frn, created_at) SELECT ?, ?, ? FROM users WHERE user_frn = ? "
+                    + "AND NOT EXISTS (SELECT 1 FROM friendships WHERE user_frn = ? AND friend_frn = ?)";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        migrate(context.getConnection());
+    }
+
+    void migrate(Connection connection) throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String lastUserFrn = "";
+        long users = 0;
+        long inserted = 0;
+
+        while (true) {
+            int read = 0;
+            try (PreparedStatement select = connection.prepareStatement(SELECT_USERS);
+                 PreparedStatement insert = connection.prepareStatement(INSERT_FRIENDSHIP)) {
+                select.setString(1, lastUserFrn);
+                try (ResultSet rs = select.executeQuery()) {
+                    while (rs.next()) {
+                        String userFrn = rs.getString(1);
+                        for (String friendFrn : parseFriends(userFrn, rs.getString(2))) {
+                            if (!friendFrn.equals(userFrn)) {
+                                addInsert(insert, userFrn, friendFrn, friendFrn, now);
+                                addInsert(insert, friendFrn, userFrn, friendFrn, now);
+                            }
+                        }
+                        lastUserFrn = userFrn;
+                        read++;
+                    }
+                }
+                for (int count : insert.executeBatch()) {
+                    inserted += Math.max(count, 0);
+                }
+            }
+            users += read;
+            if (read < BATCH_SIZE) {
+                break;
+            }
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE users DROP COLUMN friends_frn");
+        }
+        logger.info("Moved {} friendships of {} users from users.friends_frn", inserted, users);
+    }
+
+    /**
+     * Queues the insert of a friendship that is only stored if {@code requiredUserFrn} is still a user.
+     */
+    private static void addInsert(PreparedStatement insert, String userFrn, String friendFrn, String requiredUserFrn,
+                                  Timestamp now) throws SQLException {
+        insert.setString(1, userFrn);
+        insert.setString(2, friendFrn);
+        insert.setTimestamp(3, now);
+        insert.setString(4, requiredUserFrn);
+        insert.setString(5, userFrn);
+        insert.setString(6, friendFrn);
+        insert.addBatch();
+    }
+
+    private List<String> parseFriends(String userFrn, String json) {
+        if (json == null || json.isBlank()) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readValue(json, new TypeReference<List<String>>() {});
+        } catch (IOException e) {
+            logger.warn("Skipping unreadable friends list of user {}", userFrn, e);
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.flashdash.core.config.migration;
+
+import com.flashdash.core.utils.FrnCodec;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Converts every FRN column from its textual form to the binary form written by
+ * {@link com.flashdash.core.converter.FrnType}. The columns are first retyped in place, which keeps the
+ * stored UTF-8 bytes along with all keys and indexes, then rewritten in batches of rows. Rows that
+ * are already binary start with a byte below 0x20 and are skipped, so a failed run can be repeated.
+ */
+@Component
+public class V3__Store_frns_as_binary extends BaseJavaMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(V3__Store_frns_as_binary.class);
+
+    static final List<FrnTable> TABLES = List.of(
+            new FrnTable("users", List.of("user_frn"), List.of()),
+            new FrnTable("decks", List.of("deck_frn"), List.of("user_frn")),
+            new FrnTable("questions", List.of("question_frn"), List.of("deck_frn")),
+            new FrnTable("game_sessions", List.of("game_session_frn"), List.of("user_frn", "deck_frn")),
+            new FrnTable("friend_invitations", List.of("invitation_frn"), List.of("sent_by_frn", "sent_to_frn")),
+            new FrnTable("friendships", List.of("user_frn", "friend_frn"), List.of()),
+            new FrnTable("refresh_tokens", List.of("token_hash"), List.of("user_frn"))
+    );
+
+    private static final int BATCH_SIZE = 1000;
+    private static final byte[] FIRST_TEXTUAL_BYTE = {0x20};
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        migrate(context.getConnection());
+    }
+
+    void migrate(Connection connection) throws SQLException {
+        for (FrnTable table : TABLES) {
+            try (Statement statement = connection.createStatement()) {
+                for (String column : table.frnColumns()) {
+                    statement.execute("ALTER TABLE " + table.name() + " MODIFY " + column + " VARBINARY(" + FrnCodec.MAX_LENGTH + ") NOT NULL");
+                }
+            }
+            logger.info("Converted {} FRN rows in {}", convertRows(connection, table), table.name());
+        }
+    }
+
+    private long convertRows(Connection connection, FrnTable table) throws SQLException {
+        List<String> columns = Stream.concat(table.keyColumns().stream(), table.otherFrnColumns().stream()).toList();
+        // Converted rows drop out of this range, so every batch picks up where the previous one ended
+        String select = "SELECT " + String.join(", ", columns) + " FROM " + table.name()
+                + " WHERE " + table.frnColumns().get(0) + " >= ? LIMIT " + BATCH_SIZE;
+        String update = "UPDATE " + table.name() + " SET "
+                + table.frnColumns().stream().map(column -> column + " = ?").collect(Collectors.joining(", "))
+                + " WHERE " + table.keyColumns().stream().map(column -> column + " = ?").collect(Collectors.joining(" AND "));
+
+        long converted = 0;
+        while (true) {
+            List<byte[][]> rows = new ArrayList<>();
+            try (PreparedStatement ps = connection.prepareStatement(select)) {
+                ps.setBytes(1, FIRST_TEXTUAL_BYTE);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        byte[][] row = new byte[columns.size()][];
+                        for (int i = 0; i < columns.size(); i++) {
+                            row[i] = rs.getBytes(i + 1);
+                        }
+                        rows.add(row);
+                    }
+                }
+            }
+            if (rows.isEmpty()) {
+                return converted;
+            }
+
+            try (PreparedStatement ps = connection.prepareStatement(update)) {
+                for (byte[][] row : rows) {
+                    int index = 1;
+                    for (String column : table.frnColumns()) {
+                        ps.setBytes(index++, toBinary(row[columns.indexOf(column)]));
+                    }
+                    for (int i = 0; i < table.keyColumns().size(); i++) {
+                        ps.setBytes(index++, row[i]);
+                    }
+                    ps.addBatch();
+                }
+                if (Arrays.stream(ps.executeBatch()).noneMatch(count -> count != 0)) {
+                    throw new IllegalStateException("No rows of " + table.name() + " could be converted");
+                }
+            }
+            converted += rows.size();
+        }
+    }
+
+    static byte[] toBinary(byte[] stored) {
+        if (stored == null || stored.length == 0 || (stored[0] & 0xFF) < FIRST_TEXTUAL_BYTE[0]) {
+            return stored;
+        }
+        return FrnCodec.encode(new String(stored, StandardCharsets.UTF_8));
+    }
+
+    record FrnTable(String name, List<String> keyColumns, List<String> otherFrnColumns) {
+
+        List<String> frnColumns() {
+            return Stream.concat(keyColumns.stream().filter(column -> column.endsWith("_frn")), otherFrnColumns.stream()).toList();
+        }
+    }
+}
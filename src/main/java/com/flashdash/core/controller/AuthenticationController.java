@@ -1,26 +1,66 @@
 package com.flashdash.core.controller;
 
+import com.flashdash.core.exception.ErrorCode;
+import com.flashdash.core.exception.FlashDashException;
 import com.flashdash.core.service.AuthenticationService;
+import com.flashdash.core.service.AuthenticationService.LoginTokens;
+import com.flashdash.core.service.RefreshTokenService;
+import com.flashdash.core.service.RefreshTokenService.RotatedTokens;
 import com.p4r1nc3.flashdash.core.model.AuthenticationResponse;
 import com.p4r1nc3.flashdash.core.model.LoginRequest;
 import com.p4r1nc3.flashdash.core.model.RegisterRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+
 @RestController
 @RequestMapping("/auth")
 public class AuthenticationController {
+    static final String REFRESH_TOKEN_COOKIE = "refresh_token";
+
     private final AuthenticationService authenticationService;
+    private final RefreshTokenService refreshTokenService;
 
-    public AuthenticationController(AuthenticationService authenticationService) {
+    public AuthenticationController(AuthenticationService authenticationService,
+                                    RefreshTokenService refreshTokenService) {
         this.authenticationService = authenticationService;
+        this.refreshTokenService = refreshTokenService;
     }
 
     @PostMapping("/login")
     public ResponseEntity<AuthenticationResponse> login(@RequestBody LoginRequest request) {
-        AuthenticationResponse response = authenticationService.login(request);
-        return ResponseEntity.ok(response);
+        LoginTokens tokens = authenticationService.login(request);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, refreshTokenCookie(tokens.refreshToken(), refreshTokenService.getRefreshTokenValidity()))
+                .body(tokens.response());
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthenticationResponse> refresh(@CookieValue(name = REFRESH_TOKEN_COOKIE, required = false) String refreshToken) {
+        if (refreshToken == null) {
+            throw new FlashDashException(ErrorCode.E401001, "Refresh token is missing.");
+        }
+
+        RotatedTokens tokens = refreshTokenService.refresh(refreshToken);
+        AuthenticationResponse response = new AuthenticationResponse();
+        response.setToken(tokens.accessToken());
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, refreshTokenCookie(tokens.refreshToken(), refreshTokenService.getRefreshTokenValidity()))
+                .body(response);
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@CookieValue(name = REFRESH_TOKEN_COOKIE, required = false) String refreshToken) {
+        if (refreshToken != null) {
+            refreshTokenService.revoke(refreshToken);
+        }
+        return ResponseEntity.noContent()
+                .header(HttpHeaders.SET_COOKIE, refreshTokenCookie("", Duration.ZERO))
+                .build();
     }
 
     @PostMapping("/register")
@@ -34,4 +74,15 @@ public class AuthenticationController {
         authenticationService.activateAccount(token);
         return new ResponseEntity<>(HttpStatus.OK);
     }
+
+    private String refreshTokenCookie(String value, Duration maxAge) {
+        return ResponseCookie.from(REFRESH_TOKEN_COOKIE, value)
+                .httpOnly(true)
+                .secure(true)
+                .sameSite("Strict")
+                .path("/auth")
+                .maxAge(maxAge)
+                .build()
+                .toString();
+    }
 }
@@ -1,9 +1,11 @@
 package com.flashdash.core.controller;
 
 import com.flashdash.core.model.Deck;
-import com.flashdash.core.model.User;
+import com.flashdash.core.model.UserPrincipal;
 import com.flashdash.core.service.DeckService;
+import com.flashdash.core.utils.CursorPage;
 import com.flashdash.core.utils.EntityToResponseMapper;
+import com.flashdash.core.utils.Pagination;
 import com.p4r1nc3.flashdash.core.model.DeckRequest;
 import com.p4r1nc3.flashdash.core.model.DeckResponse;
 import org.springframework.http.ResponseEntity;
@@ -32,10 +34,11 @@ public class DeckController {
     }
 
     @GetMapping
-    public ResponseEntity<List<DeckResponse>> getAllDecks() {
+    public ResponseEntity<List<DeckResponse>> getAllDecks(@RequestParam(required = false) String pageToken,
+                                                          @RequestParam(required = false) Integer pageSize) {
         String userFrn = getAuthenticatedUser();
-        List<Deck> deckList = deckService.getAllDecks(userFrn);
-        return ResponseEntity.ok(entityToResponseMapper.mapToDeckResponse(deckList));
+        CursorPage<Deck> decks = deckService.getAllDecks(userFrn, pageToken, pageSize);
+        return Pagination.toResponse(decks.map(entityToResponseMapper::mapToDeckResponse));
     }
 
     @GetMapping("/{deckFrn}")
@@ -61,7 +64,7 @@ public class DeckController {
 
     private String getAuthenticatedUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        User user = (User) authentication.getPrincipal();
-        return user.getUserFrn();
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        return principal.getUserFrn();
     }
 }
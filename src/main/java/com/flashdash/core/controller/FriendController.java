@@ -1,8 +1,11 @@
 package com.flashdash.core.controller;
 
 import com.flashdash.core.model.User;
+import com.flashdash.core.model.UserPrincipal;
 import com.flashdash.core.service.FriendService;
+import com.flashdash.core.utils.CursorPage;
 import com.flashdash.core.utils.EntityToResponseMapper;
+import com.flashdash.core.utils.Pagination;
 import com.p4r1nc3.flashdash.core.model.UserResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -23,10 +26,11 @@ public class FriendController {
     }
 
     @GetMapping
-    public ResponseEntity<List<UserResponse>> getFriends() {
+    public ResponseEntity<List<UserResponse>> getFriends(@RequestParam(required = false) String pageToken,
+                                                         @RequestParam(required = false) Integer pageSize) {
         String userFrn = getAuthenticatedUser();
-        List<User> users = friendService.getFriends(userFrn);
-        return ResponseEntity.ok(entityToResponseMapper.mapToUserResponse(users));
+        CursorPage<User> friends = friendService.getFriends(userFrn, pageToken, pageSize);
+        return Pagination.toResponse(friends.map(entityToResponseMapper::mapToUserResponse));
     }
 
     @GetMapping("/{friendFrn}")
@@ -45,7 +49,7 @@ public class FriendController {
 
     private String getAuthenticatedUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        User user = (User) authentication.getPrincipal();
-        return user.getUserFrn();
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        return principal.getUserFrn();
     }
 }
@@ -1,10 +1,13 @@
 package com.flashdash.core.controller;
 
 import com.flashdash.core.model.GameSession;
+import com.flashdash.core.model.GameSessionSummary;
 import com.flashdash.core.model.Question;
-import com.flashdash.core.model.User;
+import com.flashdash.core.model.UserPrincipal;
 import com.flashdash.core.service.GameSessionService;
+import com.flashdash.core.utils.CursorPage;
 import com.flashdash.core.utils.EntityToResponseMapper;
+import com.flashdash.core.utils.Pagination;
 import com.p4r1nc3.flashdash.core.model.GameSessionResponse;
 import com.p4r1nc3.flashdash.core.model.QuestionRequest;
 import com.p4r1nc3.flashdash.core.model.QuestionResponse;
@@ -42,10 +45,12 @@ public class GameSessionController {
     }
 
     @GetMapping
-    public ResponseEntity<List<GameSessionResponse>> getGameSessions(@PathVariable String deckFrn) {
+    public ResponseEntity<List<GameSessionResponse>> getGameSessions(@PathVariable String deckFrn,
+                                                                     @RequestParam(required = false) String pageToken,
+                                                                     @RequestParam(required = false) Integer pageSize) {
         String userFrn = getAuthenticatedUser();
-        List<GameSession> gameSessionList = gameSessionService.getGameSessions(deckFrn, userFrn);
-        return ResponseEntity.ok(entityToResponseMapper.mapToGameSessionResponse(gameSessionList));
+        CursorPage<GameSessionSummary> gameSessions = gameSessionService.getGameSessions(deckFrn, userFrn, pageToken, pageSize);
+        return Pagination.toResponse(gameSessions.map(entityToResponseMapper::mapToGameSessionResponse));
     }
 
     @GetMapping("/{gameSessionFrn}")
@@ -57,7 +62,7 @@ public class GameSessionController {
 
     private String getAuthenticatedUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        User user = (User) authentication.getPrincipal();
-        return user.getUserFrn();
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        return principal.getUserFrn();
     }
 }
@@ -1,9 +1,11 @@
 package com.flashdash.core.controller;
 
 import com.flashdash.core.model.FriendInvitation;
-import com.flashdash.core.model.User;
+import com.flashdash.core.model.UserPrincipal;
 import com.flashdash.core.service.InvitationService;
+import com.flashdash.core.utils.CursorPage;
 import com.flashdash.core.utils.EntityToResponseMapper;
+import com.flashdash.core.utils.Pagination;
 import com.p4r1nc3.flashdash.core.model.FriendInvitationResponseReceived;
 import com.p4r1nc3.flashdash.core.model.FriendInvitationResponseSent;
 import org.springframework.http.ResponseEntity;
@@ -32,17 +34,19 @@ public class InvitationController {
     }
 
     @GetMapping("/received")
-    public ResponseEntity<List<FriendInvitationResponseReceived>> getReceivedInvitations() {
+    public ResponseEntity<List<FriendInvitationResponseReceived>> getReceivedInvitations(@RequestParam(required = false) String pageToken,
+                                                                                         @RequestParam(required = false) Integer pageSize) {
         String userFrn = getAuthenticatedUser();
-        List<FriendInvitation> invitations = invitationService.getReceivedFriendInvitations(userFrn);
-        return ResponseEntity.ok(entityToResponseMapper.mapToReceivedResponse(invitations));
+        CursorPage<FriendInvitation> invitations = invitationService.getReceivedFriendInvitations(userFrn, pageToken, pageSize);
+        return Pagination.toResponse(invitations.map(entityToResponseMapper::mapToReceivedResponse));
     }
 
     @GetMapping("/sent")
-    public ResponseEntity<List<FriendInvitationResponseSent>> getSentInvitations() {
+    public ResponseEntity<List<FriendInvitationResponseSent>> getSentInvitations(@RequestParam(required = false) String pageToken,
+                                                                                 @RequestParam(required = false) Integer pageSize) {
         String userFrn = getAuthenticatedUser();
-        List<FriendInvitation> invitations = invitationService.getSentFriendInvitations(userFrn);
-        return ResponseEntity.ok(entityToResponseMapper.mapToSentResponse(invitations));
+        CursorPage<FriendInvitation> invitations = invitationService.getSentFriendInvitations(userFrn, pageToken, pageSize);
+        return Pagination.toResponse(invitations.map(entityToResponseMapper::mapToSentResponse));
     }
 
     @PutMapping("/{invitationFrn}")
@@ -54,7 +58,7 @@ public class InvitationController {
 
     private String getAuthenticatedUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        User user = (User) authentication.getPrincipal();
-        return user.getUserFrn();
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        return principal.getUserFrn();
     }
 }
@@ -1,12 +1,18 @@
 package com.flashdash.core.controller;
 
-import com.flashdash.core.model.User;
+import com.flashdash.core.model.UserPrincipal;
+import com.flashdash.core.service.LeaderboardCache;
+import com.flashdash.core.service.LeaderboardCache.CachedLeaderboard;
 import com.flashdash.core.service.LeaderboardService;
+import com.flashdash.core.utils.Pagination;
 import com.p4r1nc3.flashdash.core.model.LeaderboardEntry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -18,23 +24,49 @@ import java.util.List;
 public class LeaderboardController {
 
     private final LeaderboardService leaderboardService;
+    private final LeaderboardCache leaderboardCache;
+    private final Pagination pagination;
 
-    public LeaderboardController(LeaderboardService leaderboardService) {
+    public LeaderboardController(LeaderboardService leaderboardService, LeaderboardCache leaderboardCache, Pagination pagination) {
         this.leaderboardService = leaderboardService;
+        this.leaderboardCache = leaderboardCache;
+        this.pagination = pagination;
     }
 
     @GetMapping
     public ResponseEntity<List<LeaderboardEntry>> getLeaderboards(
             @RequestParam(defaultValue = "points") String criteria,
+            @RequestParam(defaultValue = "all") String window,
             @RequestParam(defaultValue = "false") boolean friendsOnly,
-            @RequestParam(defaultValue = "10") int limit) {
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         String userFrn = getAuthenticatedUser();
-        return ResponseEntity.ok(leaderboardService.getLeaderboard(userFrn, criteria, friendsOnly, limit));
+        int rows = pagination.maxRows(limit);
+        if (friendsOnly) {
+            return ResponseEntity.ok(leaderboardService.getLeaderboard(userFrn, criteria, window, true, rows));
+        }
+
+        // The global leaderboard is the same for every user, so it is shared through the cache; the capped
+        // limit also bounds the number of distinct cache keys
+        CachedLeaderboard leaderboard = leaderboardCache.get(criteria, window, rows,
+                () -> leaderboardService.getLeaderboard(userFrn, criteria, window, false, rows));
+        if (leaderboard.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(leaderboard.eTag()).build();
+        }
+        return ResponseEntity.ok().eTag(leaderboard.eTag()).body(leaderboard.entries());
+    }
+
+    @GetMapping("/me")
+    public ResponseEntity<List<LeaderboardEntry>> getLeaderboardAroundMe(
+            @RequestParam(defaultValue = "points") String criteria,
+            @RequestParam(defaultValue = "5") int neighbours) {
+        String userFrn = getAuthenticatedUser();
+        return ResponseEntity.ok(leaderboardService.getLeaderboardAroundUser(userFrn, criteria, neighbours));
     }
 
     private String getAuthenticatedUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        User user = (User) authentication.getPrincipal();
-        return user.getUserFrn();
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        return principal.getUserFrn();
     }
 }
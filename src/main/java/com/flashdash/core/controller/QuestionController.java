@@ -1,9 +1,11 @@
 package com.flashdash.core.controller;
 
-import com.flashdash.core.model.User;
+import com.flashdash.core.model.UserPrincipal;
 import com.flashdash.core.model.Question;
 import com.flashdash.core.service.QuestionService;
+import com.flashdash.core.utils.CursorPage;
 import com.flashdash.core.utils.EntityToResponseMapper;
+import com.flashdash.core.utils.Pagination;
 import com.p4r1nc3.flashdash.core.model.GenerateQuestionsRequest;
 import com.p4r1nc3.flashdash.core.model.QuestionRequest;
 import com.p4r1nc3.flashdash.core.model.QuestionResponse;
@@ -42,10 +44,12 @@ public class QuestionController {
     }
 
     @GetMapping
-    public ResponseEntity<List<QuestionResponse>> getAllQuestionsInDeck(@PathVariable String deckFrn) {
+    public ResponseEntity<List<QuestionResponse>> getAllQuestionsInDeck(@PathVariable String deckFrn,
+                                                                        @RequestParam(required = false) String pageToken,
+                                                                        @RequestParam(required = false) Integer pageSize) {
         String userFrn = getAuthenticatedUser();
-        List<Question> questions = questionService.getAllQuestionsInDeck(deckFrn, userFrn);
-        return ResponseEntity.ok(entityToResponseMapper.mapToQuestionResponse(questions));
+        CursorPage<Question> questions = questionService.getQuestionsInDeck(deckFrn, userFrn, pageToken, pageSize);
+        return Pagination.toResponse(questions.map(entityToResponseMapper::mapToQuestionResponse));
     }
 
     @GetMapping("/{questionFrn}")
@@ -75,7 +79,7 @@ public class QuestionController {
 
     private String getAuthenticatedUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        User user = (User) authentication.getPrincipal();
-        return user.getUserFrn();
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        return principal.getUserFrn();
     }
 }
@@ -1,6 +1,7 @@
 package com.flashdash.core.controller;
 
 import com.flashdash.core.model.User;
+import com.flashdash.core.model.UserPrincipal;
 import com.flashdash.core.service.UserService;
 import com.flashdash.core.service.api.NotificationService;
 import com.flashdash.core.utils.EntityToResponseMapper;
@@ -40,7 +41,7 @@ public class UserController {
     public ResponseEntity<Void> deleteUser() {
         String userFrn = getAuthenticatedUser();
         userService.deleteUser(userFrn);
-        return ResponseEntity.noContent().build();
+        return ResponseEntity.accepted().build();
     }
 
     @PutMapping()
@@ -73,7 +74,7 @@ public class UserController {
 
     private String getAuthenticatedUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        User user = (User) authentication.getPrincipal();
-        return user.getUserFrn();
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        return principal.getUserFrn();
     }
 }
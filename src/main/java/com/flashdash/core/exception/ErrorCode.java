@@ -8,6 +8,9 @@ public enum ErrorCode {
     E400004,
     E400005,
     E400006,
+    E400007,
+    E400008,
+    E400009,
     // 401 Unauthorized
     E401001,
     E401002,
@@ -27,6 +30,9 @@ public enum ErrorCode {
     E409002,
     E409003,
     E409004,
+    E409005,
     // 500 Internal Server Error
-    E500001
+    E500001,
+    // 503 Service Unavailable
+    E503001
 }
@@ -1,5 +1,6 @@
 package com.flashdash.core.exception;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -18,4 +19,10 @@ public class GlobalExceptionHandler {
         ErrorResponse errorResponse = errorDetailsProvider.createErrorResponse(ex.getErrorCode());
         return ResponseEntity.status(errorResponse.getStatus()).body(errorResponse);
     }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        ErrorResponse errorResponse = errorDetailsProvider.createErrorResponse(ErrorCode.E409005);
+        return ResponseEntity.status(errorResponse.getStatus()).body(errorResponse);
+    }
 }
@@ -0,0 +1,134 @@
+package com.flashdash.core.model;
+
+import com.flashdash.core.converter.FrnType;
+import com.flashdash.core.utils.FrnCodec;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Type;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of the background deletion of one account. The counters are updated in the same transaction
+ * as every deleted chunk, so an interrupted job can be resumed where it stopped. A failed job counts its
+ * attempts and is retried at {@code nextAttemptAt}, or never again once it is null.
+ */
+@Entity
+@Table(name = "account_deletion_jobs", indexes = {
+        @Index(name = "idx_account_deletion_jobs_status_next_attempt", columnList = "status, next_attempt_at")
+})
+public class AccountDeletionJob {
+
+    @Id
+    @Type(FrnType.class)
+    @Column(name = "user_frn", nullable = false, length = FrnCodec.MAX_LENGTH)
+    private String userFrn;
+
+    @Column(name = "status", nullable = false, length = 64)
+    private String status;
+
+    @Column(name = "deleted_game_sessions", nullable = false)
+    private long deletedGameSessions;
+
+    @Column(name = "deleted_questions", nullable = false)
+    private long deletedQuestions;
+
+    @Column(name = "deleted_decks", nullable = false)
+    private long deletedDecks;
+
+    @Column(name = "deleted_friendships", nullable = false)
+    private long deletedFriendships;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public AccountDeletionJob() {}
+
+    public String getUserFrn() {
+        return userFrn;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public long getDeletedGameSessions() {
+        return deletedGameSessions;
+    }
+
+    public long getDeletedQuestions() {
+        return deletedQuestions;
+    }
+
+    public long getDeletedDecks() {
+        return deletedDecks;
+    }
+
+    public long getDeletedFriendships() {
+        return deletedFriendships;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUserFrn(String userFrn) {
+        this.userFrn = userFrn;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public void setDeletedGameSessions(long deletedGameSessions) {
+        this.deletedGameSessions = deletedGameSessions;
+    }
+
+    public void setDeletedQuestions(long deletedQuestions) {
+        this.deletedQuestions = deletedQuestions;
+    }
+
+    public void setDeletedDecks(long deletedDecks) {
+        this.deletedDecks = deletedDecks;
+    }
+
+    public void setDeletedFriendships(long deletedFriendships) {
+        this.deletedFriendships = deletedFriendships;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
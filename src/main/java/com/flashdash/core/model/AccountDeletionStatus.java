@@ -0,0 +1,8 @@
+package com.flashdash.core.model;
+
+public enum AccountDeletionStatus {
+    PENDING,
+    RUNNING,
+    FAILED,
+    COMPLETED
+}
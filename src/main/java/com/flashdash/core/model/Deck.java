@@ -1,18 +1,25 @@
 package com.flashdash.core.model;
 
+import com.flashdash.core.converter.FrnType;
+import com.flashdash.core.utils.FrnCodec;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Type;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "decks")
+@Table(name = "decks", indexes = {
+        @Index(name = "idx_decks_user_created", columnList = "user_frn, created_at, deck_frn")
+})
 public class Deck {
 
     @Id
-    @Column(name = "deck_frn", nullable = false, length = 256)
+    @Type(FrnType.class)
+    @Column(name = "deck_frn", nullable = false, length = FrnCodec.MAX_LENGTH)
     private String deckFrn;
 
-    @Column(name = "user_frn", nullable = false, length = 256)
+    @Type(FrnType.class)
+    @Column(name = "user_frn", nullable = false, length = FrnCodec.MAX_LENGTH)
     private String userFrn;
 
     @Column(name = "name", nullable = false, length = 256)
@@ -1,21 +1,31 @@
 package com.flashdash.core.model;
 
+import com.flashdash.core.converter.FrnType;
+import com.flashdash.core.utils.FrnCodec;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Type;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "friend_invitations")
+@Table(name = "friend_invitations", indexes = {
+        @Index(name = "idx_friend_invitations_sent_to_status_created", columnList = "sent_to_frn, status, created_at, invitation_frn"),
+        @Index(name = "idx_friend_invitations_sent_by_status", columnList = "sent_by_frn, status, sent_to_frn"),
+        @Index(name = "idx_friend_invitations_sent_by_created", columnList = "sent_by_frn, status, created_at, invitation_frn")
+})
 public class FriendInvitation {
 
     @Id
-    @Column(name = "invitation_frn", nullable = false, length = 256)
+    @Type(FrnType.class)
+    @Column(name = "invitation_frn", nullable = false, length = FrnCodec.MAX_LENGTH)
     private String invitationFrn;
 
-    @Column(name = "sent_by_frn", nullable = false, length = 256)
+    @Type(FrnType.class)
+    @Column(name = "sent_by_frn", nullable = false, length = FrnCodec.MAX_LENGTH)
     private String sentByFrn;
 
-    @Column(name = "sent_to_frn", nullable = false, length = 256)
+    @Type(FrnType.class)
+    @Column(name = "sent_to_frn", nullable = false, length = FrnCodec.MAX_LENGTH)
     private String sentToFrn;
 
     @Column(name = "status", nullable = false, length = 64)
@@ -0,0 +1,68 @@
+package com.flashdash.core.model;
+
+import com.flashdash.core.converter.FrnType;
+import com.flashdash.core.utils.FrnCodec;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Type;
+
+import java.time.LocalDateTime;
+
+/**
+ * One direction of a friendship. Every friendship is stored as two rows, one per user, so that both
+ * "friends of" lookups are served by the (user_frn, friend_frn) primary key; the (friend_frn, user_frn)
+ * index covers the reverse direction when all friendships of a user are removed. The friend list is paged
+ * newest first through the (user_frn, created_at, friend_frn) index.
+ */
+@Entity
+@IdClass(FriendshipId.class)
+@Table(name = "friendships", indexes = {
+        @Index(name = "idx_friendships_friend_frn", columnList = "friend_frn, user_frn"),
+        @Index(name = "idx_friendships_user_created", columnList = "user_frn, created_at, friend_frn")
+})
+public class Friendship {
+
+    @Id
+    @Type(FrnType.class)
+    @Column(name = "user_frn", nullable = false, length = FrnCodec.MAX_LENGTH)
+    private String userFrn;
+
+    @Id
+    @Type(FrnType.class)
+    @Column(name = "friend_frn", nullable = false, length = FrnCodec.MAX_LENGTH)
+    private String friendFrn;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public Friendship() {}
+
+    public Friendship(String userFrn, String friendFrn, LocalDateTime createdAt) {
+        this.userFrn = userFrn;
+        this.friendFrn = friendFrn;
+        this.createdAt = createdAt;
+    }
+
+    public String getUserFrn() {
+        return userFrn;
+    }
+
+    public String getFriendFrn() {
+        return friendFrn;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setUserFrn(String userFrn) {
+        this.userFrn = userFrn;
+    }
+
+    public void setFriendFrn(String friendFrn) {
+        this.friendFrn = friendFrn;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
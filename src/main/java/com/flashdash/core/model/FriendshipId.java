@@ -0,0 +1,41 @@
+package com.flashdash.core.model;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+public class FriendshipId implements Serializable {
+
+    private String userFrn;
+    private String friendFrn;
+
+    public FriendshipId() {}
+
+    public FriendshipId(String userFrn, String friendFrn) {
+        this.userFrn = userFrn;
+        this.friendFrn = friendFrn;
+    }
+
+    public String getUserFrn() {
+        return userFrn;
+    }
+
+    public String getFriendFrn() {
+        return friendFrn;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FriendshipId that)) {
+            return false;
+        }
+        return Objects.equals(userFrn, that.userFrn) && Objects.equals(friendFrn, that.friendFrn);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userFrn, friendFrn);
+    }
+}
@@ -1,21 +1,30 @@
 package com.flashdash.core.model;
 
+import com.flashdash.core.converter.FrnType;
+import com.flashdash.core.utils.FrnCodec;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Type;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "game_sessions")
+@Table(name = "game_sessions", indexes = {
+        @Index(name = "idx_game_sessions_user_deck_status_created", columnList = "user_frn, deck_frn, status, created_at, game_session_frn"),
+        @Index(name = "idx_game_sessions_user_created", columnList = "user_frn, created_at, game_session_frn")
+})
 public class GameSession {
 
     @Id
-    @Column(name = "game_session_frn", nullable = false, length = 256)
+    @Type(FrnType.class)
+    @Column(name = "game_session_frn", nullable = false, length = FrnCodec.MAX_LENGTH)
     private String gameSessionFrn;
 
-    @Column(name = "user_frn", nullable = false, length = 256)
+    @Type(FrnType.class)
+    @Column(name = "user_frn", nullable = false, length = FrnCodec.MAX_LENGTH)
     private String userFrn;
 
-    @Column(name = "deck_frn", nullable = false, length = 256)
+    @Type(FrnType.class)
+    @Column(name = "deck_frn", nullable = false, length = FrnCodec.MAX_LENGTH)
     private String deckFrn;
 
     @Column(name = "status", nullable = false, length = 64)
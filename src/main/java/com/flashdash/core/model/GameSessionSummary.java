@@ -0,0 +1,26 @@
+package com.flashdash.core.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Scalar columns of a game session for history lists. Selected with a constructor expression, so the
+ * session_details LOB is neither read nor deserialized; the details are only loaded for a single session.
+ */
+public record GameSessionSummary(String gameSessionFrn,
+                                 int totalScore,
+                                 int correctAnswersCount,
+                                 int questionCount,
+                                 LocalDateTime createdAt,
+                                 LocalDateTime updatedAt) {
+
+    public static GameSessionSummary of(GameSession gameSession) {
+        return new GameSessionSummary(
+                gameSession.getGameSessionFrn(),
+                gameSession.getTotalScore(),
+                gameSession.getCorrectAnswersCount(),
+                gameSession.getQuestionCount(),
+                gameSession.getCreatedAt(),
+                gameSession.getUpdatedAt()
+        );
+    }
+}
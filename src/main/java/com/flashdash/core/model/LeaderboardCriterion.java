@@ -0,0 +1,54 @@
+package com.flashdash.core.model;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+
+public enum LeaderboardCriterion {
+    POINTS,
+    GAMES_PLAYED,
+    STREAK,
+    STUDY_TIME;
+
+    /**
+     * Highest value first, ties broken by the stored user FRN in descending byte order so every user has
+     * exactly one position, the same one as in the queries ordered by {@code score desc, user_frn desc}.
+     */
+    private final Comparator<UserRanking> comparator = Comparator
+            .comparingLong(this::sortKey).reversed()
+            .thenComparing(UserRanking::storedFrn, (left, right) -> Arrays.compareUnsigned(right, left));
+
+    public static LeaderboardCriterion from(String criteria) {
+        return switch (criteria.toLowerCase(Locale.ROOT)) {
+            case "studytime" -> STUDY_TIME;
+            case "gamesplayed" -> GAMES_PLAYED;
+            case "streak" -> STREAK;
+            default -> POINTS;
+        };
+    }
+
+    public Comparator<UserRanking> comparator() {
+        return comparator;
+    }
+
+    /**
+     * Score shown on the leaderboard entry; study time is shown in whole minutes.
+     */
+    public int score(UserRanking ranking) {
+        return switch (this) {
+            case STUDY_TIME -> ranking.studyTime() != null ? (int) ranking.studyTime().toMinutes() : 0;
+            case GAMES_PLAYED -> ranking.gamesPlayed();
+            case STREAK -> ranking.strike();
+            case POINTS -> ranking.points();
+        };
+    }
+
+    private long sortKey(UserRanking ranking) {
+        if (this == STUDY_TIME) {
+            Duration studyTime = ranking.studyTime();
+            return studyTime != null ? studyTime.toNanos() : 0;
+        }
+        return score(ranking);
+    }
+}
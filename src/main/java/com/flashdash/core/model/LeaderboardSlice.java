@@ -0,0 +1,9 @@
+package com.flashdash.core.model;
+
+import java.util.List;
+
+/**
+ * Consecutive positions of a leaderboard; {@code firstRank} is the one-based rank of the first ranking.
+ */
+public record LeaderboardSlice(int firstRank, List<UserRanking> rankings) {
+}
@@ -1,22 +1,30 @@
 package com.flashdash.core.model;
 
+import com.flashdash.core.converter.FrnType;
 import com.flashdash.core.converter.JsonListConverter;
+import com.flashdash.core.utils.FrnCodec;
 import com.p4r1nc3.flashdash.core.model.DifficultyEnum;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Type;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "questions")
-public class Question {
+@Table(name = "questions", indexes = {
+        @Index(name = "idx_questions_deck_created", columnList = "deck_frn, created_at, question_frn")
+})
+public class Question implements Persistable<String> {
 
     @Id
-    @Column(name = "question_frn", nullable = false, length = 256)
+    @Type(FrnType.class)
+    @Column(name = "question_frn", nullable = false, length = FrnCodec.MAX_LENGTH)
     private String questionFrn;
 
-    @Column(name = "deck_frn", nullable = false, length = 256)
+    @Type(FrnType.class)
+    @Column(name = "deck_frn", nullable = false, length = FrnCodec.MAX_LENGTH)
     private String deckFrn;
 
     @Column(name = "question", nullable = false, length = 512)
@@ -39,8 +47,29 @@ public class Question {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // FRNs are assigned before saving, so without this flag every save of a new question would be a merge
+    // that selects the row first instead of a plain insert that Hibernate can batch
+    @Transient
+    private boolean isNew = true;
+
     public Question() {}
 
+    @Override
+    public String getId() {
+        return questionFrn;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PrePersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     public String getQuestionFrn() {
         return questionFrn;
     }
@@ -1,27 +1,30 @@
 package com.flashdash.core.model;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flashdash.core.converter.FrnType;
+import com.flashdash.core.utils.FrnCodec;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Type;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.userdetails.UserDetails;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 
 @Entity
-@Table(name = "users")
-public class User implements UserDetails {
-
-    private static final ObjectMapper objectMapper = new ObjectMapper();
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_points", columnList = "points, user_frn"),
+        @Index(name = "idx_users_games_played", columnList = "games_played, user_frn"),
+        @Index(name = "idx_users_strike", columnList = "strike, user_frn"),
+        @Index(name = "idx_users_study_time", columnList = "study_time, user_frn")
+})
+public class User implements UserPrincipal {
 
     @Id
-    @Column(name = "user_frn", nullable = false, length = 256)
+    @Type(FrnType.class)
+    @Column(name = "user_frn", nullable = false, length = FrnCodec.MAX_LENGTH)
     private String userFrn;
 
-    @Column(name = "username", nullable = false, length = 256)
+    @Column(name = "username", unique = true, nullable = false, length = 256)
     private String username;
 
     @Column(name = "first_name", nullable = false, length = 256)
@@ -48,21 +51,27 @@ public class User implements UserDetails {
     @Column(name = "activation_token", unique = true, nullable = false, length = 256)
     private String activationToken;
 
-    @Column(name = "study_time", nullable = false, length = 256)
+    // Statistics are only changed through the atomic updates in UserRepository, never by saving the entity
+    @Column(name = "study_time", nullable = false, updatable = false, length = 256)
     private Duration studyTime;
 
-    @Column(name = "games_played", nullable = false, length = 256)
+    @Column(name = "games_played", nullable = false, updatable = false, length = 256)
     private int gamesPlayed;
 
-    @Column(name = "points", nullable = false, length = 256)
+    @Column(name = "points", nullable = false, updatable = false, length = 256)
     private int points;
 
-    @Column(name = "strike", nullable = false, length = 256)
+    @Column(name = "strike", nullable = false, updatable = false, length = 256)
     private int strike;
 
-    @Column(name = "friends_frn", columnDefinition = "JSON", nullable = false)
-    private String friendsFrn = "[]";
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
 
+    @Override
     public String getUserFrn() {
         return userFrn;
     }
@@ -111,8 +120,12 @@ public class User implements UserDetails {
         return strike;
     }
 
-    public String getFriendsFrn() {
-        return friendsFrn;
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public long getVersion() {
+        return version;
     }
 
     public void setUserFrn(String userFrn) {
@@ -171,27 +184,8 @@ public class User implements UserDetails {
         this.strike = strike;
     }
 
-    public void setFriendsFrn(String friendsFrn) {
-        this.friendsFrn = friendsFrn;
-    }
-
-    public List<String> getFriendsFrnList() {
-        try {
-            if (friendsFrn == null || friendsFrn.trim().isEmpty()) {
-                return new ArrayList<>();
-            }
-            return objectMapper.readValue(friendsFrn, new TypeReference<List<String>>() {});
-        } catch (JsonProcessingException e) {
-            return new ArrayList<>();
-        }
-    }
-
-    public void setFriendsFrnList(List<String> friends) {
-        try {
-            this.friendsFrn = objectMapper.writeValueAsString(friends);
-        } catch (JsonProcessingException e) {
-            this.friendsFrn = "[]";
-        }
+    public void setTokenVersion(int tokenVersion) {
+        this.tokenVersion = tokenVersion;
     }
 
     @Override
@@ -0,0 +1,8 @@
+package com.flashdash.core.model;
+
+import org.springframework.security.core.userdetails.UserDetails;
+
+public interface UserPrincipal extends UserDetails {
+
+    String getUserFrn();
+}
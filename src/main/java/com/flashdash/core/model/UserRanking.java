@@ -0,0 +1,43 @@
+package com.flashdash.core.model;
+
+import com.flashdash.core.utils.FrnCodec;
+
+import java.time.Duration;
+
+/**
+ * The columns of a user shown on a leaderboard: the identity for the user summary and every statistic
+ * the leaderboard can be ranked by. Never carries the password hash or other account data.
+ * {@code storedFrn} is the FRN in its stored binary form, encoded once so ties are broken without
+ * encoding the FRN on every comparison.
+ */
+public record UserRanking(String userFrn,
+                          String username,
+                          String firstName,
+                          String lastName,
+                          String email,
+                          int points,
+                          int gamesPlayed,
+                          int strike,
+                          Duration studyTime,
+                          byte[] storedFrn) {
+
+    public UserRanking(String userFrn, String username, String firstName, String lastName, String email,
+                       int points, int gamesPlayed, int strike, Duration studyTime) {
+        this(userFrn, username, firstName, lastName, email, points, gamesPlayed, strike, studyTime, FrnCodec.encode(userFrn));
+    }
+
+    public static UserRanking of(User user) {
+        return new UserRanking(user.getUserFrn(), user.getUsername(), user.getFirstName(), user.getLastName(), user.getEmail(),
+                user.getPoints(), user.getGamesPlayed(), user.getStrike(), user.getStudyTime());
+    }
+
+    public UserRanking withStats(int addedGames, int addedPoints, Duration addedStudyTime) {
+        Duration current = studyTime != null ? studyTime : Duration.ZERO;
+        return new UserRanking(userFrn, username, firstName, lastName, email,
+                points + addedPoints, gamesPlayed + addedGames, strike, current.plus(addedStudyTime), storedFrn);
+    }
+
+    public UserRanking withStrike(int newStrike) {
+        return new UserRanking(userFrn, username, firstName, lastName, email, points, gamesPlayed, newStrike, studyTime, storedFrn);
+    }
+}
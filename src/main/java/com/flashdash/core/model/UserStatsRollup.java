@@ -0,0 +1,89 @@
+package com.flashdash.core.model;
+
+import com.flashdash.core.converter.FrnType;
+import com.flashdash.core.utils.FrnCodec;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Type;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Statistics a user collected within one day, week or month. The rows of a user are found through the
+ * primary key; the leaderboard of a window reads the top rows of one bucket from the
+ * (bucket_type, bucket_start, score, user_frn) index of its criterion.
+ */
+@Entity
+@IdClass(UserStatsRollupId.class)
+@Table(name = "user_stats_rollups", indexes = {
+        @Index(name = "idx_user_stats_rollups_points", columnList = "bucket_type, bucket_start, points, user_frn"),
+        @Index(name = "idx_user_stats_rollups_games_played", columnList = "bucket_type, bucket_start, games_played, user_frn"),
+        @Index(name = "idx_user_stats_rollups_study_time", columnList = "bucket_type, bucket_start, study_time, user_frn")
+})
+public class UserStatsRollup {
+
+    @Id
+    @Type(FrnType.class)
+    @Column(name = "user_frn", nullable = false, length = FrnCodec.MAX_LENGTH)
+    private String userFrn;
+
+    @Id
+    @Column(name = "bucket_type", nullable = false, length = 16)
+    private String bucketType;
+
+    @Id
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDate bucketStart;
+
+    // Statistics are only changed through the atomic update in UserStatsRollupRepository
+    @Column(name = "points", nullable = false, updatable = false)
+    private int points;
+
+    @Column(name = "games_played", nullable = false, updatable = false)
+    private int gamesPlayed;
+
+    @Column(name = "study_time", nullable = false, updatable = false)
+    private Duration studyTime;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public UserStatsRollup() {}
+
+    public UserStatsRollup(String userFrn, String bucketType, LocalDate bucketStart, LocalDateTime updatedAt) {
+        this.userFrn = userFrn;
+        this.bucketType = bucketType;
+        this.bucketStart = bucketStart;
+        this.studyTime = Duration.ZERO;
+        this.updatedAt = updatedAt;
+    }
+
+    public String getUserFrn() {
+        return userFrn;
+    }
+
+    public String getBucketType() {
+        return bucketType;
+    }
+
+    public LocalDate getBucketStart() {
+        return bucketStart;
+    }
+
+    public int getPoints() {
+        return points;
+    }
+
+    public int getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    public Duration getStudyTime() {
+        return studyTime;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
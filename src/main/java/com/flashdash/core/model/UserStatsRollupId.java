@@ -0,0 +1,49 @@
+package com.flashdash.core.model;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+public class UserStatsRollupId implements Serializable {
+
+    private String userFrn;
+    private String bucketType;
+    private LocalDate bucketStart;
+
+    public UserStatsRollupId() {}
+
+    public UserStatsRollupId(String userFrn, String bucketType, LocalDate bucketStart) {
+        this.userFrn = userFrn;
+        this.bucketType = bucketType;
+        this.bucketStart = bucketStart;
+    }
+
+    public String getUserFrn() {
+        return userFrn;
+    }
+
+    public String getBucketType() {
+        return bucketType;
+    }
+
+    public LocalDate getBucketStart() {
+        return bucketStart;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof UserStatsRollupId that)) {
+            return false;
+        }
+        return Objects.equals(userFrn, that.userFrn) && Objects.equals(bucketType, that.bucketType)
+                && Objects.equals(bucketStart, that.bucketStart);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userFrn, bucketType, bucketStart);
+    }
+}
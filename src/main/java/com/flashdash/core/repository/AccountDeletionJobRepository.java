@@ -0,0 +1,14 @@
+package com.flashdash.core.repository;
+
+import com.flashdash.core.model.AccountDeletionJob;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface AccountDeletionJobRepository extends JpaRepository<AccountDeletionJob, String> {
+    List<AccountDeletionJob> findAllByStatusIn(Collection<String> statuses);
+    List<AccountDeletionJob> findAllByStatusAndNextAttemptAtLessThanEqual(String status, LocalDateTime now, Limit limit);
+}
@@ -1,12 +1,33 @@
 package com.flashdash.core.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import com.flashdash.core.model.Deck;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface DeckRepository extends JpaRepository<Deck, String> {
     List<Deck> findAllByUserFrn(String userFrn);
     Optional<Deck> findByDeckFrnAndUserFrn(String deckFrn, String userFrn);
+
+    @Query("select d from Deck d where d.userFrn = :userFrn " +
+            "and (d.createdAt < :createdAt or (d.createdAt = :createdAt and d.deckFrn < :deckFrn)) " +
+            "order by d.createdAt desc, d.deckFrn desc")
+    List<Deck> findPageByUserFrn(@Param("userFrn") String userFrn,
+                                 @Param("createdAt") LocalDateTime createdAt,
+                                 @Param("deckFrn") String deckFrn,
+                                 Limit limit);
+
+    @Query("select d.deckFrn from Deck d where d.userFrn = :userFrn")
+    List<String> findDeckFrnsByUserFrn(@Param("userFrn") String userFrn, Limit limit);
+
+    @Modifying
+    @Query("delete from Deck d where d.deckFrn in :deckFrns")
+    int deleteAllByDeckFrns(@Param("deckFrns") Collection<String> deckFrns);
 }
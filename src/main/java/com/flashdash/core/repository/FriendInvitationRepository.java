@@ -1,13 +1,33 @@
 package com.flashdash.core.repository;
 
 import com.flashdash.core.model.FriendInvitation;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface FriendInvitationRepository extends JpaRepository<FriendInvitation, String> {
-    List<FriendInvitation> findAllBySentToFrnAndStatus(String sentByFrn, String status);
-    List<FriendInvitation> findAllBySentByFrnAndStatus(String sentByFrn, String status);
     Optional<FriendInvitation> findBySentByFrnAndSentToFrnAndStatus(String sentByFrn, String sentToFrn, String status);
+
+    @Query("select i from FriendInvitation i where i.sentToFrn = :sentToFrn and i.status = :status " +
+            "and (i.createdAt < :createdAt or (i.createdAt = :createdAt and i.invitationFrn < :invitationFrn)) " +
+            "order by i.createdAt desc, i.invitationFrn desc")
+    List<FriendInvitation> findPageBySentToFrnAndStatus(@Param("sentToFrn") String sentToFrn,
+                                                        @Param("status") String status,
+                                                        @Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("invitationFrn") String invitationFrn,
+                                                        Limit limit);
+
+    @Query("select i from FriendInvitation i where i.sentByFrn = :sentByFrn and i.status = :status " +
+            "and (i.createdAt < :createdAt or (i.createdAt = :createdAt and i.invitationFrn < :invitationFrn)) " +
+            "order by i.createdAt desc, i.invitationFrn desc")
+    List<FriendInvitation> findPageBySentByFrnAndStatus(@Param("sentByFrn") String sentByFrn,
+                                                        @Param("status") String status,
+                                                        @Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("invitationFrn") String invitationFrn,
+                                                        Limit limit);
 }
@@ -0,0 +1,42 @@
+package com.flashdash.core.repository;
+
+import com.flashdash.core.model.Friendship;
+import com.flashdash.core.model.FriendshipId;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface FriendshipRepository extends JpaRepository<Friendship, FriendshipId> {
+    boolean existsByUserFrnAndFriendFrn(String userFrn, String friendFrn);
+
+    @Query("select f.friendFrn from Friendship f where f.userFrn = :userFrn")
+    List<String> findFriendFrnsByUserFrn(@Param("userFrn") String userFrn);
+
+    @Query("select f.friendFrn from Friendship f where f.userFrn = :userFrn")
+    List<String> findFriendFrnsByUserFrn(@Param("userFrn") String userFrn, Limit limit);
+
+    @Query("select f from Friendship f where f.userFrn = :userFrn " +
+            "and (f.createdAt < :createdAt or (f.createdAt = :createdAt and f.friendFrn < :friendFrn)) " +
+            "order by f.createdAt desc, f.friendFrn desc")
+    List<Friendship> findPageByUserFrn(@Param("userFrn") String userFrn,
+                                       @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("friendFrn") String friendFrn,
+                                       Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Friendship f where (f.userFrn = :userFrn and f.friendFrn = :friendFrn) or (f.userFrn = :friendFrn and f.friendFrn = :userFrn)")
+    int deleteFriendship(@Param("userFrn") String userFrn, @Param("friendFrn") String friendFrn);
+
+    @Transactional
+    @Modifying
+    @Query("delete from Friendship f where (f.userFrn = :userFrn and f.friendFrn in :friendFrns) or (f.friendFrn = :userFrn and f.userFrn in :friendFrns)")
+    int deleteFriendships(@Param("userFrn") String userFrn, @Param("friendFrns") Collection<String> friendFrns);
+}
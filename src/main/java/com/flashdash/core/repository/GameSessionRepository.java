@@ -1,8 +1,15 @@
 package com.flashdash.core.repository;
 
 import com.flashdash.core.model.GameSession;
+import com.flashdash.core.model.GameSessionSummary;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,5 +17,31 @@ public interface GameSessionRepository extends JpaRepository<GameSession, String
     Optional<GameSession> findTopByDeckFrnAndUserFrnAndStatus(String deckFrn, String userFrn, String status);
     Optional<GameSession> findByDeckFrnAndGameSessionFrnAndUserFrnAndStatus(String deckFrn, String gameSessionFrn, String userFrn, String status);
     List<GameSession> findAllByUserFrn(String userFrn);
-    List<GameSession> findAllByDeckFrnAndUserFrnAndStatus(String deckFrn, String userFrn, String status);
+
+    @Query("select new com.flashdash.core.model.GameSessionSummary(g.gameSessionFrn, g.totalScore, g.correctAnswersCount, g.questionCount, g.createdAt, g.updatedAt) " +
+            "from GameSession g where g.userFrn = :userFrn and g.deckFrn = :deckFrn and g.status = :status " +
+            "and (g.createdAt < :createdAt or (g.createdAt = :createdAt and g.gameSessionFrn < :gameSessionFrn)) " +
+            "order by g.createdAt desc, g.gameSessionFrn desc")
+    List<GameSessionSummary> findPageByDeckFrnAndUserFrnAndStatus(@Param("deckFrn") String deckFrn,
+                                                                  @Param("userFrn") String userFrn,
+                                                                  @Param("status") String status,
+                                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                                  @Param("gameSessionFrn") String gameSessionFrn,
+                                                                  Limit limit);
+
+    @Query("select new com.flashdash.core.model.GameSessionSummary(g.gameSessionFrn, g.totalScore, g.correctAnswersCount, g.questionCount, g.createdAt, g.updatedAt) " +
+            "from GameSession g where g.userFrn = :userFrn " +
+            "and (g.createdAt < :createdAt or (g.createdAt = :createdAt and g.gameSessionFrn < :gameSessionFrn)) " +
+            "order by g.createdAt desc, g.gameSessionFrn desc")
+    List<GameSessionSummary> findPageByUserFrn(@Param("userFrn") String userFrn,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("gameSessionFrn") String gameSessionFrn,
+                                               Limit limit);
+
+    @Query("select g.gameSessionFrn from GameSession g where g.userFrn = :userFrn")
+    List<String> findGameSessionFrnsByUserFrn(@Param("userFrn") String userFrn, Limit limit);
+
+    @Modifying
+    @Query("delete from GameSession g where g.gameSessionFrn in :gameSessionFrns")
+    int deleteAllByGameSessionFrns(@Param("gameSessionFrns") Collection<String> gameSessionFrns);
 }
@@ -1,15 +1,39 @@
 package com.flashdash.core.repository;
 
 import com.flashdash.core.model.Question;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface QuestionRepository extends JpaRepository<Question, String> {
     List<Question> findAllByDeckFrn(String deckFrn);
     Optional<Question> findByDeckFrnAndQuestionFrn(String deckFrn, String questionFrn);
+
+    @Query("select q from Question q where q.deckFrn = :deckFrn " +
+            "and (q.createdAt < :createdAt or (q.createdAt = :createdAt and q.questionFrn < :questionFrn)) " +
+            "order by q.createdAt desc, q.questionFrn desc")
+    List<Question> findPageByDeckFrn(@Param("deckFrn") String deckFrn,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("questionFrn") String questionFrn,
+                                     Limit limit);
+
     @Transactional
-    void deleteAllByDeckFrn(String deckFrn);
+    @Modifying
+    @Query("delete from Question q where q.deckFrn = :deckFrn")
+    int deleteAllByDeckFrn(@Param("deckFrn") String deckFrn);
+
+    @Query("select q.questionFrn from Question q where q.deckFrn in (select d.deckFrn from Deck d where d.userFrn = :userFrn)")
+    List<String> findQuestionFrnsByDeckOwner(@Param("userFrn") String userFrn, Limit limit);
+
+    @Modifying
+    @Query("delete from Question q where q.questionFrn in :questionFrns")
+    int deleteAllByQuestionFrns(@Param("questionFrns") Collection<String> questionFrns);
 }
@@ -0,0 +1,14 @@
+package com.flashdash.core.repository;
+
+import com.flashdash.core.model.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+    @Transactional
+    void deleteAllByUserFrn(String userFrn);
+    @Transactional
+    void deleteAllByExpiresAtBefore(LocalDateTime expiresAt);
+}
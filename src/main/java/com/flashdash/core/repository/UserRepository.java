@@ -1,14 +1,112 @@
 package com.flashdash.core.repository;
 
 import com.flashdash.core.model.User;
+import com.flashdash.core.model.UserRanking;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, String> {
+    String SELECT_RANKING = "select new com.flashdash.core.model.UserRanking(u.userFrn, u.username, u.firstName, u.lastName, u.email, "
+            + "u.points, u.gamesPlayed, u.strike, u.studyTime) from User u";
+
     Optional<User> findByEmail(String email);
     Optional<User> findByUsername(String username);
     Optional<User> findByUserFrn(String userFrn);
     Optional<User> findByActivationToken(String activationToken);
     List<User> findByUserFrnIn(List<String> userFrns);
+
+    @Query("select u.tokenVersion from User u where u.userFrn = :userFrn and u.enabled = true")
+    Optional<Integer> findActiveTokenVersionByUserFrn(@Param("userFrn") String userFrn);
+
+    @Query("select u.email from User u where u.userFrn = :userFrn")
+    Optional<String> findEmailByUserFrn(@Param("userFrn") String userFrn);
+
+    @Query("select u from User u where u.userFrn = :userFrn or u.userFrn in (select f.friendFrn from Friendship f where f.userFrn = :userFrn)")
+    List<User> findSelfAndFriendsByUserFrn(@Param("userFrn") String userFrn);
+
+    @Query("select u.email as email, u.username as username from User u")
+    Stream<UserIdentity> streamAllIdentities();
+
+    @Query(SELECT_RANKING)
+    Stream<UserRanking> streamAllRankings();
+
+    // The top N queries read the (score, user_frn) indexes backwards and stop after the limit
+    @Query(SELECT_RANKING + " order by u.points desc, u.userFrn desc")
+    List<UserRanking> findTopRankingsByPoints(Limit limit);
+
+    @Query(SELECT_RANKING + " order by u.gamesPlayed desc, u.userFrn desc")
+    List<UserRanking> findTopRankingsByGamesPlayed(Limit limit);
+
+    @Query(SELECT_RANKING + " order by u.strike desc, u.userFrn desc")
+    List<UserRanking> findTopRankingsByStrike(Limit limit);
+
+    @Query(SELECT_RANKING + " order by u.studyTime desc, u.userFrn desc")
+    List<UserRanking> findTopRankingsByStudyTime(Limit limit);
+
+    // The rank of a user counts the users ahead of them in the order of the top N queries, the neighbours
+    // are read from both sides of the user on the same (score, user_frn) indexes
+    @Query("select count(u) from User u where u.points > :points or (u.points = :points and u.userFrn > :userFrn)")
+    long countRankedAheadByPoints(@Param("points") int points, @Param("userFrn") String userFrn);
+
+    @Query(SELECT_RANKING + " where u.points > :points or (u.points = :points and u.userFrn > :userFrn) order by u.points asc, u.userFrn asc")
+    List<UserRanking> findRankingsAheadByPoints(@Param("points") int points, @Param("userFrn") String userFrn, Limit limit);
+
+    @Query(SELECT_RANKING + " where u.points < :points or (u.points = :points and u.userFrn < :userFrn) order by u.points desc, u.userFrn desc")
+    List<UserRanking> findRankingsBehindByPoints(@Param("points") int points, @Param("userFrn") String userFrn, Limit limit);
+
+    @Query("select count(u) from User u where u.gamesPlayed > :gamesPlayed or (u.gamesPlayed = :gamesPlayed and u.userFrn > :userFrn)")
+    long countRankedAheadByGamesPlayed(@Param("gamesPlayed") int gamesPlayed, @Param("userFrn") String userFrn);
+
+    @Query(SELECT_RANKING + " where u.gamesPlayed > :gamesPlayed or (u.gamesPlayed = :gamesPlayed and u.userFrn > :userFrn) order by u.gamesPlayed asc, u.userFrn asc")
+    List<UserRanking> findRankingsAheadByGamesPlayed(@Param("gamesPlayed") int gamesPlayed, @Param("userFrn") String userFrn, Limit limit);
+
+    @Query(SELECT_RANKING + " where u.gamesPlayed < :gamesPlayed or (u.gamesPlayed = :gamesPlayed and u.userFrn < :userFrn) order by u.gamesPlayed desc, u.userFrn desc")
+    List<UserRanking> findRankingsBehindByGamesPlayed(@Param("gamesPlayed") int gamesPlayed, @Param("userFrn") String userFrn, Limit limit);
+
+    @Query("select count(u) from User u where u.strike > :strike or (u.strike = :strike and u.userFrn > :userFrn)")
+    long countRankedAheadByStrike(@Param("strike") int strike, @Param("userFrn") String userFrn);
+
+    @Query(SELECT_RANKING + " where u.strike > :strike or (u.strike = :strike and u.userFrn > :userFrn) order by u.strike asc, u.userFrn asc")
+    List<UserRanking> findRankingsAheadByStrike(@Param("strike") int strike, @Param("userFrn") String userFrn, Limit limit);
+
+    @Query(SELECT_RANKING + " where u.strike < :strike or (u.strike = :strike and u.userFrn < :userFrn) order by u.strike desc, u.userFrn desc")
+    List<UserRanking> findRankingsBehindByStrike(@Param("strike") int strike, @Param("userFrn") String userFrn, Limit limit);
+
+    @Query("select count(u) from User u where u.studyTime > :studyTime or (u.studyTime = :studyTime and u.userFrn > :userFrn)")
+    long countRankedAheadByStudyTime(@Param("studyTime") Duration studyTime, @Param("userFrn") String userFrn);
+
+    @Query(SELECT_RANKING + " where u.studyTime > :studyTime or (u.studyTime = :studyTime and u.userFrn > :userFrn) order by u.studyTime asc, u.userFrn asc")
+    List<UserRanking> findRankingsAheadByStudyTime(@Param("studyTime") Duration studyTime, @Param("userFrn") String userFrn, Limit limit);
+
+    @Query(SELECT_RANKING + " where u.studyTime < :studyTime or (u.studyTime = :studyTime and u.userFrn < :userFrn) order by u.studyTime desc, u.userFrn desc")
+    List<UserRanking> findRankingsBehindByStudyTime(@Param("studyTime") Duration studyTime, @Param("userFrn") String userFrn, Limit limit);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.strike = :strike, u.updatedAt = :updatedAt where u.userFrn = :userFrn")
+    int updateStrike(@Param("userFrn") String userFrn, @Param("strike") int strike, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.gamesPlayed = u.gamesPlayed + 1, u.points = u.points + :points, u.studyTime = u.studyTime + :studyTime, "
+            + "u.updatedAt = :updatedAt where u.userFrn = :userFrn")
+    int incrementGameStats(@Param("userFrn") String userFrn,
+                           @Param("points") int points,
+                           @Param("studyTime") Duration studyTime,
+                           @Param("updatedAt") LocalDateTime updatedAt);
+
+    interface UserIdentity {
+        String getEmail();
+        String getUsername();
+    }
 }
@@ -0,0 +1,68 @@
+package com.flashdash.core.repository;
+
+import com.flashdash.core.model.UserRanking;
+import com.flashdash.core.model.UserStatsRollup;
+import com.flashdash.core.model.UserStatsRollupId;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface UserStatsRollupRepository extends JpaRepository<UserStatsRollup, UserStatsRollupId> {
+    String SELECT_RANKING = "select new com.flashdash.core.model.UserRanking(u.userFrn, u.username, u.firstName, u.lastName, u.email, "
+            + "r.points, r.gamesPlayed, 0, r.studyTime) from UserStatsRollup r join User u on u.userFrn = r.userFrn "
+            + "where r.bucketType = :bucketType and r.bucketStart = :bucketStart";
+
+    @Query(SELECT_RANKING)
+    List<UserRanking> findTopRankings(@Param("bucketType") String bucketType,
+                                      @Param("bucketStart") LocalDate bucketStart,
+                                      Sort sort,
+                                      Limit limit);
+
+    @Query(SELECT_RANKING + " and (r.userFrn = :userFrn or r.userFrn in (select f.friendFrn from Friendship f where f.userFrn = :userFrn))")
+    List<UserRanking> findTopRankingsOfSelfAndFriends(@Param("bucketType") String bucketType,
+                                                      @Param("bucketStart") LocalDate bucketStart,
+                                                      @Param("userFrn") String userFrn,
+                                                      Sort sort,
+                                                      Limit limit);
+
+    @Query("select distinct r.userFrn from UserStatsRollup r where r.bucketType = :bucketType and r.bucketStart < :before")
+    List<String> findUserFrnsWithBucketsBefore(@Param("bucketType") String bucketType,
+                                               @Param("before") LocalDate before,
+                                               Limit limit);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update UserStatsRollup r set r.gamesPlayed = r.gamesPlayed + 1, r.points = r.points + :points, "
+            + "r.studyTime = r.studyTime + :studyTime, r.updatedAt = :updatedAt where r.userFrn = :userFrn "
+            + "and ((r.bucketType = 'DAY' and r.bucketStart = :day) or (r.bucketType = 'WEEK' and r.bucketStart = :week) "
+            + "or (r.bucketType = 'MONTH' and r.bucketStart = :month))")
+    int incrementGameStats(@Param("userFrn") String userFrn,
+                           @Param("day") LocalDate day,
+                           @Param("week") LocalDate week,
+                           @Param("month") LocalDate month,
+                           @Param("points") int points,
+                           @Param("studyTime") Duration studyTime,
+                           @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Transactional
+    @Modifying
+    @Query("delete from UserStatsRollup r where r.bucketType = :bucketType and r.bucketStart < :before and r.userFrn in :userFrns")
+    int deleteBucketsBefore(@Param("bucketType") String bucketType,
+                            @Param("before") LocalDate before,
+                            @Param("userFrns") Collection<String> userFrns);
+
+    @Transactional
+    @Modifying
+    @Query("delete from UserStatsRollup r where r.userFrn = :userFrn")
+    int deleteAllByUserFrn(@Param("userFrn") String userFrn);
+}
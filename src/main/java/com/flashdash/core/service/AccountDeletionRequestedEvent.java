@@ -0,0 +1,7 @@
+package com.flashdash.core.service;
+
+/**
+ * Published once the deletion of an account has been accepted and the account disabled.
+ */
+public record AccountDeletionRequestedEvent(String userFrn) {
+}
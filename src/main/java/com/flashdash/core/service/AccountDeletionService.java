@@ -0,0 +1,287 @@
+package com.flashdash.core.service;
+
+import com.flashdash.core.config.TokenVersionCache;
+import com.flashdash.core.exception.ErrorCode;
+import com.flashdash.core.exception.FlashDashException;
+import com.flashdash.core.model.AccountDeletionJob;
+import com.flashdash.core.model.AccountDeletionStatus;
+import com.flashdash.core.model.User;
+import com.flashdash.core.repository.AccountDeletionJobRepository;
+import com.flashdash.core.repository.DeckRepository;
+import com.flashdash.core.repository.FriendshipRepository;
+import com.flashdash.core.repository.GameSessionRepository;
+import com.flashdash.core.repository.QuestionRepository;
+import com.flashdash.core.repository.UserRepository;
+import com.flashdash.core.repository.UserStatsRollupRepository;
+import com.flashdash.core.service.api.ActivityService;
+import com.flashdash.core.service.api.NotificationService;
+import com.p4r1nc3.flashdash.activity.model.LogActivityRequest.ActivityTypeEnum;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Deletes accounts in the background. A deletion request only disables the account, revokes its tokens
+ * and records a job; the job then removes the game sessions, questions, decks and friendships of the user
+ * in chunks, each chunk being a single set-based delete in its own short transaction, and finally deletes
+ * the statistics rollups and the user. Jobs that did not complete, e.g. because the instance was stopped, are resumed on startup.
+ * Failed jobs are retried by a scheduled task with exponential backoff until they run out of attempts.
+ */
+@Service
+public class AccountDeletionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccountDeletionService.class);
+
+    private static final List<String> UNFINISHED_STATUSES = List.of(
+            AccountDeletionStatus.PENDING.toString(),
+            AccountDeletionStatus.RUNNING.toString()
+    );
+    private static final Limit RETRY_BATCH = Limit.of(100);
+
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TokenVersionCache tokenVersionCache;
+    private final RefreshTokenService refreshTokenService;
+    private final RegistrationIndex registrationIndex;
+    private final LeaderboardIndex leaderboardIndex;
+    private final ActivityService activityService;
+    private final NotificationService notificationService;
+    private final AccountDeletionJobRepository accountDeletionJobRepository;
+    private final GameSessionRepository gameSessionRepository;
+    private final QuestionRepository questionRepository;
+    private final DeckRepository deckRepository;
+    private final FriendshipRepository friendshipRepository;
+    private final UserStatsRollupRepository userStatsRollupRepository;
+    private final UserRepository userRepository;
+    private final Limit chunk;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+    private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+
+    public AccountDeletionService(TransactionTemplate transactionTemplate,
+                                  ApplicationEventPublisher eventPublisher,
+                                  TokenVersionCache tokenVersionCache,
+                                  RefreshTokenService refreshTokenService,
+                                  RegistrationIndex registrationIndex,
+                                  LeaderboardIndex leaderboardIndex,
+                                  ActivityService activityService,
+                                  NotificationService notificationService,
+                                  AccountDeletionJobRepository accountDeletionJobRepository,
+                                  GameSessionRepository gameSessionRepository,
+                                  QuestionRepository questionRepository,
+                                  DeckRepository deckRepository,
+                                  FriendshipRepository friendshipRepository,
+                                  UserStatsRollupRepository userStatsRollupRepository,
+                                  UserRepository userRepository,
+                                  @Value("${account-deletion.chunk-size}") int chunkSize,
+                                  @Value("${account-deletion.retry.initial-backoff-seconds}") long initialBackoffSeconds,
+                                  @Value("${account-deletion.retry.max-backoff-seconds}") long maxBackoffSeconds,
+                                  @Value("${account-deletion.retry.max-attempts}") int maxAttempts) {
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.tokenVersionCache = tokenVersionCache;
+        this.refreshTokenService = refreshTokenService;
+        this.registrationIndex = registrationIndex;
+        this.leaderboardIndex = leaderboardIndex;
+        this.activityService = activityService;
+        this.notificationService = notificationService;
+        this.accountDeletionJobRepository = accountDeletionJobRepository;
+        this.gameSessionRepository = gameSessionRepository;
+        this.questionRepository = questionRepository;
+        this.deckRepository = deckRepository;
+        this.friendshipRepository = friendshipRepository;
+        this.userStatsRollupRepository = userStatsRollupRepository;
+        this.userRepository = userRepository;
+        this.chunk = Limit.of(chunkSize);
+        this.initialBackoff = Duration.ofSeconds(initialBackoffSeconds);
+        this.maxBackoff = Duration.ofSeconds(maxBackoffSeconds);
+        this.maxAttempts = maxAttempts;
+    }
+
+    public void requestDeletion(String userFrn) {
+        logger.info("Requesting deletion of user with userFrn: {}", userFrn);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.findByUserFrn(userFrn)
+                    .orElseThrow(() -> {
+                        logger.warn("User with userFrn {} not found", userFrn);
+                        return new FlashDashException(ErrorCode.E404001, "User with userFrn " + userFrn + " not found.");
+                    });
+
+            // Disabled users cannot log in or use their tokens; a fresh activation token keeps the emailed
+            // activation link from enabling the account again while it is being deleted
+            user.setEnabled(false);
+            user.setActivationToken(UUID.randomUUID().toString());
+            user.setUpdatedAt(LocalDateTime.now());
+            userRepository.save(user);
+
+            if (!accountDeletionJobRepository.existsById(userFrn)) {
+                AccountDeletionJob job = new AccountDeletionJob();
+                job.setUserFrn(userFrn);
+                job.setStatus(AccountDeletionStatus.PENDING.toString());
+                job.setCreatedAt(LocalDateTime.now());
+                job.setUpdatedAt(LocalDateTime.now());
+                accountDeletionJobRepository.save(job);
+            }
+        });
+
+        tokenVersionCache.revoke(userFrn);
+        refreshTokenService.revokeAll(userFrn);
+        eventPublisher.publishEvent(new AccountDeletionRequestedEvent(userFrn));
+    }
+
+    @Async
+    @EventListener
+    public void onDeletionRequested(AccountDeletionRequestedEvent event) {
+        runJob(event.userFrn());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        List<AccountDeletionJob> jobs = accountDeletionJobRepository.findAllByStatusIn(UNFINISHED_STATUSES);
+        if (!jobs.isEmpty()) {
+            logger.info("Resuming {} unfinished account deletions", jobs.size());
+            jobs.forEach(job -> eventPublisher.publishEvent(new AccountDeletionRequestedEvent(job.getUserFrn())));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${account-deletion.retry.interval-ms}")
+    public void retryFailedJobs() {
+        List<AccountDeletionJob> jobs = accountDeletionJobRepository.findAllByStatusAndNextAttemptAtLessThanEqual(
+                AccountDeletionStatus.FAILED.toString(), LocalDateTime.now(), RETRY_BATCH);
+        if (!jobs.isEmpty()) {
+            logger.info("Retrying {} failed account deletions", jobs.size());
+            jobs.forEach(job -> eventPublisher.publishEvent(new AccountDeletionRequestedEvent(job.getUserFrn())));
+        }
+    }
+
+    public void runJob(String userFrn) {
+        if (!runningJobs.add(userFrn)) {
+            logger.info("Deletion of user {} is already running", userFrn);
+            return;
+        }
+
+        try {
+            setStatus(userFrn, AccountDeletionStatus.RUNNING);
+
+            deleteInChunks(userFrn,
+                    () -> gameSessionRepository.findGameSessionFrnsByUserFrn(userFrn, chunk),
+                    gameSessionRepository::deleteAllByGameSessionFrns,
+                    (job, deleted) -> job.setDeletedGameSessions(job.getDeletedGameSessions() + deleted));
+            deleteInChunks(userFrn,
+                    () -> questionRepository.findQuestionFrnsByDeckOwner(userFrn, chunk),
+                    questionRepository::deleteAllByQuestionFrns,
+                    (job, deleted) -> job.setDeletedQuestions(job.getDeletedQuestions() + deleted));
+            deleteInChunks(userFrn,
+                    () -> deckRepository.findDeckFrnsByUserFrn(userFrn, chunk),
+                    deckRepository::deleteAllByDeckFrns,
+                    (job, deleted) -> job.setDeletedDecks(job.getDeletedDecks() + deleted));
+            deleteInChunks(userFrn,
+                    () -> friendshipRepository.findFriendFrnsByUserFrn(userFrn, chunk),
+                    frns -> friendshipRepository.deleteFriendships(userFrn, frns),
+                    (job, deleted) -> job.setDeletedFriendships(job.getDeletedFriendships() + deleted));
+
+            AccountDeletionJob job = transactionTemplate.execute(status -> {
+                // A user has at most one rollup per retained day, week and month
+                userStatsRollupRepository.deleteAllByUserFrn(userFrn);
+                userRepository.deleteAllByIdInBatch(List.of(userFrn));
+                return setStatus(userFrn, AccountDeletionStatus.COMPLETED);
+            });
+
+            registrationIndex.onUserDeleted();
+            leaderboardIndex.remove(userFrn);
+            activityService.logUserActivity(userFrn, userFrn, ActivityTypeEnum.ACCOUNT_DELETED);
+            notificationService.unregisterSubscriber(userFrn);
+            logger.info("User with userFrn {} successfully deleted: {} game sessions, {} questions, {} decks, {} friendships.",
+                    userFrn, job.getDeletedGameSessions(), job.getDeletedQuestions(), job.getDeletedDecks(), job.getDeletedFriendships());
+        } catch (RuntimeException e) {
+            recordFailure(userFrn, e);
+        } finally {
+            runningJobs.remove(userFrn);
+        }
+    }
+
+    private void deleteInChunks(String userFrn,
+                                Supplier<List<String>> nextChunk,
+                                Function<List<String>, Integer> delete,
+                                BiConsumer<AccountDeletionJob, Integer> progress) {
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> {
+                List<String> frns = nextChunk.get();
+                if (frns.isEmpty()) {
+                    return 0;
+                }
+
+                int count = delete.apply(frns);
+                AccountDeletionJob job = findJob(userFrn);
+                progress.accept(job, count);
+                job.setUpdatedAt(LocalDateTime.now());
+                accountDeletionJobRepository.save(job);
+                return count;
+            });
+        } while (deleted > 0);
+    }
+
+    private void recordFailure(String userFrn, RuntimeException cause) {
+        AccountDeletionJob job = transactionTemplate.execute(transaction -> {
+            AccountDeletionJob failed = findJob(userFrn);
+            failed.setStatus(AccountDeletionStatus.FAILED.toString());
+            failed.setAttempts(failed.getAttempts() + 1);
+            failed.setUpdatedAt(LocalDateTime.now());
+            failed.setNextAttemptAt(failed.getAttempts() < maxAttempts
+                    ? failed.getUpdatedAt().plus(backoff(failed.getAttempts()))
+                    : null);
+            return accountDeletionJobRepository.save(failed);
+        });
+
+        if (job.getNextAttemptAt() != null) {
+            logger.error("Deletion of user {} failed on attempt {}, it will be retried at {}",
+                    userFrn, job.getAttempts(), job.getNextAttemptAt(), cause);
+        } else {
+            logger.error("Deletion of user {} failed on attempt {}, giving up", userFrn, job.getAttempts(), cause);
+        }
+    }
+
+    /**
+     * Initial backoff doubled for every further failed attempt, capped at the maximum backoff.
+     */
+    private Duration backoff(int attempts) {
+        int doublings = Math.min(attempts - 1, 30);
+        Duration backoff = initialBackoff.multipliedBy(1L << doublings);
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private AccountDeletionJob setStatus(String userFrn, AccountDeletionStatus status) {
+        return transactionTemplate.execute(transaction -> {
+            AccountDeletionJob job = findJob(userFrn);
+            job.setStatus(status.toString());
+            job.setUpdatedAt(LocalDateTime.now());
+            return accountDeletionJobRepository.save(job);
+        });
+    }
+
+    private AccountDeletionJob findJob(String userFrn) {
+        return accountDeletionJobRepository.findById(userFrn)
+                .orElseThrow(() -> new IllegalStateException("No deletion job for user " + userFrn));
+    }
+}
@@ -1,6 +1,7 @@
 package com.flashdash.core.service;
 
 import com.flashdash.core.config.JwtManager;
+import com.flashdash.core.config.ServiceTokenCache;
 import com.flashdash.core.exception.FlashDashException;
 import com.flashdash.core.exception.ErrorCode;
 import com.flashdash.core.model.User;
@@ -9,14 +10,13 @@ import com.flashdash.core.service.api.ActivityService;
 import com.flashdash.core.service.api.NotificationService;
 import com.flashdash.core.utils.FrnGenerator;
 import com.flashdash.core.utils.ResourceType;
-import com.p4r1nc3.flashdash.activity.model.ActivityStatisticsResponse;
 import com.p4r1nc3.flashdash.activity.model.LogActivityRequest.ActivityTypeEnum;
 import com.p4r1nc3.flashdash.core.model.AuthenticationResponse;
 import com.p4r1nc3.flashdash.core.model.LoginRequest;
 import com.p4r1nc3.flashdash.core.model.RegisterRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
@@ -28,26 +28,38 @@ public class AuthenticationService {
 
     private static final Logger logger = LoggerFactory.getLogger(AuthenticationService.class);
 
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtManager jwtManager;
+    private final ServiceTokenCache serviceTokenCache;
+    private final RefreshTokenService refreshTokenService;
     private final ActivityService activityService;
     private final NotificationService notificationService;
+    private final RegistrationIndex registrationIndex;
+    private final LeaderboardIndex leaderboardIndex;
     private final UserRepository userRepository;
 
 
-    public AuthenticationService(PasswordEncoder passwordEncoder,
+    public AuthenticationService(PasswordHashingService passwordHashingService,
                                  JwtManager jwtManager,
+                                 ServiceTokenCache serviceTokenCache,
+                                 RefreshTokenService refreshTokenService,
                                  ActivityService activityService,
                                  NotificationService notificationService,
+                                 RegistrationIndex registrationIndex,
+                                 LeaderboardIndex leaderboardIndex,
                                  UserRepository userRepository) {
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
         this.jwtManager = jwtManager;
+        this.serviceTokenCache = serviceTokenCache;
+        this.refreshTokenService = refreshTokenService;
         this.activityService = activityService;
         this.notificationService = notificationService;
+        this.registrationIndex = registrationIndex;
+        this.leaderboardIndex = leaderboardIndex;
         this.userRepository = userRepository;
     }
 
-    public AuthenticationResponse login(LoginRequest request) {
+    public LoginTokens login(LoginRequest request) {
         logger.info("Login attempt for email: {}", request.getEmail());
 
         User user = userRepository.findByEmail(request.getEmail())
@@ -61,34 +73,39 @@ public class AuthenticationService {
             throw new FlashDashException(ErrorCode.E403002, "Account not activated.");
         }
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
             logger.warn("Login failed: Invalid password for email {}", request.getEmail());
             throw new FlashDashException(ErrorCode.E401002, "Invalid password.");
         }
 
-        String token = jwtManager.generateToken(user.getUserFrn(), request.getEmail());
+        if (passwordHashingService.upgradeEncoding(user.getPassword())) {
+            user.setPassword(passwordHashingService.encode(request.getPassword()));
+            userRepository.save(user);
+            logger.info("Password hash upgraded for email: {}", request.getEmail());
+        }
+
+        String token = jwtManager.generateToken(user.getUserFrn(), request.getEmail(), user.getTokenVersion());
+        String refreshToken = refreshTokenService.issue(user.getUserFrn(), request.getEmail(), user.getTokenVersion());
         logger.info("Login successful for email: {}", request.getEmail());
 
+        serviceTokenCache.remember(user.getUserFrn(), user.getEmail());
+
         activityService.logUserActivity(user.getUserFrn(), user.getUserFrn(), ActivityTypeEnum.ACCOUNT_LOGIN);
-        ActivityStatisticsResponse activityStatistics = activityService.getActivityStatistics(user.getUserFrn());
-        user.setStrike(activityStatistics.getCurrentStreak());
-        user.setUpdatedAt(LocalDateTime.now());
-        userRepository.save(user);
 
         AuthenticationResponse authenticationResponse = new AuthenticationResponse();
         authenticationResponse.setToken(token);
 
-        return authenticationResponse;
+        return new LoginTokens(authenticationResponse, refreshToken);
     }
 
     public AuthenticationResponse register(RegisterRequest request) {
         logger.info("Registration attempt for email: {}", request.getEmail());
 
-        if (userRepository.findByEmail(request.getEmail()).isPresent()) {
+        if (registrationIndex.mightContainEmail(request.getEmail()) && userRepository.findByEmail(request.getEmail()).isPresent()) {
             throw new FlashDashException(ErrorCode.E409001, "User already exists.");
         }
 
-        if (userRepository.findByUsername(request.getUsername()).isPresent()) {
+        if (registrationIndex.mightContainUsername(request.getUsername()) && userRepository.findByUsername(request.getUsername()).isPresent()) {
             throw new FlashDashException(ErrorCode.E409004, "User already exists.");
         }
 
@@ -100,7 +117,7 @@ public class AuthenticationService {
         user.setLastName(request.getLastName());
         user.setUsername(request.getUsername());
         user.setEmail(request.getEmail().trim().toLowerCase());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(passwordHashingService.encode(request.getPassword()));
         user.setActivationToken(activationToken);
         user.setCreatedAt(LocalDateTime.now());
         user.setUpdatedAt(LocalDateTime.now());
@@ -109,8 +126,20 @@ public class AuthenticationService {
         user.setGamesPlayed(0);
         user.setPoints(0);
         user.setStrike(1);
-        userRepository.save(user);
 
+        try {
+            userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            logger.warn("Registration failed: email {} or username {} was taken concurrently", request.getEmail(), request.getUsername());
+            if (userRepository.findByEmail(user.getEmail()).isPresent()) {
+                throw new FlashDashException(ErrorCode.E409001, "User already exists.");
+            }
+            throw new FlashDashException(ErrorCode.E409004, "User already exists.");
+        }
+        registrationIndex.add(user.getEmail(), user.getUsername());
+        leaderboardIndex.add(user);
+
+        serviceTokenCache.remember(user.getUserFrn(), user.getEmail());
         activityService.logUserActivity(user.getUserFrn(), user.getUserFrn(), ActivityTypeEnum.ACCOUNT_REGISTRATION);
         notificationService.registerSubscriber(user.getUserFrn());
         notificationService.sendAccountConfirmationEmail(user.getUserFrn(), activationToken);
@@ -134,8 +163,12 @@ public class AuthenticationService {
 
         user.setEnabled(true);
         userRepository.save(user);
+        serviceTokenCache.remember(user.getUserFrn(), user.getEmail());
         activityService.logUserActivity(user.getUserFrn(), user.getUserFrn(), ActivityTypeEnum.ACCOUNT_CONFIRMATION);
 
         logger.info("Account activated successfully for email: {}", user.getUsername());
     }
+
+    public record LoginTokens(AuthenticationResponse response, String refreshToken) {
+    }
 }
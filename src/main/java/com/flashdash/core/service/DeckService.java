@@ -1,14 +1,17 @@
 package com.flashdash.core.service;
 
 import com.flashdash.core.service.api.ActivityService;
+import com.flashdash.core.utils.CursorPage;
 import com.flashdash.core.utils.FrnGenerator;
+import com.flashdash.core.utils.PageCursor;
+import com.flashdash.core.utils.Pagination;
 import com.flashdash.core.utils.ResourceType;
 import com.p4r1nc3.flashdash.activity.model.LogActivityRequest.ActivityTypeEnum;
 import com.p4r1nc3.flashdash.core.model.DeckRequest;
-import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import com.flashdash.core.exception.ErrorCode;
 import com.flashdash.core.exception.FlashDashException;
 import com.flashdash.core.model.Deck;
@@ -23,13 +26,16 @@ public class DeckService {
     private static final Logger logger = LoggerFactory.getLogger(DeckService.class);
 
     private final ActivityService activityService;
+    private final Pagination pagination;
     private final DeckRepository deckRepository;
     private final QuestionRepository questionRepository;
 
     public DeckService(ActivityService activityService,
+                       Pagination pagination,
                        DeckRepository deckRepository,
                        QuestionRepository questionRepository) {
         this.activityService = activityService;
+        this.pagination = pagination;
         this.deckRepository = deckRepository;
         this.questionRepository = questionRepository;
     }
@@ -52,13 +58,18 @@ public class DeckService {
         return savedDeck;
     }
 
-    public List<Deck> getAllDecks(String userFrn) {
-        logger.info("Fetching all decks for user FRN: {}", userFrn);
-        List<Deck> decks = deckRepository.findAllByUserFrn(userFrn);
-        logger.info("Retrieved {} decks for user FRN: {}", decks.size(), userFrn);
-        return decks;
+    @Transactional(readOnly = true)
+    public CursorPage<Deck> getAllDecks(String userFrn, String pageToken, Integer pageSize) {
+        logger.info("Fetching decks for user FRN: {}", userFrn);
+        PageCursor cursor = PageCursor.decode(pageToken);
+        int size = pagination.pageSize(pageSize);
+        List<Deck> decks = deckRepository.findPageByUserFrn(userFrn, cursor.createdAt(), cursor.frn(), pagination.limit(size));
+        CursorPage<Deck> page = pagination.toPage(decks, size, deck -> new PageCursor(deck.getCreatedAt(), deck.getDeckFrn()));
+        logger.info("Retrieved {} decks for user FRN: {}", page.items().size(), userFrn);
+        return page;
     }
 
+    @Transactional(readOnly = true)
     public Deck getDeckByFrn(String deckFrn, String userFrn) {
         logger.info("Fetching deck with FRN: {} for user FRN: {}", deckFrn, userFrn);
         return deckRepository.findByDeckFrnAndUserFrn(deckFrn, userFrn)
@@ -89,27 +100,11 @@ public class DeckService {
         logger.info("Deleting deck with FRN: {} for user FRN: {}", deckFrn, userFrn);
 
         Deck deck = getDeckByFrn(deckFrn, userFrn);
-        questionRepository.deleteAllByDeckFrn(deckFrn);
+        int deletedQuestions = questionRepository.deleteAllByDeckFrn(deckFrn);
         deckRepository.delete(deck);
 
         activityService.logUserActivity(userFrn, deck.getDeckFrn(), ActivityTypeEnum.DECK_DELETED);
 
-        logger.info("Deleted deck with FRN: {} for user FRN: {}", deckFrn, userFrn);
-    }
-
-    @Transactional
-    public void deleteAllDecksForUser(String userFrn) {
-        logger.info("Attempting to delete all decks for user FRN: {}", userFrn);
-
-        List<Deck> decks = getAllDecks(userFrn);
-
-        if (decks.isEmpty()) {
-            logger.info("No decks found for user FRN: {}", userFrn);
-            return;
-        }
-
-        decks.forEach(deck -> deleteDeck(deck.getDeckFrn(), userFrn));
-
-        logger.info("Successfully deleted all decks for userFRN: {}", userFrn);
+        logger.info("Deleted deck with FRN: {} and {} questions for user FRN: {}", deckFrn, deletedQuestions, userFrn);
     }
 }
@@ -2,51 +2,63 @@ package com.flashdash.core.service;
 
 import com.flashdash.core.exception.ErrorCode;
 import com.flashdash.core.exception.FlashDashException;
+import com.flashdash.core.model.Friendship;
 import com.flashdash.core.model.User;
+import com.flashdash.core.repository.FriendshipRepository;
 import com.flashdash.core.repository.UserRepository;
 import com.flashdash.core.service.api.ActivityService;
+import com.flashdash.core.utils.CursorPage;
+import com.flashdash.core.utils.PageCursor;
+import com.flashdash.core.utils.Pagination;
 import com.p4r1nc3.flashdash.activity.model.LogActivityRequest.ActivityTypeEnum;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class FriendService {
 
     private final ActivityService activityService;
+    private final Pagination pagination;
     private final UserRepository userRepository;
+    private final FriendshipRepository friendshipRepository;
 
     public FriendService(ActivityService activityService,
-                         UserRepository userRepository) {
+                         Pagination pagination,
+                         UserRepository userRepository,
+                         FriendshipRepository friendshipRepository) {
         this.activityService = activityService;
+        this.pagination = pagination;
         this.userRepository = userRepository;
+        this.friendshipRepository = friendshipRepository;
     }
 
-    public List<User> getFriends(String userFrn) {
-        User user = userRepository.findByUserFrn(userFrn)
-                .orElseThrow(() -> new FlashDashException(ErrorCode.E404002, "User not found"));
-
-        List<String> friendsFrnList = user.getFriendsFrnList();
-
-        if (friendsFrnList.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        return friendsFrnList.stream()
-                .map(friendFrn -> getFriend(userFrn, friendFrn))
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<User> getFriends(String userFrn, String pageToken, Integer pageSize) {
+        PageCursor cursor = PageCursor.decode(pageToken);
+        int size = pagination.pageSize(pageSize);
+        List<Friendship> friendships = friendshipRepository.findPageByUserFrn(userFrn, cursor.createdAt(), cursor.frn(), pagination.limit(size));
+        CursorPage<Friendship> page = pagination.toPage(friendships, size,
+                friendship -> new PageCursor(friendship.getCreatedAt(), friendship.getFriendFrn()));
+
+        return page.map(items -> {
+            Map<String, User> friends = userRepository.findAllById(items.stream().map(Friendship::getFriendFrn).toList()).stream()
+                    .collect(Collectors.toMap(User::getUserFrn, Function.identity()));
+            return items.stream()
+                    .map(friendship -> friends.get(friendship.getFriendFrn()))
+                    .filter(Objects::nonNull)
+                    .toList();
+        });
     }
 
+    @Transactional(readOnly = true)
     public User getFriend(String userFrn, String friendFrn) {
-        User user = userRepository.findByUserFrn(userFrn)
-                .orElseThrow(() -> new FlashDashException(ErrorCode.E404002, "User not found"));
-
-        List<String> friendsFrnList = user.getFriendsFrnList();
-
-        if (!friendsFrnList.contains(friendFrn)) {
+        if (!friendshipRepository.existsByUserFrnAndFriendFrn(userFrn, friendFrn)) {
             throw new FlashDashException(ErrorCode.E404003, "Friend not found in user's friend list.");
         }
 
@@ -56,45 +68,10 @@ public class FriendService {
 
     @Transactional
     public void deleteFriend(String userFrn, String friendFrn) {
-        User user = userRepository.findById(userFrn)
-                .orElseThrow(() -> new FlashDashException(ErrorCode.E404002, "User not found"));
-        User friend = userRepository.findById(friendFrn)
-                .orElseThrow(() -> new FlashDashException(ErrorCode.E404002, "Friend not found"));
-
-        if (!user.getFriendsFrnList().contains(friendFrn)) {
+        if (friendshipRepository.deleteFriendship(userFrn, friendFrn) == 0) {
             throw new FlashDashException(ErrorCode.E404005, "This user is not your friend.");
         }
 
-        removeFriendship(user, friend);
-
         activityService.logUserActivity(userFrn, friendFrn, ActivityTypeEnum.FRIEND_DELETED);
     }
-
-    @Transactional
-    public void removeAllFriends(String userFrn) {
-        User user = userRepository.findById(userFrn)
-                .orElseThrow(() -> new FlashDashException(ErrorCode.E404002, "User not found"));
-
-        List<String> friendsList = user.getFriendsFrnList();
-
-        for (String friendFrn : friendsList) {
-            deleteFriend(userFrn, friendFrn);
-        }
-
-        userRepository.save(user);
-    }
-
-    private void removeFriendship(User user, User friend) {
-        List<String> userFriends = user.getFriendsFrnList();
-        List<String> friendFriends = friend.getFriendsFrnList();
-
-        userFriends.remove(friend.getUserFrn());
-        friendFriends.remove(user.getUserFrn());
-
-        user.setFriendsFrnList(userFriends);
-        friend.setFriendsFrnList(friendFriends);
-
-        userRepository.save(user);
-        userRepository.save(friend);
-    }
 }
@@ -5,13 +5,15 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.flashdash.core.exception.ErrorCode;
 import com.flashdash.core.exception.FlashDashException;
 import com.flashdash.core.model.GameSession;
+import com.flashdash.core.model.GameSessionSummary;
 import com.flashdash.core.model.GameSessionStatus;
 import com.flashdash.core.model.Question;
-import com.flashdash.core.model.User;
 import com.flashdash.core.repository.GameSessionRepository;
-import com.flashdash.core.repository.UserRepository;
 import com.flashdash.core.service.api.ActivityService;
+import com.flashdash.core.utils.CursorPage;
 import com.flashdash.core.utils.FrnGenerator;
+import com.flashdash.core.utils.PageCursor;
+import com.flashdash.core.utils.Pagination;
 import com.flashdash.core.utils.ResourceType;
 import com.p4r1nc3.flashdash.activity.model.LogActivityRequest.ActivityTypeEnum;
 import com.p4r1nc3.flashdash.core.model.GameSessionDetailsResponse;
@@ -19,6 +21,7 @@ import com.p4r1nc3.flashdash.core.model.QuestionRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -35,19 +38,25 @@ public class  GameSessionService {
     private final ObjectMapper objectMapper;
     private final ActivityService activityService;
     private final QuestionService questionService;
+    private final Pagination pagination;
     private final GameSessionRepository gameSessionRepository;
-    private final UserRepository userRepository;
+    private final UserStatsAccumulator userStatsAccumulator;
+    private final LeaderboardIndex leaderboardIndex;
 
     public GameSessionService(ObjectMapper objectMapper,
                               ActivityService activityService,
                               QuestionService questionService,
+                              Pagination pagination,
                               GameSessionRepository gameSessionRepository,
-                              UserRepository userRepository) {
+                              UserStatsAccumulator userStatsAccumulator,
+                              LeaderboardIndex leaderboardIndex) {
         this.objectMapper = objectMapper;
         this.activityService = activityService;
         this.questionService = questionService;
+        this.pagination = pagination;
         this.gameSessionRepository = gameSessionRepository;
-        this.userRepository = userRepository;
+        this.userStatsAccumulator = userStatsAccumulator;
+        this.leaderboardIndex = leaderboardIndex;
     }
 
     public List<Question> startGameSession(String deckFrn, String userFrn) {
@@ -142,44 +151,38 @@ public class  GameSessionService {
 
         gameSessionRepository.save(gameSession);
 
-        User user = userRepository.findByUserFrn(userFrn)
-                .orElseThrow(() -> {
-                    logger.warn("User with userFrn {} not found", userFrn);
-                    return new FlashDashException(
-                            ErrorCode.E404001,
-                            "User with userFrn " + userFrn + " not found."
-                    );
-                });
-
-        logger.info("User found with userFrn: {}.", userFrn);
-
-        user.setGamesPlayed(user.getGamesPlayed() + 1);
-        user.setPoints(user.getPoints() + score);
-        user.setStudyTime(user.getStudyTime().plus(duration));
-        userRepository.save(user);
+        userStatsAccumulator.recordGame(userFrn, score, duration, gameSession.getUpdatedAt());
+        leaderboardIndex.recordGame(userFrn, score, duration);
 
         activityService.logUserActivity(userFrn, gameSession.getGameSessionFrn(), ActivityTypeEnum.GAME_FINISHED);
 
         return gameSession;
     }
 
-    public List<GameSession> getGameSessions(String deckFrn, String userFrn) {
-        return gameSessionRepository.findAllByDeckFrnAndUserFrnAndStatus(deckFrn, userFrn, GameSessionStatus.FINISHED.toString());
+    @Transactional(readOnly = true)
+    public CursorPage<GameSessionSummary> getGameSessions(String deckFrn, String userFrn, String pageToken, Integer pageSize) {
+        PageCursor cursor = PageCursor.decode(pageToken);
+        int size = pagination.pageSize(pageSize);
+        List<GameSessionSummary> gameSessions = gameSessionRepository.findPageByDeckFrnAndUserFrnAndStatus(
+                deckFrn, userFrn, GameSessionStatus.FINISHED.toString(), cursor.createdAt(), cursor.frn(), pagination.limit(size));
+        return pagination.toPage(gameSessions, size, this::cursorOf);
     }
 
+    @Transactional(readOnly = true)
     public GameSession getGameSession(String deckFrn, String gameSessionFrn, String userFrn) {
         return gameSessionRepository.findByDeckFrnAndGameSessionFrnAndUserFrnAndStatus(deckFrn, gameSessionFrn, userFrn, GameSessionStatus.FINISHED.toString())
                 .orElseThrow(() -> new FlashDashException(ErrorCode.E404006, "Game session not found"));
     }
 
-    public List<GameSession> getAllGameSessions(String userFrn) {
-        return gameSessionRepository.findAllByUserFrn(userFrn);
+    @Transactional(readOnly = true)
+    public CursorPage<GameSessionSummary> getAllGameSessions(String userFrn, String pageToken, Integer pageSize) {
+        PageCursor cursor = PageCursor.decode(pageToken);
+        int size = pagination.pageSize(pageSize);
+        List<GameSessionSummary> gameSessions = gameSessionRepository.findPageByUserFrn(userFrn, cursor.createdAt(), cursor.frn(), pagination.limit(size));
+        return pagination.toPage(gameSessions, size, this::cursorOf);
     }
 
-    public void removeAllGameSessionsForUser(String userFrn) {
-        List<GameSession> userSessions = gameSessionRepository.findAllByUserFrn(userFrn);
-        if (!userSessions.isEmpty()) {
-            gameSessionRepository.deleteAll(userSessions);
-        }
+    private PageCursor cursorOf(GameSessionSummary gameSession) {
+        return new PageCursor(gameSession.createdAt(), gameSession.gameSessionFrn());
     }
 }
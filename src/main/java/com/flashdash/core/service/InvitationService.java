@@ -3,12 +3,17 @@ package com.flashdash.core.service;
 import com.flashdash.core.exception.ErrorCode;
 import com.flashdash.core.exception.FlashDashException;
 import com.flashdash.core.model.FriendInvitation;
+import com.flashdash.core.model.Friendship;
 import com.flashdash.core.model.User;
 import com.flashdash.core.repository.FriendInvitationRepository;
+import com.flashdash.core.repository.FriendshipRepository;
 import com.flashdash.core.repository.UserRepository;
 import com.flashdash.core.service.api.ActivityService;
 import com.flashdash.core.service.api.NotificationService;
+import com.flashdash.core.utils.CursorPage;
 import com.flashdash.core.utils.FrnGenerator;
+import com.flashdash.core.utils.PageCursor;
+import com.flashdash.core.utils.Pagination;
 import com.flashdash.core.utils.ResourceType;
 import com.p4r1nc3.flashdash.activity.model.LogActivityRequest;
 import org.springframework.stereotype.Service;
@@ -22,17 +27,23 @@ public class InvitationService {
 
     private final ActivityService activityService;
     private final NotificationService notificationService;
+    private final Pagination pagination;
     private final UserRepository userRepository;
     private final FriendInvitationRepository friendInvitationRepository;
+    private final FriendshipRepository friendshipRepository;
 
     public InvitationService(ActivityService activityService,
                              NotificationService notificationService,
+                             Pagination pagination,
                              UserRepository userRepository,
-                             FriendInvitationRepository friendInvitationRepository) {
+                             FriendInvitationRepository friendInvitationRepository,
+                             FriendshipRepository friendshipRepository) {
         this.activityService = activityService;
         this.notificationService = notificationService;
+        this.pagination = pagination;
         this.userRepository = userRepository;
         this.friendInvitationRepository = friendInvitationRepository;
+        this.friendshipRepository = friendshipRepository;
     }
 
     public void sendFriendInvitation(String senderFrn, String recipientEmail) {
@@ -62,12 +73,26 @@ public class InvitationService {
         notificationService.sendFriendInviteEmail(recipientFrn);
     }
 
-    public List<FriendInvitation> getReceivedFriendInvitations(String recipientFrn) {
-        return friendInvitationRepository.findAllBySentToFrnAndStatus(recipientFrn, "PENDING");
+    @Transactional(readOnly = true)
+    public CursorPage<FriendInvitation> getReceivedFriendInvitations(String recipientFrn, String pageToken, Integer pageSize) {
+        PageCursor cursor = PageCursor.decode(pageToken);
+        int size = pagination.pageSize(pageSize);
+        List<FriendInvitation> invitations = friendInvitationRepository.findPageBySentToFrnAndStatus(
+                recipientFrn, "PENDING", cursor.createdAt(), cursor.frn(), pagination.limit(size));
+        return pagination.toPage(invitations, size, this::cursorOf);
     }
 
-    public List<FriendInvitation> getSentFriendInvitations(String senderFrn) {
-        return friendInvitationRepository.findAllBySentByFrnAndStatus(senderFrn, "PENDING");
+    @Transactional(readOnly = true)
+    public CursorPage<FriendInvitation> getSentFriendInvitations(String senderFrn, String pageToken, Integer pageSize) {
+        PageCursor cursor = PageCursor.decode(pageToken);
+        int size = pagination.pageSize(pageSize);
+        List<FriendInvitation> invitations = friendInvitationRepository.findPageBySentByFrnAndStatus(
+                senderFrn, "PENDING", cursor.createdAt(), cursor.frn(), pagination.limit(size));
+        return pagination.toPage(invitations, size, this::cursorOf);
+    }
+
+    private PageCursor cursorOf(FriendInvitation invitation) {
+        return new PageCursor(invitation.getCreatedAt(), invitation.getInvitationFrn());
     }
 
     @Transactional
@@ -105,21 +130,20 @@ public class InvitationService {
     }
 
     private void addFriendship(String userFrn, String friendFrn) {
-        User user = userRepository.findById(userFrn)
-                .orElseThrow(() -> new FlashDashException(ErrorCode.E404002, "User not found"));
-        User friend = userRepository.findById(friendFrn)
-                .orElseThrow(() -> new FlashDashException(ErrorCode.E404002, "Friend not found"));
-
-        List<String> userFriends = user.getFriendsFrnList();
-        List<String> friendFriends = friend.getFriendsFrnList();
-
-        if (!userFriends.contains(friendFrn)) userFriends.add(friendFrn);
-        if (!friendFriends.contains(userFrn)) friendFriends.add(userFrn);
+        if (!userRepository.existsById(userFrn)) {
+            throw new FlashDashException(ErrorCode.E404002, "User not found");
+        }
+        if (!userRepository.existsById(friendFrn)) {
+            throw new FlashDashException(ErrorCode.E404002, "Friend not found");
+        }
 
-        user.setFriendsFrnList(userFriends);
-        friend.setFriendsFrnList(friendFriends);
+        LocalDateTime now = LocalDateTime.now();
 
-        userRepository.save(user);
-        userRepository.save(friend);
+        if (!friendshipRepository.existsByUserFrnAndFriendFrn(userFrn, friendFrn)) {
+            friendshipRepository.save(new Friendship(userFrn, friendFrn, now));
+        }
+        if (!friendshipRepository.existsByUserFrnAndFriendFrn(friendFrn, userFrn)) {
+            friendshipRepository.save(new Friendship(friendFrn, userFrn, now));
+        }
     }
 }
@@ -0,0 +1,113 @@
+package com.flashdash.core.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flashdash.core.model.LeaderboardCriterion;
+import com.flashdash.core.utils.BoundedTtlMap;
+import com.p4r1nc3.flashdash.core.model.LeaderboardEntry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived cache of global leaderboard responses, shared by every user polling the same criteria,
+ * window and limit. Only one computation per parameter set is in flight at a time; concurrent requests
+ * for it wait for that result instead of computing it again. Every cached response carries an ETag
+ * derived from its serialized form, so clients polling an unchanged leaderboard get 304 Not Modified.
+ */
+@Component
+public class LeaderboardCache {
+
+    private final ObjectMapper objectMapper;
+    private final BoundedTtlMap<Key, CachedLeaderboard> cache;
+    private final Map<Key, CompletableFuture<CachedLeaderboard>> inFlight = new ConcurrentHashMap<>();
+
+    public LeaderboardCache(ObjectMapper objectMapper,
+                            @Value("${leaderboard-cache.ttl-seconds}") long ttlSeconds,
+                            @Value("${leaderboard-cache.max-size}") int maxSize) {
+        this.objectMapper = objectMapper;
+        this.cache = new BoundedTtlMap<>(ttlSeconds * 1000, maxSize);
+    }
+
+    public CachedLeaderboard get(String criteria, String window, int limit, Supplier<List<LeaderboardEntry>> compute) {
+        Key key = new Key(LeaderboardCriterion.from(criteria), window.toLowerCase(Locale.ROOT), limit);
+
+        CachedLeaderboard cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<CachedLeaderboard> computation = new CompletableFuture<>();
+        CompletableFuture<CachedLeaderboard> running = inFlight.putIfAbsent(key, computation);
+        if (running != null) {
+            return await(running);
+        }
+
+        try {
+            // Another request may have finished the computation between the lookup and taking it over
+            cached = cache.get(key);
+            CachedLeaderboard leaderboard = cached != null ? cached : toCached(compute.get());
+            cache.put(key, leaderboard);
+            computation.complete(leaderboard);
+            return leaderboard;
+        } catch (RuntimeException e) {
+            computation.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, computation);
+        }
+    }
+
+    private CachedLeaderboard await(CompletableFuture<CachedLeaderboard> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private CachedLeaderboard toCached(List<LeaderboardEntry> entries) {
+        try {
+            byte[] serialized = objectMapper.writeValueAsBytes(entries);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(serialized);
+            return new CachedLeaderboard(entries, "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"");
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to compute leaderboard ETag", e);
+        }
+    }
+
+    public record CachedLeaderboard(List<LeaderboardEntry> entries, String eTag) {
+
+        /**
+         * Whether an If-None-Match header lists this response; weak validators match as well.
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null) {
+                return false;
+            }
+            for (String tag : ifNoneMatch.split(",")) {
+                String trimmed = tag.trim();
+                if (trimmed.equals("*") || trimmed.equals(eTag) || trimmed.equals("W/" + eTag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private record Key(LeaderboardCriterion criterion, String window, int limit) {
+    }
+}
@@ -0,0 +1,223 @@
+package com.flashdash.core.service;
+
+import com.flashdash.core.model.LeaderboardCriterion;
+import com.flashdash.core.model.LeaderboardSlice;
+import com.flashdash.core.model.User;
+import com.flashdash.core.model.UserRanking;
+import com.flashdash.core.repository.UserRepository;
+import com.flashdash.core.utils.OrderStatisticTree;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * In-memory ranking of every user per leaderboard criterion, so the global top N and the rank of a single
+ * user are read from an order-statistic tree in logarithmic time instead of loading and sorting all users.
+ * The index is built from the database on startup and kept current by the finished games, streak
+ * refreshes, registrations and deletions of this instance. Changes made by other instances are only picked up
+ * by the periodic rebuild, so they show up at the latest one {@code leaderboard-index.rebuild-interval-ms} plus
+ * the duration of a rebuild after they were flushed to the database.
+ * Until the first build completes, or when the index is disabled, the leaderboard is read from the database.
+ */
+@Service
+public class LeaderboardIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaderboardIndex.class);
+
+    private final UserRepository userRepository;
+    private final UserStatsAccumulator userStatsAccumulator;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    // Users changed while a rebuild reads the database, their entries are carried over from the old index
+    private final Set<String> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private final Object rebuildLock = new Object();
+
+    private volatile Index index;
+    private volatile boolean rebuilding;
+
+    public LeaderboardIndex(UserRepository userRepository,
+                            UserStatsAccumulator userStatsAccumulator,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${leaderboard-index.enabled}") boolean enabled) {
+        this.userRepository = userRepository;
+        this.userStatsAccumulator = userStatsAccumulator;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+    }
+
+    public boolean isReady() {
+        return index != null;
+    }
+
+    public List<UserRanking> top(LeaderboardCriterion criterion, int limit) {
+        Index current = index;
+        current.lock.readLock().lock();
+        try {
+            return current.sorted.get(criterion).range(0, limit);
+        } finally {
+            current.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The rank of the user together with up to {@code neighbours} users directly above and below them,
+     * or empty if the user is not in the index.
+     */
+    public Optional<LeaderboardSlice> around(LeaderboardCriterion criterion, String userFrn, int neighbours) {
+        Index current = index;
+        current.lock.readLock().lock();
+        try {
+            UserRanking ranking = current.rankings.get(userFrn);
+            if (ranking == null) {
+                return Optional.empty();
+            }
+            OrderStatisticTree<UserRanking> sorted = current.sorted.get(criterion);
+            int rank = sorted.rankOf(ranking);
+            int from = Math.max(0, rank - neighbours);
+            return Optional.of(new LeaderboardSlice(from + 1, sorted.range(from, rank + neighbours + 1 - from)));
+        } finally {
+            current.lock.readLock().unlock();
+        }
+    }
+
+    public void add(User user) {
+        update(user.getUserFrn(), current -> userStatsAccumulator.applyPending(UserRanking.of(user)), true);
+    }
+
+    public void recordGame(String userFrn, int points, Duration studyTime) {
+        update(userFrn, current -> current.withStats(1, points, studyTime), false);
+    }
+
+    public void updateStreak(String userFrn, int strike) {
+        update(userFrn, current -> current.withStrike(strike), false);
+    }
+
+    public void remove(String userFrn) {
+        update(userFrn, current -> null, false);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        if (!enabled) {
+            logger.info("Leaderboard index is disabled, leaderboards are read from the database.");
+            return;
+        }
+        synchronized (rebuildLock) {
+            rebuilding = true;
+            changedDuringRebuild.clear();
+            try {
+                Index built = new Index();
+                transactionTemplate.executeWithoutResult(status -> {
+                    try (Stream<UserRanking> rankings = userRepository.streamAllRankings()) {
+                        rankings.map(userStatsAccumulator::applyPending).forEach(built::put);
+                    }
+                });
+
+                Index previous = index;
+                if (previous == null) {
+                    index = built;
+                } else {
+                    // Held until the swap, so no update lands in the old index after its entry was carried over
+                    previous.lock.writeLock().lock();
+                    try {
+                        for (String userFrn : changedDuringRebuild) {
+                            UserRanking ranking = previous.rankings.get(userFrn);
+                            built.remove(userFrn);
+                            if (ranking != null) {
+                                built.put(ranking);
+                            }
+                        }
+                        index = built;
+                    } finally {
+                        previous.lock.writeLock().unlock();
+                    }
+                }
+                logger.info("Leaderboard index built with {} users.", built.rankings.size());
+            } catch (RuntimeException e) {
+                logger.error("Failed to build leaderboard index.", e);
+            } finally {
+                rebuilding = false;
+            }
+        }
+    }
+
+    @Scheduled(initialDelayString = "${leaderboard-index.rebuild-interval-ms}", fixedDelayString = "${leaderboard-index.rebuild-interval-ms}")
+    public void rebuild() {
+        if (index != null) {
+            build();
+        }
+    }
+
+    private void update(String userFrn, UnaryOperator<UserRanking> change, boolean createIfMissing) {
+        while (true) {
+            Index current = index;
+            if (current == null) {
+                return;
+            }
+            if (rebuilding) {
+                changedDuringRebuild.add(userFrn);
+            }
+            current.lock.writeLock().lock();
+            try {
+                if (index != current) {
+                    // A rebuild swapped the index while this update waited, apply it to the new one instead
+                    continue;
+                }
+                UserRanking ranking = current.rankings.get(userFrn);
+                if (ranking == null && !createIfMissing) {
+                    return;
+                }
+                UserRanking updated = change.apply(ranking);
+                current.remove(userFrn);
+                if (updated != null) {
+                    current.put(updated);
+                }
+                return;
+            } finally {
+                current.lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private static final class Index {
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<String, UserRanking> rankings = new HashMap<>();
+        private final Map<LeaderboardCriterion, OrderStatisticTree<UserRanking>> sorted = new EnumMap<>(LeaderboardCriterion.class);
+
+        private Index() {
+            for (LeaderboardCriterion criterion : LeaderboardCriterion.values()) {
+                sorted.put(criterion, new OrderStatisticTree<>(criterion.comparator()));
+            }
+        }
+
+        private void put(UserRanking ranking) {
+            rankings.put(ranking.userFrn(), ranking);
+            sorted.values().forEach(set -> set.add(ranking));
+        }
+
+        private void remove(String userFrn) {
+            UserRanking ranking = rankings.remove(userFrn);
+            if (ranking != null) {
+                sorted.values().forEach(set -> set.remove(ranking));
+            }
+        }
+    }
+}
@@ -1,127 +1,239 @@
 package com.flashdash.core.service;
 
+import com.flashdash.core.exception.ErrorCode;
+import com.flashdash.core.exception.FlashDashException;
+import com.flashdash.core.model.LeaderboardCriterion;
+import com.flashdash.core.model.LeaderboardSlice;
+import com.flashdash.core.model.StatsBucket;
 import com.flashdash.core.model.User;
+import com.flashdash.core.model.UserRanking;
 import com.flashdash.core.repository.UserRepository;
 import com.flashdash.core.utils.EntityToResponseMapper;
 import com.p4r1nc3.flashdash.core.model.LeaderboardEntry;
 import com.p4r1nc3.flashdash.core.model.UserSummary;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 public class LeaderboardService {
 
     private static final Logger logger = LoggerFactory.getLogger(LeaderboardService.class);
+    private static final int MAX_NEIGHBOURS = 50;
 
     private final EntityToResponseMapper entityToResponseMapper;
-    private final UserService userService;
     private final UserRepository userRepository;
-
+    private final UserStatsAccumulator userStatsAccumulator;
+    private final LeaderboardIndex leaderboardIndex;
+    private final StatsRollupService statsRollupService;
 
     public LeaderboardService(EntityToResponseMapper entityToResponseMapper,
-                              UserService userService,
-                              UserRepository userRepository) {
+                              UserRepository userRepository,
+                              UserStatsAccumulator userStatsAccumulator,
+                              LeaderboardIndex leaderboardIndex,
+                              StatsRollupService statsRollupService) {
         this.entityToResponseMapper = entityToResponseMapper;
-        this.userService = userService;
         this.userRepository = userRepository;
+        this.userStatsAccumulator = userStatsAccumulator;
+        this.leaderboardIndex = leaderboardIndex;
+        this.statsRollupService = statsRollupService;
     }
 
-    public List<LeaderboardEntry> getLeaderboard(String userFrn, String criteria, boolean friendsOnly, int limit) {
-        logger.info("Retrieving leaderboard with criteria: {}, friendsOnly: {}, limit: {}",
-                criteria, friendsOnly, limit);
+    @Transactional(readOnly = true)
+    public List<LeaderboardEntry> getLeaderboard(String userFrn, String criteria, String window, boolean friendsOnly, int limit) {
+        logger.info("Retrieving leaderboard with criteria: {}, window: {}, friendsOnly: {}, limit: {}",
+                criteria, window, friendsOnly, limit);
+
+        LeaderboardCriterion criterion = LeaderboardCriterion.from(criteria);
+        Optional<StatsBucket> bucket = bucketOf(window, criterion);
+        List<UserRanking> rankings;
+
+        if (bucket.isPresent()) {
+            rankings = friendsOnly
+                    ? statsRollupService.topOfSelfAndFriends(bucket.get(), criterion, userFrn, limit)
+                    : statsRollupService.top(bucket.get(), criterion, limit);
+        } else if (friendsOnly) {
+            List<User> users = userRepository.findSelfAndFriendsByUserFrn(userFrn);
+            logger.info("Retrieved {} friends for leaderboard", users.size());
+            rankings = sortUsersByCriteria(users, criterion, limit);
+        } else if (leaderboardIndex.isReady()) {
+            rankings = leaderboardIndex.top(criterion, limit);
+        } else {
+            rankings = findTopRankings(criterion, limit);
+            logger.info("Retrieved {} users for global leaderboard", rankings.size());
+        }
 
-        List<User> users;
+        List<LeaderboardEntry> leaderboard = convertToLeaderboardEntries(rankings, criterion, 1);
 
-        if (friendsOnly) {
-            User currentUser = userService.getCurrentUser(userFrn);
-            List<String> friendFrns = currentUser.getFriendsFrnList();
+        logger.info("Returning leaderboard with {} entries", leaderboard.size());
+        return leaderboard;
+    }
 
-            friendFrns.add(userFrn);
+    @Transactional(readOnly = true)
+    public List<LeaderboardEntry> getLeaderboardAroundUser(String userFrn, String criteria, int neighbours) {
+        logger.info("Retrieving leaderboard position of user {} with criteria: {}, neighbours: {}",
+                userFrn, criteria, neighbours);
 
-            users = userRepository.findByUserFrnIn(friendFrns);
-            logger.info("Retrieved {} friends for leaderboard", users.size());
-        } else {
-            users = userRepository.findAll();
-            logger.info("Retrieved {} users for global leaderboard", users.size());
+        if (neighbours < 0 || neighbours > MAX_NEIGHBOURS) {
+            logger.warn("Invalid number of neighbours: {}", neighbours);
+            throw new FlashDashException(ErrorCode.E400008, "Neighbours must be between 0 and " + MAX_NEIGHBOURS + ".");
         }
 
-        List<User> sortedUsers = sortUsersByCriteria(users, criteria);
+        LeaderboardCriterion criterion = LeaderboardCriterion.from(criteria);
+        LeaderboardSlice slice;
 
-        List<LeaderboardEntry> leaderboard = convertToLeaderboardEntries(sortedUsers, criteria)
-                .stream()
-                .limit(limit)
-                .collect(Collectors.toList());
+        if (leaderboardIndex.isReady()) {
+            slice = leaderboardIndex.around(criterion, userFrn, neighbours)
+                    .orElseGet(() -> {
+                        // Registered on another instance since the last rebuild
+                        leaderboardIndex.add(findUser(userFrn));
+                        return leaderboardIndex.around(criterion, userFrn, neighbours).orElseThrow();
+                    });
+        } else {
+            slice = findSliceAround(criterion, UserRanking.of(findUser(userFrn)), neighbours);
+        }
 
-        logger.info("Returning leaderboard with {} entries", leaderboard.size());
+        List<LeaderboardEntry> leaderboard = convertToLeaderboardEntries(slice.rankings(), criterion, slice.firstRank());
+
+        logger.info("Returning {} leaderboard entries starting at rank {}", leaderboard.size(), slice.firstRank());
         return leaderboard;
     }
 
-    private List<User> sortUsersByCriteria(List<User> users, String criteria) {
-        Comparator<User> comparator;
-
-        switch (criteria.toLowerCase()) {
-            case "studytime":
-                comparator = Comparator.comparing(User::getStudyTime, Comparator.nullsLast(Comparator.naturalOrder())).reversed();
-                break;
-            case "gamesplayed":
-                comparator = Comparator.comparing(User::getGamesPlayed).reversed();
-                break;
-            case "streak":
-                comparator = Comparator.comparing(User::getStrike).reversed();
-                break;
-            case "points":
-            default:
-                comparator = Comparator.comparing(User::getPoints).reversed();
-                break;
+    private Optional<StatsBucket> bucketOf(String window, LeaderboardCriterion criterion) {
+        Optional<StatsBucket> bucket = switch (window.toLowerCase(Locale.ROOT)) {
+            case "all" -> Optional.empty();
+            case "day" -> Optional.of(StatsBucket.DAY);
+            case "week" -> Optional.of(StatsBucket.WEEK);
+            case "month" -> Optional.of(StatsBucket.MONTH);
+            default -> {
+                logger.warn("Invalid leaderboard window: {}", window);
+                throw new FlashDashException(ErrorCode.E400009, "Invalid leaderboard window " + window + ".");
+            }
+        };
+
+        if (bucket.isPresent() && criterion == LeaderboardCriterion.STREAK) {
+            logger.warn("Streak leaderboard requested for window: {}", window);
+            throw new FlashDashException(ErrorCode.E400009, "Streak leaderboard is only available for all time.");
+        }
+        return bucket;
+    }
+
+    private User findUser(String userFrn) {
+        return userRepository.findByUserFrn(userFrn)
+                .orElseThrow(() -> {
+                    logger.warn("User with userFrn {} not found", userFrn);
+                    return new FlashDashException(ErrorCode.E404001, "User with userFrn " + userFrn + " not found.");
+                });
+    }
+
+    private List<UserRanking> findTopRankings(LeaderboardCriterion criterion, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        Limit top = Limit.of(limit);
+        List<UserRanking> rankings = switch (criterion) {
+            case POINTS -> userRepository.findTopRankingsByPoints(top);
+            case GAMES_PLAYED -> userRepository.findTopRankingsByGamesPlayed(top);
+            case STREAK -> userRepository.findTopRankingsByStrike(top);
+            case STUDY_TIME -> userRepository.findTopRankingsByStudyTime(top);
+        };
+
+        // Stats not flushed yet may reorder the rows, ties stay in the order of the query
+        return rankings.stream()
+                .map(userStatsAccumulator::applyPending)
+                .sorted(criterion.comparator())
+                .collect(Collectors.toList());
+    }
+
+    private LeaderboardSlice findSliceAround(LeaderboardCriterion criterion, UserRanking user, int neighbours) {
+        long ahead = countRankedAhead(criterion, user);
+        List<UserRanking> rankings = new ArrayList<>();
+        if (neighbours > 0) {
+            rankings.addAll(findRankingsAhead(criterion, user, Limit.of(neighbours)));
+            Collections.reverse(rankings);
+        }
+        int firstRank = (int) ahead - rankings.size() + 1;
+        rankings.add(user);
+        if (neighbours > 0) {
+            rankings.addAll(findRankingsBehind(criterion, user, Limit.of(neighbours)));
         }
 
+        // Ranked by the stored stats, stats not flushed yet may reorder the rows
+        return new LeaderboardSlice(firstRank, rankings.stream()
+                .map(userStatsAccumulator::applyPending)
+                .sorted(criterion.comparator())
+                .collect(Collectors.toList()));
+    }
+
+    private long countRankedAhead(LeaderboardCriterion criterion, UserRanking user) {
+        return switch (criterion) {
+            case POINTS -> userRepository.countRankedAheadByPoints(user.points(), user.userFrn());
+            case GAMES_PLAYED -> userRepository.countRankedAheadByGamesPlayed(user.gamesPlayed(), user.userFrn());
+            case STREAK -> userRepository.countRankedAheadByStrike(user.strike(), user.userFrn());
+            case STUDY_TIME -> userRepository.countRankedAheadByStudyTime(user.studyTime(), user.userFrn());
+        };
+    }
+
+    /**
+     * Up to {@code limit} users directly ahead of the user, the closest one first.
+     */
+    private List<UserRanking> findRankingsAhead(LeaderboardCriterion criterion, UserRanking user, Limit limit) {
+        return switch (criterion) {
+            case POINTS -> userRepository.findRankingsAheadByPoints(user.points(), user.userFrn(), limit);
+            case GAMES_PLAYED -> userRepository.findRankingsAheadByGamesPlayed(user.gamesPlayed(), user.userFrn(), limit);
+            case STREAK -> userRepository.findRankingsAheadByStrike(user.strike(), user.userFrn(), limit);
+            case STUDY_TIME -> userRepository.findRankingsAheadByStudyTime(user.studyTime(), user.userFrn(), limit);
+        };
+    }
+
+    private List<UserRanking> findRankingsBehind(LeaderboardCriterion criterion, UserRanking user, Limit limit) {
+        return switch (criterion) {
+            case POINTS -> userRepository.findRankingsBehindByPoints(user.points(), user.userFrn(), limit);
+            case GAMES_PLAYED -> userRepository.findRankingsBehindByGamesPlayed(user.gamesPlayed(), user.userFrn(), limit);
+            case STREAK -> userRepository.findRankingsBehindByStrike(user.strike(), user.userFrn(), limit);
+            case STUDY_TIME -> userRepository.findRankingsBehindByStudyTime(user.studyTime(), user.userFrn(), limit);
+        };
+    }
+
+    private List<UserRanking> sortUsersByCriteria(List<User> users, LeaderboardCriterion criterion, int limit) {
         return users.stream()
-                .sorted(comparator)
+                .map(UserRanking::of)
+                .map(userStatsAccumulator::applyPending)
+                .sorted(criterion.comparator())
+                .limit(limit)
                 .collect(Collectors.toList());
     }
 
-    private List<LeaderboardEntry> convertToLeaderboardEntries(List<User> sortedUsers, String criteria) {
+    private List<LeaderboardEntry> convertToLeaderboardEntries(List<UserRanking> rankings, LeaderboardCriterion criterion, int firstRank) {
         List<LeaderboardEntry> entries = new ArrayList<>();
 
-        for (int i = 0; i < sortedUsers.size(); i++) {
-            User user = sortedUsers.get(i);
+        for (int i = 0; i < rankings.size(); i++) {
+            UserRanking ranking = rankings.get(i);
 
-            // Create UserSummary from User
+            // Create UserSummary from the ranked user
             UserSummary userSummary = new UserSummary()
-                    .userId(entityToResponseMapper.extractId(user.getUserFrn()))
-                    .userFrn(user.getUserFrn())
-                    .username(user.getUsername())
-                    .firstName(user.getFirstName())
-                    .lastName(user.getLastName())
-                    .email(user.getEmail());
+                    .userId(entityToResponseMapper.extractId(ranking.userFrn()))
+                    .userFrn(ranking.userFrn())
+                    .username(ranking.username())
+                    .firstName(ranking.firstName())
+                    .lastName(ranking.lastName())
+                    .email(ranking.email());
 
             // Create LeaderboardEntry with UserSummary
             LeaderboardEntry entry = new LeaderboardEntry()
-                    .rank(i + 1)
-                    .user(userSummary);
-
-            // Set score based on criteria
-            switch (criteria.toLowerCase()) {
-                case "studytime":
-                    entry.score(user.getStudyTime() != null ? (int) user.getStudyTime().toMinutes() : 0);
-                    break;
-                case "gamesplayed":
-                    entry.score(user.getGamesPlayed());
-                    break;
-                case "streak":
-                    entry.score(user.getStrike());
-                    break;
-                case "points":
-                default:
-                    entry.score(user.getPoints());
-                    break;
-            }
+                    .rank(firstRank + i)
+                    .user(userSummary)
+                    .score(criterion.score(ranking));
 
             entries.add(entry);
         }
@@ -5,7 +5,10 @@ import com.flashdash.core.exception.FlashDashException;
 import com.flashdash.core.model.Question;
 import com.flashdash.core.repository.QuestionRepository;
 import com.flashdash.core.service.api.ActivityService;
+import com.flashdash.core.utils.CursorPage;
 import com.flashdash.core.utils.FrnGenerator;
+import com.flashdash.core.utils.PageCursor;
+import com.flashdash.core.utils.Pagination;
 import com.flashdash.core.utils.ResourceType;
 import com.p4r1nc3.flashdash.activity.model.LogActivityRequest.ActivityTypeEnum;
 import com.p4r1nc3.flashdash.core.model.GenerateQuestionsRequest;
@@ -13,6 +16,7 @@ import com.p4r1nc3.flashdash.core.model.QuestionRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
@@ -26,15 +30,18 @@ public class QuestionService {
     private final ActivityService activityService;
     private final GenerationService generationService;
     private final DeckService deckService;
+    private final Pagination pagination;
     private final QuestionRepository questionRepository;
 
     public QuestionService(ActivityService activityService,
                            GenerationService generationService,
                            DeckService deckService,
+                           Pagination pagination,
                            QuestionRepository questionRepository) {
         this.activityService = activityService;
         this.generationService = generationService;
         this.deckService = deckService;
+        this.pagination = pagination;
         this.questionRepository = questionRepository;
     }
 
@@ -123,6 +130,7 @@ public class QuestionService {
         return savedQuestions;
     }
 
+    @Transactional(readOnly = true)
     public List<Question> getAllQuestionsInDeck(String deckFrn, String userFrn) {
         logger.info("Fetching all questions for deck FRN: {} and user FRN: {}", deckFrn, userFrn);
         deckService.getDeckByFrn(deckFrn, userFrn);
@@ -131,6 +139,19 @@ public class QuestionService {
         return questions;
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<Question> getQuestionsInDeck(String deckFrn, String userFrn, String pageToken, Integer pageSize) {
+        logger.info("Fetching questions for deck FRN: {} and user FRN: {}", deckFrn, userFrn);
+        PageCursor cursor = PageCursor.decode(pageToken);
+        int size = pagination.pageSize(pageSize);
+        deckService.getDeckByFrn(deckFrn, userFrn);
+        List<Question> questions = questionRepository.findPageByDeckFrn(deckFrn, cursor.createdAt(), cursor.frn(), pagination.limit(size));
+        CursorPage<Question> page = pagination.toPage(questions, size, question -> new PageCursor(question.getCreatedAt(), question.getQuestionFrn()));
+        logger.info("Retrieved {} questions for deck FRN: {}", page.items().size(), deckFrn);
+        return page;
+    }
+
+    @Transactional(readOnly = true)
     public Question getQuestionByFrn(String deckFrn, String questionFrn, String userFrn) {
         logger.info("Fetching question FRN: {} from deck FRN: {} for user FRN: {}", questionFrn, deckFrn, userFrn);
         deckService.getDeckByFrn(deckFrn, userFrn);
@@ -0,0 +1,126 @@
+package com.flashdash.core.service;
+
+import com.flashdash.core.config.JwtManager;
+import com.flashdash.core.config.TokenVersionCache;
+import com.flashdash.core.exception.ErrorCode;
+import com.flashdash.core.exception.FlashDashException;
+import com.flashdash.core.model.RefreshToken;
+import com.flashdash.core.repository.RefreshTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * Issues and rotates long-lived refresh tokens. Only a SHA-256 hash of each token is stored, together
+ * with the claims needed to sign a new access token, so refreshing requires a single primary-key lookup
+ * and no password hashing or downstream calls. Tokens stop working once the user's token version moves
+ * on (password change) and are deleted on logout, password change and account deletion.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+    private static final int TOKEN_BYTES = 32;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final JwtManager jwtManager;
+    private final TokenVersionCache tokenVersionCache;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Duration refreshTokenValidity;
+
+    public RefreshTokenService(JwtManager jwtManager,
+                               TokenVersionCache tokenVersionCache,
+                               RefreshTokenRepository refreshTokenRepository,
+                               @Value("${jwt.refresh-token.expiration-days}") long expirationDays) {
+        this.jwtManager = jwtManager;
+        this.tokenVersionCache = tokenVersionCache;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenValidity = Duration.ofDays(expirationDays);
+    }
+
+    public Duration getRefreshTokenValidity() {
+        return refreshTokenValidity;
+    }
+
+    /**
+     * Issues a refresh token carrying the same claims as the access token signed alongside it.
+     */
+    public String issue(String userFrn, String email, int tokenVersion) {
+        return create(userFrn, email, tokenVersion);
+    }
+
+    @Transactional
+    public RotatedTokens refresh(String refreshToken) {
+        RefreshToken stored = refreshTokenRepository.findById(hash(refreshToken))
+                .orElseThrow(() -> new FlashDashException(ErrorCode.E401001, "Invalid refresh token."));
+
+        if (stored.isExpired() || !tokenVersionCache.isCurrent(stored.getUserFrn(), stored.getTokenVersion())) {
+            logger.warn("Rejected expired or revoked refresh token for user {}", stored.getUserFrn());
+            throw new FlashDashException(ErrorCode.E401001, "Invalid refresh token.");
+        }
+
+        refreshTokenRepository.delete(stored);
+
+        String accessToken = jwtManager.generateToken(stored.getUserFrn(), stored.getEmail(), stored.getTokenVersion());
+        String rotatedRefreshToken = create(stored.getUserFrn(), stored.getEmail(), stored.getTokenVersion());
+        logger.info("Access token refreshed for user {}", stored.getUserFrn());
+
+        return new RotatedTokens(accessToken, rotatedRefreshToken);
+    }
+
+    public void revoke(String refreshToken) {
+        refreshTokenRepository.deleteById(hash(refreshToken));
+    }
+
+    public void revokeAll(String userFrn) {
+        refreshTokenRepository.deleteAllByUserFrn(userFrn);
+        logger.info("Revoked all refresh tokens for user {}", userFrn);
+    }
+
+    @Scheduled(cron = "${jwt.refresh-token.cleanup-cron}")
+    public void deleteExpiredTokens() {
+        refreshTokenRepository.deleteAllByExpiresAtBefore(LocalDateTime.now());
+    }
+
+    private String create(String userFrn, String email, int tokenVersion) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        LocalDateTime now = LocalDateTime.now();
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setTokenHash(hash(token));
+        refreshToken.setUserFrn(userFrn);
+        refreshToken.setEmail(email);
+        refreshToken.setTokenVersion(tokenVersion);
+        refreshToken.setCreatedAt(now);
+        refreshToken.setExpiresAt(now.plus(refreshTokenValidity));
+        refreshTokenRepository.save(refreshToken);
+
+        return token;
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public record RotatedTokens(String accessToken, String refreshToken) {
+    }
+}
@@ -0,0 +1,119 @@
+package com.flashdash.core.service;
+
+import com.flashdash.core.repository.UserRepository;
+import com.flashdash.core.repository.UserRepository.UserIdentity;
+import com.flashdash.core.utils.BloomFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * In-memory Bloom filters of every registered email and username, used to skip the uniqueness lookups
+ * during registration when a value has definitely never been used. A positive answer still has to be
+ * confirmed against the database, and the unique constraints on the users table remain the final
+ * arbiter. Until the filters are built, every value is reported as possibly taken.
+ * Deleted users cannot be removed from a Bloom filter, so the filters are rebuilt once enough users
+ * were deleted or more users were added than they were sized for.
+ */
+@Service
+public class RegistrationIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegistrationIndex.class);
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final double falsePositiveRate;
+    private final long minimumCapacity;
+    private final long rebuildAfterDeletions;
+    private final AtomicLong insertions = new AtomicLong();
+    private final AtomicLong deletions = new AtomicLong();
+
+    private volatile BloomFilter emails;
+    private volatile BloomFilter usernames;
+
+    public RegistrationIndex(UserRepository userRepository,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${registration-index.false-positive-rate}") double falsePositiveRate,
+                             @Value("${registration-index.minimum-capacity}") long minimumCapacity,
+                             @Value("${registration-index.rebuild-after-deletions}") long rebuildAfterDeletions) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.falsePositiveRate = falsePositiveRate;
+        this.minimumCapacity = minimumCapacity;
+        this.rebuildAfterDeletions = rebuildAfterDeletions;
+    }
+
+    public boolean mightContainEmail(String email) {
+        BloomFilter filter = emails;
+        return filter == null || filter.mightContain(normalizeEmail(email));
+    }
+
+    public boolean mightContainUsername(String username) {
+        BloomFilter filter = usernames;
+        return filter == null || filter.mightContain(username);
+    }
+
+    public void add(String email, String username) {
+        BloomFilter emailFilter = emails;
+        BloomFilter usernameFilter = usernames;
+        if (emailFilter != null && usernameFilter != null) {
+            emailFilter.put(normalizeEmail(email));
+            usernameFilter.put(username);
+            insertions.incrementAndGet();
+        }
+    }
+
+    public void onUserDeleted() {
+        deletions.incrementAndGet();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        try {
+            long count = userRepository.count();
+            long capacity = Math.max(minimumCapacity, count * 2);
+            BloomFilter emailFilter = new BloomFilter(capacity, falsePositiveRate);
+            BloomFilter usernameFilter = new BloomFilter(capacity, falsePositiveRate);
+
+            AtomicLong loaded = new AtomicLong();
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<UserIdentity> identities = userRepository.streamAllIdentities()) {
+                    identities.forEach(identity -> {
+                        emailFilter.put(normalizeEmail(identity.getEmail()));
+                        usernameFilter.put(identity.getUsername());
+                        loaded.incrementAndGet();
+                    });
+                }
+            });
+
+            insertions.set(loaded.get());
+            deletions.set(0);
+            emails = emailFilter;
+            usernames = usernameFilter;
+            logger.info("Registration index built with {} users (capacity {}).", loaded.get(), capacity);
+        } catch (RuntimeException e) {
+            logger.error("Failed to build registration index, uniqueness checks will use the database.", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${registration-index.check-interval-ms}")
+    public void rebuildIfDegraded() {
+        BloomFilter filter = emails;
+        if (filter != null && (deletions.get() >= rebuildAfterDeletions || insertions.get() > filter.getExpectedInsertions())) {
+            build();
+        }
+    }
+
+    private String normalizeEmail(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,215 @@
+package com.flashdash.core.service;
+
+import com.flashdash.core.model.LeaderboardCriterion;
+import com.flashdash.core.model.StatsBucket;
+import com.flashdash.core.model.UserRanking;
+import com.flashdash.core.model.UserStatsRollup;
+import com.flashdash.core.model.UserStatsRollupId;
+import com.flashdash.core.repository.UserStatsRollupRepository;
+import com.flashdash.core.utils.FrnCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Points, games and study time of every user per day, week and month, so the leaderboard of a time window
+ * reads the top rows of one bucket instead of summing game sessions. Finished games are buffered by
+ * {@link UserStatsAccumulator} and its flush increments the buckets of every user in JDBC batches; the
+ * rows are created by the first flush of a bucket.
+ * A scheduled compaction deletes buckets older than the configured retention, so the table only grows
+ * with the number of active users.
+ */
+@Service
+public class StatsRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatsRollupService.class);
+
+    private static final String INCREMENT_SQL = "UPDATE user_stats_rollups SET games_played = games_played + ?, "
+            + "points = points + ?, study_time = study_time + ?, updated_at = ? "
+            + "WHERE user_frn = ? AND bucket_type = ? AND bucket_start = ?";
+    private static final String INSERT_SQL = "INSERT INTO user_stats_rollups "
+            + "(user_frn, bucket_type, bucket_start, games_played, points, study_time, updated_at) "
+            + "SELECT user_frn, ?, ?, ?, ?, ?, ? FROM users WHERE user_frn = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserStatsRollupRepository userStatsRollupRepository;
+    private final Map<StatsBucket, Integer> retention = new EnumMap<>(StatsBucket.class);
+    private final Limit chunk;
+
+    public StatsRollupService(JdbcTemplate jdbcTemplate,
+                              TransactionTemplate transactionTemplate,
+                              UserStatsRollupRepository userStatsRollupRepository,
+                              @Value("${stats-rollup.retention-days}") int retentionDays,
+                              @Value("${stats-rollup.retention-weeks}") int retentionWeeks,
+                              @Value("${stats-rollup.retention-months}") int retentionMonths,
+                              @Value("${stats-rollup.compaction-chunk-size}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.userStatsRollupRepository = userStatsRollupRepository;
+        this.retention.put(StatsBucket.DAY, retentionDays);
+        this.retention.put(StatsBucket.WEEK, retentionWeeks);
+        this.retention.put(StatsBucket.MONTH, retentionMonths);
+        this.chunk = Limit.of(chunkSize);
+    }
+
+    /**
+     * Increments the buckets of a single game right away, used when the write-behind of the statistics is
+     * disabled.
+     */
+    public void recordGame(String userFrn, int points, Duration studyTime, LocalDateTime finishedAt) {
+        LocalDate date = finishedAt.toLocalDate();
+
+        Boolean recorded = transactionTemplate.execute(status -> {
+            if (incrementBuckets(userFrn, date, points, studyTime, finishedAt) < StatsBucket.values().length) {
+                status.setRollbackOnly();
+                return false;
+            }
+            return true;
+        });
+
+        if (!Boolean.TRUE.equals(recorded)) {
+            // First game of the user in at least one bucket, the partial increment was rolled back
+            for (StatsBucket bucket : StatsBucket.values()) {
+                createIfMissing(userFrn, bucket, bucket.startOf(date), finishedAt);
+            }
+            incrementBuckets(userFrn, date, points, studyTime, finishedAt);
+        }
+    }
+
+    /**
+     * Adds the coalesced games of many users to their buckets with one batch of updates, then inserts the
+     * buckets that had no row yet with a second batch. Increments of users that no longer exist are dropped.
+     * Runs in the transaction of the caller; a bucket created concurrently fails it, and the caller keeps the
+     * increments for its next attempt, which then finds the row.
+     */
+    public void incrementAll(List<BucketIncrement> increments, int batchSize) {
+        int[][] counts = jdbcTemplate.batchUpdate(INCREMENT_SQL, increments, batchSize, (ps, increment) -> {
+            ps.setInt(1, increment.gamesPlayed());
+            ps.setInt(2, increment.points());
+            ps.setLong(3, increment.studyTimeNanos());
+            ps.setTimestamp(4, Timestamp.valueOf(increment.updatedAt()));
+            ps.setBytes(5, FrnCodec.encode(increment.userFrn()));
+            ps.setString(6, increment.bucket().toString());
+            ps.setDate(7, Date.valueOf(increment.bucketStart()));
+        });
+
+        List<BucketIncrement> missing = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == 0) {
+                    missing.add(increments.get(index));
+                }
+                index++;
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, missing, batchSize, (ps, increment) -> {
+            ps.setString(1, increment.bucket().toString());
+            ps.setDate(2, Date.valueOf(increment.bucketStart()));
+            ps.setInt(3, increment.gamesPlayed());
+            ps.setInt(4, increment.points());
+            ps.setLong(5, increment.studyTimeNanos());
+            ps.setTimestamp(6, Timestamp.valueOf(increment.updatedAt()));
+            ps.setBytes(7, FrnCodec.encode(increment.userFrn()));
+        });
+        logger.debug("Created {} rollup buckets", missing.size());
+    }
+
+    /**
+     * Top users of the current bucket, ordered like {@link LeaderboardCriterion#comparator()}.
+     */
+    public List<UserRanking> top(StatsBucket bucket, LeaderboardCriterion criterion, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        return userStatsRollupRepository.findTopRankings(
+                bucket.toString(), bucket.startOf(LocalDate.now()), sortBy(criterion), Limit.of(limit));
+    }
+
+    public List<UserRanking> topOfSelfAndFriends(StatsBucket bucket, LeaderboardCriterion criterion, String userFrn, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        return userStatsRollupRepository.findTopRankingsOfSelfAndFriends(
+                bucket.toString(), bucket.startOf(LocalDate.now()), userFrn, sortBy(criterion), Limit.of(limit));
+    }
+
+    @Scheduled(cron = "${stats-rollup.compaction-cron}")
+    public void compact() {
+        LocalDate today = LocalDate.now();
+        for (StatsBucket bucket : StatsBucket.values()) {
+            LocalDate before = bucket.startOf(today).minus(retention.get(bucket), bucket.getUnit());
+            int total = 0;
+            int deleted;
+            do {
+                deleted = transactionTemplate.execute(status -> {
+                    List<String> userFrns = userStatsRollupRepository.findUserFrnsWithBucketsBefore(bucket.toString(), before, chunk);
+                    return userFrns.isEmpty() ? 0 : userStatsRollupRepository.deleteBucketsBefore(bucket.toString(), before, userFrns);
+                });
+                total += deleted;
+            } while (deleted > 0);
+            logger.info("Compacted {} {} rollups starting before {}", total, bucket, before);
+        }
+    }
+
+    private int incrementBuckets(String userFrn, LocalDate date, int points, Duration studyTime, LocalDateTime finishedAt) {
+        return userStatsRollupRepository.incrementGameStats(userFrn,
+                StatsBucket.DAY.startOf(date), StatsBucket.WEEK.startOf(date), StatsBucket.MONTH.startOf(date),
+                points, studyTime, finishedAt);
+    }
+
+    private void createIfMissing(String userFrn, StatsBucket bucket, LocalDate bucketStart, LocalDateTime now) {
+        if (userStatsRollupRepository.existsById(new UserStatsRollupId(userFrn, bucket.toString(), bucketStart))) {
+            return;
+        }
+        try {
+            userStatsRollupRepository.saveAndFlush(new UserStatsRollup(userFrn, bucket.toString(), bucketStart, now));
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("{} rollup of user {} was created concurrently", bucket, userFrn);
+        }
+    }
+
+    private static Sort sortBy(LeaderboardCriterion criterion) {
+        String property = switch (criterion) {
+            case POINTS -> "points";
+            case GAMES_PLAYED -> "gamesPlayed";
+            case STUDY_TIME -> "studyTime";
+            case STREAK -> throw new IllegalArgumentException("Streaks are not rolled up per time window");
+        };
+        return Sort.by(Sort.Direction.DESC, property, "userFrn");
+    }
+
+    /**
+     * Games, points and study time to add to one bucket of a user.
+     */
+    public record BucketIncrement(String userFrn,
+                                  StatsBucket bucket,
+                                  LocalDate bucketStart,
+                                  int gamesPlayed,
+                                  int points,
+                                  long studyTimeNanos,
+                                  LocalDateTime updatedAt) {
+    }
+}
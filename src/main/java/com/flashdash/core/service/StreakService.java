@@ -0,0 +1,70 @@
+package com.flashdash.core.service;
+
+import com.flashdash.core.exception.FlashDashException;
+import com.flashdash.core.repository.UserRepository;
+import com.flashdash.core.service.api.ActivityLoggedEvent;
+import com.flashdash.core.service.api.ActivityService;
+import com.flashdash.core.utils.BoundedTtlMap;
+import com.p4r1nc3.flashdash.activity.model.ActivityStatisticsResponse;
+import com.p4r1nc3.flashdash.activity.model.LogActivityRequest.ActivityTypeEnum;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Keeps the streak stored on the user in sync with the activity service. The streak is refreshed in the
+ * background once a login has been recorded by the activity service, so the login request itself never
+ * waits for it. Refreshes are throttled per user: logins within the refresh interval of the last refresh
+ * neither call the activity service nor write the user row again.
+ */
+@Service
+public class StreakService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StreakService.class);
+
+    private final ActivityService activityService;
+    private final UserRepository userRepository;
+    private final LeaderboardIndex leaderboardIndex;
+    private final BoundedTtlMap<String, Long> lastRefreshes;
+
+    public StreakService(ActivityService activityService,
+                         UserRepository userRepository,
+                         LeaderboardIndex leaderboardIndex,
+                         @Value("${streak.refresh-throttle.interval-seconds}") long intervalSeconds,
+                         @Value("${streak.refresh-throttle.max-size}") int maxSize) {
+        this.activityService = activityService;
+        this.userRepository = userRepository;
+        this.leaderboardIndex = leaderboardIndex;
+        this.lastRefreshes = new BoundedTtlMap<>(intervalSeconds * 1000, maxSize);
+    }
+
+    @Async
+    @EventListener
+    public void onActivityLogged(ActivityLoggedEvent event) {
+        if (ActivityTypeEnum.ACCOUNT_LOGIN.name().equals(event.entry().activityType())) {
+            refreshStreak(event.entry().userFrn());
+        }
+    }
+
+    public void refreshStreak(String userFrn) {
+        if (lastRefreshes.get(userFrn) != null) {
+            logger.debug("Streak for user {} refreshed recently, skipping.", userFrn);
+            return;
+        }
+
+        try {
+            ActivityStatisticsResponse statistics = activityService.getActivityStatistics(userFrn);
+            lastRefreshes.put(userFrn, System.currentTimeMillis());
+            userRepository.updateStrike(userFrn, statistics.getCurrentStreak(), LocalDateTime.now());
+            leaderboardIndex.updateStreak(userFrn, statistics.getCurrentStreak());
+            logger.info("Streak refreshed for user {}: {}", userFrn, statistics.getCurrentStreak());
+        } catch (FlashDashException e) {
+            logger.warn("Failed to refresh streak for user {}. Error: {}", userFrn, e.getMessage());
+        }
+    }
+}
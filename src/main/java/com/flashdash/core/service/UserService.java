@@ -1,11 +1,11 @@
 package com.flashdash.core.service;
 
+import com.flashdash.core.config.TokenVersionCache;
 import com.flashdash.core.exception.ErrorCode;
 import com.flashdash.core.exception.FlashDashException;
 import com.flashdash.core.model.User;
 import com.flashdash.core.repository.UserRepository;
 import com.flashdash.core.service.api.ActivityService;
-import com.flashdash.core.service.api.NotificationService;
 import com.p4r1nc3.flashdash.activity.model.LogActivityRequest.ActivityTypeEnum;
 import com.p4r1nc3.flashdash.core.model.ChangePasswordRequest;
 import org.slf4j.Logger;
@@ -13,38 +13,39 @@ import org.slf4j.LoggerFactory;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class UserService implements UserDetailsService {
 
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
 
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final AccountDeletionService accountDeletionService;
     private final ActivityService activityService;
-    private final NotificationService notificationService;
-    private final DeckService deckService;
-    private final GameSessionService gameSessionService;
-    private final FriendService friendService;
+    private final TokenVersionCache tokenVersionCache;
+    private final RefreshTokenService refreshTokenService;
+    private final UserStatsAccumulator userStatsAccumulator;
     private final UserRepository userRepository;
 
-    public UserService(PasswordEncoder passwordEncoder,
+    public UserService(PasswordHashingService passwordHashingService,
+                       AccountDeletionService accountDeletionService,
                        ActivityService activityService,
-                       NotificationService notificationService,
-                       DeckService deckService,
-                       GameSessionService gameSessionService,
-                       FriendService friendService,
+                       TokenVersionCache tokenVersionCache,
+                       RefreshTokenService refreshTokenService,
+                       UserStatsAccumulator userStatsAccumulator,
                        UserRepository userRepository) {
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
+        this.accountDeletionService = accountDeletionService;
         this.activityService = activityService;
-        this.notificationService = notificationService;
-        this.deckService = deckService;
-        this.gameSessionService = gameSessionService;
-        this.friendService = friendService;
+        this.tokenVersionCache = tokenVersionCache;
+        this.refreshTokenService = refreshTokenService;
+        this.userStatsAccumulator = userStatsAccumulator;
         this.userRepository = userRepository;
     }
 
+    @Transactional(readOnly = true)
     public User getCurrentUser(String userFrn) {
         logger.info("Attempting to retrieve user information for userFrn: {}", userFrn);
 
@@ -59,6 +60,7 @@ public class UserService implements UserDetailsService {
 
         logger.info("User found with userFrn: {}.", userFrn);
 
+        userStatsAccumulator.applyPending(user);
         return user;
     }
 
@@ -74,38 +76,25 @@ public class UserService implements UserDetailsService {
                     );
                 });
 
-        if (!passwordEncoder.matches(request.getOldPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(request.getOldPassword(), user.getPassword())) {
             throw new FlashDashException(
                     ErrorCode.E401002,
                     "Incorrect old password."
             );
         }
 
-        user.setPassword(passwordEncoder.encode(request.getNewPassword()));
+        user.setPassword(passwordHashingService.encode(request.getNewPassword()));
+        user.setTokenVersion(user.getTokenVersion() + 1);
         userRepository.save(user);
+        tokenVersionCache.update(user.getUserFrn(), user.getTokenVersion());
+        refreshTokenService.revokeAll(user.getUserFrn());
         activityService.logUserActivity(user.getUserFrn(), user.getUserFrn(), ActivityTypeEnum.ACCOUNT_UPDATED);
         logger.info("Password successfully changed for userFrn: {}", userFrn);
     }
 
     public void deleteUser(String userFrn) {
-        logger.info("Attempting to delete user with userFrn: {}", userFrn);
-
-        User user = userRepository.findByUserFrn(userFrn)
-                .orElseThrow(() -> {
-                    logger.warn("User with email {} not found", userFrn);
-                    return new FlashDashException(
-                            ErrorCode.E404001,
-                            "User with email " + userFrn + " not found."
-                    );
-                });
-
-        gameSessionService.removeAllGameSessionsForUser(user.getUserFrn());
-        deckService.deleteAllDecksForUser(user.getUserFrn());
-        friendService.removeAllFriends(user.getUserFrn());
-        userRepository.delete(user);
-        activityService.logUserActivity(user.getUserFrn(), user.getUserFrn(), ActivityTypeEnum.ACCOUNT_DELETED);
-        notificationService.unregisterSubscriber(user.getUserFrn());
-        logger.info("User with userFrn {} successfully deleted.", userFrn);
+        accountDeletionService.requestDeletion(userFrn);
+        logger.info("Deletion of user with userFrn {} accepted.", userFrn);
     }
 
     @Override
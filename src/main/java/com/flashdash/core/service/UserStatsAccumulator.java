@@ -0,0 +1,320 @@
+package com.flashdash.core.service;
+
+import com.flashdash.core.config.ReplicaRoutingDataSource;
+import com.flashdash.core.model.StatsBucket;
+import com.flashdash.core.model.User;
+import com.flashdash.core.model.UserRanking;
+import com.flashdash.core.repository.UserRepository;
+import com.flashdash.core.service.StatsRollupService.BucketIncrement;
+import com.flashdash.core.utils.FrnCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Write-behind buffer for the game statistics of users. Finished games only add their deltas to an
+ * in-memory stripe, and a scheduled flush writes the coalesced deltas of every user in JDBC batches, so a
+ * user finishing many short games costs one row update per flush instead of one per game. The day, week
+ * and month rollups of the games are buffered the same way and written by the same flush.
+ * Reads of the current user and the leaderboard add the pending deltas of this instance on top of the
+ * stored values. Deltas not yet flushed are lost if the process dies; they are flushed on shutdown.
+ * With a read replica, the users of a flush keep reading from the primary for the tolerated replication lag,
+ * since their deltas leave the buffer as soon as the flush commits.
+ * With the write-behind disabled every game is written immediately with a single atomic update per table.
+ */
+@Service
+public class UserStatsAccumulator {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserStatsAccumulator.class);
+
+    private static final String INCREMENT_SQL = "UPDATE users SET games_played = games_played + ?, points = points + ?, "
+            + "study_time = study_time + ?, updated_at = ? WHERE user_frn = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserRepository userRepository;
+    private final StatsRollupService statsRollupService;
+    private final ReplicaRoutingDataSource replicaRoutingDataSource;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Stripe[] stripes;
+    // Deltas taken out of the stripes by a running flush, still visible to readers until they are written
+    private final Map<String, Delta> inFlight = new ConcurrentHashMap<>();
+    private final Object flushLock = new Object();
+    // Held exclusively while the written deltas are committed and dropped from inFlight, so readers never
+    // see them both in the rows and in flight, or in neither
+    private final ReentrantReadWriteLock commitLock = new ReentrantReadWriteLock();
+    private final Counter flushedCounter;
+    private final Counter droppedCounter;
+
+    public UserStatsAccumulator(JdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                UserRepository userRepository,
+                                StatsRollupService statsRollupService,
+                                Optional<ReplicaRoutingDataSource> replicaRoutingDataSource,
+                                MeterRegistry meterRegistry,
+                                @Value("${user-stats.write-behind.enabled}") boolean enabled,
+                                @Value("${user-stats.stripes}") int stripeCount,
+                                @Value("${user-stats.batch-size}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.userRepository = userRepository;
+        this.statsRollupService = statsRollupService;
+        this.replicaRoutingDataSource = replicaRoutingDataSource.orElse(null);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.stripes = new Stripe[Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+
+        Gauge.builder("user.stats.pending", this, UserStatsAccumulator::pendingUsers).register(meterRegistry);
+        this.flushedCounter = meterRegistry.counter("user.stats.flushed");
+        this.droppedCounter = meterRegistry.counter("user.stats.dropped");
+    }
+
+    public void recordGame(String userFrn, int points, Duration studyTime, LocalDateTime updatedAt) {
+        if (!enabled) {
+            userRepository.incrementGameStats(userFrn, points, studyTime, updatedAt);
+            statsRollupService.recordGame(userFrn, points, studyTime, updatedAt);
+            return;
+        }
+
+        Stripe stripe = stripeFor(userFrn);
+        synchronized (stripe) {
+            stripe.deltas.computeIfAbsent(userFrn, frn -> new Delta()).add(1, points, studyTime.toNanos(), updatedAt);
+            for (StatsBucket bucket : StatsBucket.values()) {
+                BucketKey key = new BucketKey(userFrn, bucket, bucket.startOf(updatedAt.toLocalDate()));
+                stripe.buckets.computeIfAbsent(key, k -> new Delta()).add(1, points, studyTime.toNanos(), updatedAt);
+            }
+        }
+    }
+
+    /**
+     * Adds the statistics that were recorded but not written yet to the in-memory copy of the user.
+     * The statistics columns are not updatable through the entity, so this never reaches the database.
+     */
+    public void applyPending(User user) {
+        Delta pending = pendingFor(user.getUserFrn());
+        if (pending != null) {
+            user.setGamesPlayed(user.getGamesPlayed() + pending.gamesPlayed);
+            user.setPoints(user.getPoints() + pending.points);
+            user.setStudyTime((user.getStudyTime() != null ? user.getStudyTime() : Duration.ZERO).plusNanos(pending.studyTimeNanos));
+        }
+    }
+
+    public UserRanking applyPending(UserRanking ranking) {
+        Delta pending = pendingFor(ranking.userFrn());
+        if (pending == null) {
+            return ranking;
+        }
+        return ranking.withStats(pending.gamesPlayed, pending.points, Duration.ofNanos(pending.studyTimeNanos));
+    }
+
+    @Scheduled(fixedDelayString = "${user-stats.flush-interval-ms}")
+    public void flush() {
+        synchronized (flushLock) {
+            // Rollups are not read back from the buffer, so they need no in-flight copy
+            Map<BucketKey, Delta> buckets = new HashMap<>();
+            for (Stripe stripe : stripes) {
+                synchronized (stripe) {
+                    if (stripe.deltas.isEmpty() && stripe.buckets.isEmpty()) {
+                        continue;
+                    }
+                    inFlight.putAll(stripe.deltas);
+                    buckets.putAll(stripe.buckets);
+                    stripe.deltas = new HashMap<>();
+                    stripe.buckets = new HashMap<>();
+                }
+            }
+            if (inFlight.isEmpty() && buckets.isEmpty()) {
+                return;
+            }
+
+            List<Map.Entry<String, Delta>> batch = new ArrayList<>(inFlight.entrySet());
+            List<BucketIncrement> increments = new ArrayList<>(buckets.size());
+            buckets.forEach((key, delta) -> increments.add(new BucketIncrement(key.userFrn(), key.bucket(), key.bucketStart(),
+                    delta.gamesPlayed, delta.points, delta.studyTimeNanos, delta.updatedAt)));
+            try {
+                // One transaction, so a failure never leaves part of the deltas written and then retried
+                int[][] counts = transactionTemplate.execute(status -> {
+                    int[][] updated = jdbcTemplate.batchUpdate(INCREMENT_SQL, batch, batchSize, (ps, entry) -> {
+                        Delta delta = entry.getValue();
+                        ps.setInt(1, delta.gamesPlayed);
+                        ps.setInt(2, delta.points);
+                        ps.setLong(3, delta.studyTimeNanos);
+                        ps.setTimestamp(4, Timestamp.valueOf(delta.updatedAt));
+                        ps.setBytes(5, FrnCodec.encode(entry.getKey()));
+                    });
+                    statsRollupService.incrementAll(increments, batchSize);
+                    TransactionSynchronizationManager.registerSynchronization(new ClearOnCommit());
+                    return updated;
+                });
+                int missing = countMissing(counts);
+                flushedCounter.increment(batch.size() - missing);
+                if (missing > 0) {
+                    droppedCounter.increment(missing);
+                    logger.warn("Dropped statistics of {} users that no longer exist", missing);
+                }
+            } catch (RuntimeException e) {
+                logger.error("Failed to flush statistics of {} users, keeping them for the next flush", batch.size(), e);
+                commitLock.writeLock().lock();
+                try {
+                    for (Map.Entry<String, Delta> entry : batch) {
+                        Stripe stripe = stripeFor(entry.getKey());
+                        synchronized (stripe) {
+                            stripe.deltas.computeIfAbsent(entry.getKey(), frn -> new Delta()).add(entry.getValue());
+                        }
+                    }
+                    buckets.forEach((key, delta) -> {
+                        Stripe stripe = stripeFor(key.userFrn());
+                        synchronized (stripe) {
+                            stripe.buckets.computeIfAbsent(key, k -> new Delta()).add(delta);
+                        }
+                    });
+                    inFlight.clear();
+                } finally {
+                    commitLock.writeLock().unlock();
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    int pendingUsers() {
+        int count = inFlight.size();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                count += stripe.deltas.size();
+            }
+        }
+        return count;
+    }
+
+    private Delta pendingFor(String userFrn) {
+        commitLock.readLock().lock();
+        try {
+            // Deltas move from the stripe to inFlight under the stripe lock, so reading both under it counts them once
+            Stripe stripe = stripeFor(userFrn);
+            synchronized (stripe) {
+                Delta pending = stripe.deltas.get(userFrn);
+                Delta flushing = inFlight.get(userFrn);
+                if (pending == null && flushing == null) {
+                    return null;
+                }
+                Delta result = new Delta();
+                if (pending != null) {
+                    result.add(pending);
+                }
+                if (flushing != null) {
+                    result.add(flushing);
+                }
+                return result;
+            }
+        } finally {
+            commitLock.readLock().unlock();
+        }
+    }
+
+    private Stripe stripeFor(String userFrn) {
+        int hash = userFrn.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private static int countMissing(int[][] counts) {
+        int missing = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == 0) {
+                    missing++;
+                }
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Takes the commit lock right before the flush transaction commits and drops the written deltas from
+     * inFlight before releasing it.
+     */
+    private final class ClearOnCommit implements TransactionSynchronization {
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            commitLock.writeLock().lock();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (!commitLock.isWriteLockedByCurrentThread()) {
+                return;
+            }
+            try {
+                if (status == STATUS_COMMITTED) {
+                    // The flush runs without a user, so the routing cannot tell whose rows it wrote
+                    if (replicaRoutingDataSource != null) {
+                        inFlight.keySet().forEach(replicaRoutingDataSource::recordWrite);
+                    }
+                    inFlight.clear();
+                }
+            } finally {
+                commitLock.writeLock().unlock();
+            }
+        }
+    }
+
+    private static final class Stripe {
+        private Map<String, Delta> deltas = new HashMap<>();
+        private Map<BucketKey, Delta> buckets = new HashMap<>();
+    }
+
+    private record BucketKey(String userFrn, StatsBucket bucket, LocalDate bucketStart) {
+    }
+
+    private static final class Delta {
+        private int gamesPlayed;
+        private int points;
+        private long studyTimeNanos;
+        private LocalDateTime updatedAt;
+
+        Delta add(int games, int addedPoints, long addedNanos, LocalDateTime at) {
+            gamesPlayed += games;
+            points += addedPoints;
+            studyTimeNanos += addedNanos;
+            if (at != null && (updatedAt == null || at.isAfter(updatedAt))) {
+                updatedAt = at;
+            }
+            return this;
+        }
+
+        Delta add(Delta other) {
+            return add(other.gamesPlayed, other.points, other.studyTimeNanos, other.updatedAt);
+        }
+    }
+}
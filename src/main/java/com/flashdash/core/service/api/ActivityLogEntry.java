@@ -0,0 +1,17 @@
+package com.flashdash.core.service.api;
+
+import com.p4r1nc3.flashdash.activity.model.LogActivityRequest;
+
+public record ActivityLogEntry(String userFrn, String targetFrn, String activityType) {
+
+    public static ActivityLogEntry of(String userFrn, String targetFrn, LogActivityRequest.ActivityTypeEnum activityType) {
+        return new ActivityLogEntry(userFrn, targetFrn, activityType.name());
+    }
+
+    public LogActivityRequest toRequest() {
+        LogActivityRequest logActivityRequest = new LogActivityRequest();
+        logActivityRequest.setTargetFrn(targetFrn);
+        logActivityRequest.setActivityType(LogActivityRequest.ActivityTypeEnum.valueOf(activityType));
+        return logActivityRequest;
+    }
+}
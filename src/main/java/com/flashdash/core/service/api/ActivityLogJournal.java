@@ -0,0 +1,175 @@
+package com.flashdash.core.service.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Append-only file of activity log entries that could not be delivered, one JSON document per line.
+ * Entries are read from the head with {@link #peek(int)} and only removed once delivered through
+ * {@link #acknowledge(int)}. Acknowledging only moves the in-memory read offset past the delivered lines;
+ * the file is truncated once every entry has been acknowledged. A crash during replay therefore results
+ * in duplicates rather than lost entries.
+ */
+@Component
+public class ActivityLogJournal {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActivityLogJournal.class);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Path path;
+    private volatile int size;
+    private long readOffset;
+    // Offsets just past each line returned by the last peek, so acknowledging needs no read
+    private final List<Long> peekedLineEnds = new ArrayList<>();
+
+    public ActivityLogJournal(@Value("${activity-log.journal-path}") String path) {
+        this.path = Path.of(path);
+        this.size = countLines();
+    }
+
+    public synchronized void append(List<ActivityLogEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+
+            StringBuilder lines = new StringBuilder();
+            for (ActivityLogEntry entry : entries) {
+                lines.append(objectMapper.writeValueAsString(entry)).append('\n');
+            }
+
+            try (FileOutputStream out = new FileOutputStream(path.toFile(), true)) {
+                out.write(lines.toString().getBytes(StandardCharsets.UTF_8));
+                out.getFD().sync();
+            }
+            size = size + entries.size();
+        } catch (IOException e) {
+            logger.error("Failed to journal {} activity log entries to {}. Error: {}", entries.size(), path, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns up to {@code max} entries from the head of the journal. Lines that cannot be parsed are
+     * returned as {@code null} so that the caller still acknowledges them.
+     */
+    public synchronized List<ActivityLogEntry> peek(int max) {
+        List<ActivityLogEntry> entries = new ArrayList<>();
+        peekedLineEnds.clear();
+        if (size == 0) {
+            return entries;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+             InputStream in = new BufferedInputStream(Channels.newInputStream(channel.position(readOffset)))) {
+            long offset = readOffset;
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            int b = 0;
+            while (entries.size() < max && (b = in.read()) != -1) {
+                offset++;
+                if (b != '\n') {
+                    line.write(b);
+                    continue;
+                }
+                entries.add(parse(line.toString(StandardCharsets.UTF_8)));
+                peekedLineEnds.add(offset);
+                line.reset();
+            }
+            if (b == -1) {
+                // A line cut short by a crash during append is still returned, so it gets acknowledged
+                if (line.size() > 0) {
+                    entries.add(parse(line.toString(StandardCharsets.UTF_8)));
+                    peekedLineEnds.add(offset);
+                }
+                size = entries.size();
+            }
+        } catch (NoSuchFileException e) {
+            logger.error("Activity log journal {} disappeared, dropping {} entries", path, size);
+            size = 0;
+            readOffset = 0;
+        } catch (IOException e) {
+            logger.error("Failed to read activity log journal {}. Error: {}", path, e.getMessage());
+        }
+        return entries;
+    }
+
+    /**
+     * Removes the first {@code count} entries returned by the last {@link #peek(int)}.
+     */
+    public synchronized void acknowledge(int count) {
+        int acknowledged = Math.min(count, peekedLineEnds.size());
+        if (acknowledged <= 0) {
+            return;
+        }
+
+        readOffset = peekedLineEnds.get(acknowledged - 1);
+        peekedLineEnds.subList(0, acknowledged).clear();
+        size = Math.max(0, size - acknowledged);
+
+        if (size == 0) {
+            truncate();
+        }
+    }
+
+    /**
+     * Number of entries not acknowledged yet. Kept in memory, so reading it never touches the file.
+     */
+    public int size() {
+        return size;
+    }
+
+    private void truncate() {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(0);
+            readOffset = 0;
+            peekedLineEnds.clear();
+        } catch (IOException e) {
+            logger.error("Failed to truncate activity log journal {}. Error: {}", path, e.getMessage());
+        }
+    }
+
+    private ActivityLogEntry parse(String line) {
+        try {
+            return objectMapper.readValue(line, ActivityLogEntry.class);
+        } catch (JsonProcessingException e) {
+            logger.warn("Skipping malformed activity log journal entry: {}", line);
+            return null;
+        }
+    }
+
+    private int countLines() {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+
+        try (Stream<String> lines = Files.lines(path, StandardCharsets.UTF_8)) {
+            return (int) lines.count();
+        } catch (IOException e) {
+            logger.error("Failed to read activity log journal {}. Error: {}", path, e.getMessage());
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.flashdash.core.service.api;
+
+import com.flashdash.core.config.ServiceTokenCache;
+import com.flashdash.core.config.interceptor.BearerTokenInterceptor;
+import com.flashdash.core.config.interceptor.BearerTokenInterceptor.TokenScope;
+import com.p4r1nc3.flashdash.activity.ApiException;
+import com.p4r1nc3.flashdash.activity.api.ActivitiesApi;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers activity log entries to the activity service off the request path. Entries are queued in a
+ * bounded in-memory buffer and sent by a single worker in batches, flushed when the batch is full or the
+ * flush interval elapses. Entries that do not fit in the queue, or whose delivery fails, are written to
+ * the {@link ActivityLogJournal} and replayed once the activity service is reachable again. An
+ * {@link ActivityLoggedEvent} is published for every delivered entry.
+ */
+@Component
+public class ActivityLogPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActivityLogPipeline.class);
+
+    private final ActivitiesApi activitiesApi;
+    private final ServiceTokenCache serviceTokenCache;
+    private final ActivityLogJournal journal;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BlockingQueue<ActivityLogEntry> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long retryIntervalMillis;
+
+    private final Counter deliveredCounter;
+    private final Counter overflowCounter;
+    private final Counter failedCounter;
+    private final Counter replayedCounter;
+
+    private volatile boolean running;
+    private volatile long unavailableUntil;
+    private Thread worker;
+
+    public ActivityLogPipeline(ActivitiesApi activitiesApi,
+                               ServiceTokenCache serviceTokenCache,
+                               ActivityLogJournal journal,
+                               ApplicationEventPublisher eventPublisher,
+                               MeterRegistry meterRegistry,
+                               @Value("${activity-log.queue-capacity}") int queueCapacity,
+                               @Value("${activity-log.batch-size}") int batchSize,
+                               @Value("${activity-log.flush-interval-ms}") long flushIntervalMillis,
+                               @Value("${activity-log.retry-interval-ms}") long retryIntervalMillis) {
+        this.activitiesApi = activitiesApi;
+        this.serviceTokenCache = serviceTokenCache;
+        this.journal = journal;
+        this.eventPublisher = eventPublisher;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.retryIntervalMillis = retryIntervalMillis;
+
+        Gauge.builder("activity.log.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+        Gauge.builder("activity.log.queue.remaining", queue, BlockingQueue::remainingCapacity).register(meterRegistry);
+        Gauge.builder("activity.log.journal.size", journal, ActivityLogJournal::size).register(meterRegistry);
+        this.deliveredCounter = meterRegistry.counter("activity.log.delivered");
+        this.overflowCounter = meterRegistry.counter("activity.log.journaled", "reason", "overflow");
+        this.failedCounter = meterRegistry.counter("activity.log.journaled", "reason", "failure");
+        this.replayedCounter = meterRegistry.counter("activity.log.replayed");
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "activity-log-pipeline");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+
+        List<ActivityLogEntry> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        journal.append(remaining);
+        if (!remaining.isEmpty()) {
+            logger.info("Journaled {} pending activity log entries on shutdown.", remaining.size());
+        }
+    }
+
+    public void submit(ActivityLogEntry entry) {
+        if (!queue.offer(entry)) {
+            overflowCounter.increment();
+            journal.append(List.of(entry));
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                replayJournal();
+                flush(nextBatch());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Unexpected error in activity log pipeline", e);
+            }
+        }
+    }
+
+    private List<ActivityLogEntry> nextBatch() throws InterruptedException {
+        List<ActivityLogEntry> batch = new ArrayList<>(batchSize);
+        ActivityLogEntry first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+
+        long deadline = System.currentTimeMillis() + flushIntervalMillis;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.currentTimeMillis();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                break;
+            }
+
+            ActivityLogEntry next = queue.poll(remaining, TimeUnit.MILLISECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    void flush(List<ActivityLogEntry> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        if (isUnavailable()) {
+            failedCounter.increment(batch.size());
+            journal.append(batch);
+            return;
+        }
+
+        int delivered = deliver(batch);
+        if (delivered < batch.size()) {
+            List<ActivityLogEntry> undelivered = batch.subList(delivered, batch.size());
+            failedCounter.increment(undelivered.size());
+            journal.append(undelivered);
+        }
+    }
+
+    void replayJournal() {
+        while (journal.size() > 0 && !isUnavailable()) {
+            List<ActivityLogEntry> entries = journal.peek(batchSize);
+            if (entries.isEmpty()) {
+                // The journal could not be read, it is retried with the next replay
+                return;
+            }
+            int delivered = deliver(entries);
+            journal.acknowledge(delivered);
+            replayedCounter.increment(delivered);
+
+            if (delivered < entries.size()) {
+                return;
+            }
+            logger.info("Replayed {} journaled activity log entries.", delivered);
+        }
+    }
+
+    /**
+     * Sends the entries in order and returns how many were handled before the first failure.
+     */
+    private int deliver(List<ActivityLogEntry> entries) {
+        for (int i = 0; i < entries.size(); i++) {
+            ActivityLogEntry entry = entries.get(i);
+            if (entry == null) {
+                continue;
+            }
+
+            try {
+                send(entry);
+            } catch (ApiException | RuntimeException e) {
+                unavailableUntil = System.currentTimeMillis() + retryIntervalMillis;
+                logger.error("Failed to log activity for user {} on target {}. Error: {}", entry.userFrn(), entry.targetFrn(), e.getMessage());
+                return i;
+            }
+        }
+        return entries.size();
+    }
+
+    private void send(ActivityLogEntry entry) throws ApiException {
+        Optional<String> token = serviceTokenCache.getToken(entry.userFrn());
+        if (token.isEmpty()) {
+            logger.warn("Dropping activity {} for unknown user {}", entry.activityType(), entry.userFrn());
+            return;
+        }
+
+        try (TokenScope ignored = BearerTokenInterceptor.withToken(token.get())) {
+            activitiesApi.logActivity(entry.toRequest());
+        }
+        deliveredCounter.increment();
+        logger.info("Activity logged: User {} performed {} on {}", entry.userFrn(), entry.activityType(), entry.targetFrn());
+        eventPublisher.publishEvent(new ActivityLoggedEvent(entry));
+    }
+
+    private boolean isUnavailable() {
+        return System.currentTimeMillis() < unavailableUntil;
+    }
+}
@@ -0,0 +1,7 @@
+package com.flashdash.core.service.api;
+
+/**
+ * Published once an activity log entry has been accepted by the activity service.
+ */
+public record ActivityLoggedEvent(ActivityLogEntry entry) {
+}
@@ -1,9 +1,8 @@
 package com.flashdash.core.service.api;
 
-import com.flashdash.core.config.JwtManager;
-import com.flashdash.core.model.User;
-import com.flashdash.core.repository.UserRepository;
-import com.p4r1nc3.flashdash.activity.ApiClient;
+import com.flashdash.core.config.ServiceTokenCache;
+import com.flashdash.core.config.interceptor.BearerTokenInterceptor;
+import com.flashdash.core.config.interceptor.BearerTokenInterceptor.TokenScope;
 import com.p4r1nc3.flashdash.activity.ApiException;
 import com.p4r1nc3.flashdash.activity.api.ActivitiesApi;
 import com.p4r1nc3.flashdash.activity.model.ActivityResponse;
@@ -16,56 +15,36 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Optional;
 
 @Service
 public class ActivityService {
 
     private static final Logger logger = LoggerFactory.getLogger(ActivityService.class);
 
-    private final JwtManager jwtManager;
-    private final UserRepository userRepository;
+    private final ServiceTokenCache serviceTokenCache;
+    private final ActivitiesApi activitiesApi;
+    private final ActivityLogPipeline activityLogPipeline;
 
-    public ActivityService(JwtManager jwtManager, UserRepository userRepository) {
-        this.jwtManager = jwtManager;
-        this.userRepository = userRepository;
+    public ActivityService(ServiceTokenCache serviceTokenCache,
+                           ActivitiesApi activitiesApi,
+                           ActivityLogPipeline activityLogPipeline) {
+        this.serviceTokenCache = serviceTokenCache;
+        this.activitiesApi = activitiesApi;
+        this.activityLogPipeline = activityLogPipeline;
     }
 
-    private ActivitiesApi getActivitiesApi(String userFrn) {
-        Optional<User> userOptional = userRepository.findByUserFrn(userFrn);
-
-        if (userOptional.isEmpty()) {
-            throw new FlashDashException(ErrorCode.E401001, "Invalid user reference.");
-        }
-
-        User user = userOptional.get();
-        ApiClient apiClient = new ApiClient();
-        String token = jwtManager.generateToken(userFrn, user.getEmail());
-        apiClient.setBearerToken(token);
-
-        return new ActivitiesApi(apiClient);
+    private TokenScope authenticateAs(String userFrn) {
+        String token = serviceTokenCache.getToken(userFrn)
+                .orElseThrow(() -> new FlashDashException(ErrorCode.E401001, "Invalid user reference."));
+        return BearerTokenInterceptor.withToken(token);
     }
 
     public void logUserActivity(String userFrn, String targetFrn, LogActivityRequest.ActivityTypeEnum activityType) {
-        LogActivityRequest logActivityRequest = new LogActivityRequest();
-        logActivityRequest.setTargetFrn(targetFrn);
-        logActivityRequest.setActivityType(activityType);
-
-        ActivitiesApi activitiesApi = getActivitiesApi(userFrn);
-
-        try {
-            activitiesApi.logActivity(logActivityRequest);
-            logger.info("Activity logged: User {} performed {} on {}", userFrn, activityType, targetFrn);
-        } catch (ApiException e) {
-            logger.error("Failed to log activity for user {} on target {}. Error: {}", userFrn, targetFrn, e.getMessage());
-            throw new FlashDashException(ErrorCode.E500001, "An error occurred while logging the activity. Please try again later.");
-        }
+        activityLogPipeline.submit(ActivityLogEntry.of(userFrn, targetFrn, activityType));
     }
 
     public List<ActivityResponse> getUserActivities(String userFrn) {
-        ActivitiesApi activitiesApi = getActivitiesApi(userFrn);
-
-        try {
+        try (TokenScope ignored = authenticateAs(userFrn)) {
             List<ActivityResponse> activities = activitiesApi.getUserActivities();
             logger.info("Retrieved {} activities for user {}", activities.size(), userFrn);
             return activities;
@@ -76,9 +55,7 @@ public class ActivityService {
     }
 
     public ActivityStatisticsResponse getActivityStatistics(String userFrn) {
-        ActivitiesApi activitiesApi = getActivitiesApi(userFrn);
-
-        try {
+        try (TokenScope ignored = authenticateAs(userFrn)) {
             ActivityStatisticsResponse activityStatisticsResponse = activitiesApi.getUserStatistics();
             logger.info("Retrieved activity statistics for user {}", userFrn);
             return activityStatisticsResponse;
@@ -1,12 +1,11 @@
 package com.flashdash.core.service.api;
 
-import com.flashdash.core.config.JwtManager;
+import com.flashdash.core.config.ServiceTokenCache;
+import com.flashdash.core.config.interceptor.BearerTokenInterceptor;
+import com.flashdash.core.config.interceptor.BearerTokenInterceptor.TokenScope;
 import com.flashdash.core.exception.ErrorCode;
 import com.flashdash.core.exception.FlashDashException;
-import com.flashdash.core.model.User;
-import com.flashdash.core.repository.UserRepository;
 import com.p4r1nc3.flashdash.activity.model.LogActivityRequest.ActivityTypeEnum;
-import com.p4r1nc3.flashdash.notification.ApiClient;
 import com.p4r1nc3.flashdash.notification.ApiException;
 import com.p4r1nc3.flashdash.notification.api.NotificationsApi;
 import com.p4r1nc3.flashdash.notification.api.SubscribersApi;
@@ -17,54 +16,35 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalTime;
-import java.util.Optional;
 
 @Service
 public class NotificationService {
     private static final Logger logger = LoggerFactory.getLogger(NotificationService.class);
 
-    private final JwtManager jwtManager;
+    private final ServiceTokenCache serviceTokenCache;
     private final ActivityService activityService;
-    private final UserRepository userRepository;
+    private final NotificationsApi notificationsApi;
+    private final SubscribersApi subscribersApi;
 
-    public NotificationService(JwtManager jwtManager,
+    public NotificationService(ServiceTokenCache serviceTokenCache,
                                ActivityService activityService,
-                               UserRepository userRepository) {
-        this.jwtManager = jwtManager;
+                               NotificationsApi notificationsApi,
+                               SubscribersApi subscribersApi) {
+        this.serviceTokenCache = serviceTokenCache;
         this.activityService = activityService;
-        this.userRepository = userRepository;
+        this.notificationsApi = notificationsApi;
+        this.subscribersApi = subscribersApi;
     }
 
-    private NotificationsApi getNotificationsApi(String userFrn) {
-        Optional<User> userOptional = userRepository.findByUserFrn(userFrn);
-        if (userOptional.isEmpty()) {
-            throw new FlashDashException(ErrorCode.E401001, "Invalid user reference.");
-        }
-
-        User user = userOptional.get();
-        ApiClient apiClient = new ApiClient();
-        String token = jwtManager.generateToken(userFrn, user.getEmail());
-        apiClient.setBearerToken(token);
-        return new NotificationsApi(apiClient);
-    }
-
-    private SubscribersApi getSubscribersApi(String userFrn) {
-        Optional<User> userOptional = userRepository.findByUserFrn(userFrn);
-        if (userOptional.isEmpty()) {
-            throw new FlashDashException(ErrorCode.E401001, "Invalid user reference.");
-        }
-
-        User user = userOptional.get();
-        ApiClient apiClient = new ApiClient();
-        String token = jwtManager.generateToken(userFrn, user.getEmail());
-        apiClient.setBearerToken(token);
-        return new SubscribersApi(apiClient);
+    private TokenScope authenticateAs(String userFrn) {
+        String token = serviceTokenCache.getToken(userFrn)
+                .orElseThrow(() -> new FlashDashException(ErrorCode.E401001, "Invalid user reference."));
+        return BearerTokenInterceptor.withToken(token);
     }
 
     @Async
     public void registerSubscriber(String userFrn) {
-        SubscribersApi subscribersApi = getSubscribersApi(userFrn);
-        try {
+        try (TokenScope ignored = authenticateAs(userFrn)) {
             subscribersApi.registerSubscriber();
             logger.info("User {} successfully registered for notifications.", userFrn);
         } catch (ApiException e) {
@@ -74,8 +54,7 @@ public class NotificationService {
     }
 
     public NotificationSubscriber getSubscriber(String userFrn) {
-        SubscribersApi subscribersApi = getSubscribersApi(userFrn);
-        try {
+        try (TokenScope ignored = authenticateAs(userFrn)) {
             return subscribersApi.getSubscriber();
         } catch (ApiException e) {
             logger.error("Failed to retrieve subscriber {}. Error: {}", userFrn, e.getMessage());
@@ -85,8 +64,7 @@ public class NotificationService {
 
     @Async
     public void unregisterSubscriber(String userFrn) {
-        SubscribersApi subscribersApi = getSubscribersApi(userFrn);
-        try {
+        try (TokenScope ignored = authenticateAs(userFrn)) {
             subscribersApi.unregisterSubscriber();
             logger.info("User {} successfully unregistered from notifications.", userFrn);
         } catch (ApiException e) {
@@ -97,8 +75,7 @@ public class NotificationService {
 
     @Async
     public void enableDailyNotifications(String userFrn, LocalTime notificationTime) {
-        NotificationsApi notificationsApi = getNotificationsApi(userFrn);
-        try {
+        try (TokenScope ignored = authenticateAs(userFrn)) {
             String notificationTimeString = (notificationTime != null) ? notificationTime.toString() : null;
             notificationsApi.enableDailyNotifications(notificationTimeString);
             activityService.logUserActivity(userFrn, userFrn, ActivityTypeEnum.ENABLE_DAILY_NOTIFICATIONS);
@@ -111,8 +88,7 @@ public class NotificationService {
 
     @Async
     public void disableDailyNotifications(String userFrn) {
-        NotificationsApi notificationsApi = getNotificationsApi(userFrn);
-        try {
+        try (TokenScope ignored = authenticateAs(userFrn)) {
             notificationsApi.disableDailyNotifications();
             activityService.logUserActivity(userFrn, userFrn, ActivityTypeEnum.DISABLE_DAILY_NOTIFICATIONS);
             logger.info("Daily notifications disabled for user {}.", userFrn);
@@ -124,8 +100,7 @@ public class NotificationService {
 
     @Async
     public void sendAccountConfirmationEmail(String userFrn, String token) {
-        NotificationsApi notificationsApi = getNotificationsApi(userFrn);
-        try {
+        try (TokenScope ignored = authenticateAs(userFrn)) {
             notificationsApi.sendAccountConfirmationEmail(token);
             logger.info("Account confirmation email sent to user {}.", userFrn);
         } catch (ApiException e) {
@@ -136,8 +111,7 @@ public class NotificationService {
 
     @Async
     public void sendFriendInviteEmail(String userFrn) {
-        NotificationsApi notificationsApi = getNotificationsApi(userFrn);
-        try {
+        try (TokenScope ignored = authenticateAs(userFrn)) {
             notificationsApi.sendFriendInviteEmail();
             logger.info("Friend invite email sent to user {}.", userFrn);
         } catch (ApiException e) {
@@ -148,8 +122,7 @@ public class NotificationService {
 
     @Async
     public void sendFriendAcceptedEmail(String userFrn) {
-        NotificationsApi notificationsApi = getNotificationsApi(userFrn);
-        try {
+        try (TokenScope ignored = authenticateAs(userFrn)) {
             notificationsApi.sendFriendAcceptedEmail();
             logger.info("Friend accepted email sent to user {}.", userFrn);
         } catch (ApiException e) {
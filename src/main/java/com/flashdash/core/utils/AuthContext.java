@@ -1,10 +1,8 @@
 package com.flashdash.core.utils;
 
-import com.flashdash.core.model.User;
-import jakarta.servlet.http.HttpServletRequest;
+import com.flashdash.core.model.UserPrincipal;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -15,9 +13,8 @@ public class AuthContext {
     public String getUserFrn() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-        if (authentication != null && authentication.getPrincipal() instanceof UserDetails) {
-            User user = (User) authentication.getPrincipal();
-            return user.getUserFrn();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getUserFrn();
         }
 
         return null;
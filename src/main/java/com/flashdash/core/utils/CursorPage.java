@@ -0,0 +1,14 @@
+package com.flashdash.core.utils;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated list. {@code nextPageToken} is null on the last page.
+ */
+public record CursorPage<T>(List<T> items, String nextPageToken) {
+
+    public <R> CursorPage<R> map(Function<List<T>, List<R>> mapper) {
+        return new CursorPage<>(mapper.apply(items), nextPageToken);
+    }
+}
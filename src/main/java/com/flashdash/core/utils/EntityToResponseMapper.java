@@ -69,26 +69,31 @@ public class EntityToResponseMapper {
     }
 
     public GameSessionResponse mapToGameSessionResponse(GameSession gameSession) {
+        GameSessionResponse response = mapToGameSessionResponse(GameSessionSummary.of(gameSession));
+        response.setSessionDetails(deserializeSessionDetails(gameSession.getSessionDetails()));
+        return response;
+    }
+
+    public GameSessionResponse mapToGameSessionResponse(GameSessionSummary gameSession) {
         GameSessionResponse response = new GameSessionResponse();
 
-        response.setGameSessionId(extractId(gameSession.getGameSessionFrn()));
-        response.setGameSessionFrn(gameSession.getGameSessionFrn());
-        response.setScore(gameSession.getTotalScore());
-        response.setCorrectAnswers(gameSession.getCorrectAnswersCount());
-        response.setTotalQuestions(gameSession.getQuestionCount());
+        response.setGameSessionId(extractId(gameSession.gameSessionFrn()));
+        response.setGameSessionFrn(gameSession.gameSessionFrn());
+        response.setScore(gameSession.totalScore());
+        response.setCorrectAnswers(gameSession.correctAnswersCount());
+        response.setTotalQuestions(gameSession.questionCount());
 
-        Duration duration = Duration.between(gameSession.getCreatedAt(), gameSession.getUpdatedAt());
+        Duration duration = Duration.between(gameSession.createdAt(), gameSession.updatedAt());
         response.setDuration(duration.toMinutes() + " min " + duration.getSeconds() % 60 + " sec");
 
-        response.setAccuracy(gameSession.getQuestionCount() > 0 ? ((float) gameSession.getCorrectAnswersCount() / gameSession.getQuestionCount()) * 100 : 0f);
-        response.setStartTime(gameSession.getCreatedAt().atOffset(ZoneOffset.UTC));
-        response.setEndTime(gameSession.getUpdatedAt().atOffset(ZoneOffset.UTC));
-        response.setSessionDetails(deserializeSessionDetails(gameSession.getSessionDetails()));
+        response.setAccuracy(gameSession.questionCount() > 0 ? ((float) gameSession.correctAnswersCount() / gameSession.questionCount()) * 100 : 0f);
+        response.setStartTime(gameSession.createdAt().atOffset(ZoneOffset.UTC));
+        response.setEndTime(gameSession.updatedAt().atOffset(ZoneOffset.UTC));
 
         return response;
     }
 
-    public List<GameSessionResponse> mapToGameSessionResponse(List<GameSession> gameSessions) {
+    public List<GameSessionResponse> mapToGameSessionResponse(List<GameSessionSummary> gameSessions) {
         return gameSessions.stream()
                 .map(this::mapToGameSessionResponse)
                 .collect(Collectors.toList());
@@ -0,0 +1,101 @@
+package com.flashdash.core.utils;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Binary form of an FRN for storage: one byte with the {@link ResourceType#getCode() resource type code}
+ * followed by the 128-bit id, 17 bytes instead of a ~45 character string. Values that do not round-trip
+ * through that form (foreign or hand-written FRNs) are stored verbatim as UTF-8 behind a zero marker byte,
+ * so decoding always returns exactly the string that was encoded.
+ */
+public final class FrnCodec {
+
+    public static final int COMPACT_LENGTH = 17;
+    public static final int MAX_LENGTH = 257;
+
+    private static final byte RAW_MARKER = 0;
+    private static final String FRN_PREFIX = FrnGenerator.PREFIX + ":";
+    private static final BigInteger BASE = BigInteger.valueOf(62);
+
+    private FrnCodec() {}
+
+    public static byte[] encode(String frn) {
+        if (frn == null) {
+            return null;
+        }
+
+        byte[] compact = encodeCompact(frn);
+        if (compact != null) {
+            return compact;
+        }
+
+        byte[] utf8 = frn.getBytes(StandardCharsets.UTF_8);
+        if (utf8.length >= MAX_LENGTH) {
+            throw new IllegalArgumentException("FRN is too long to be stored: " + frn.length() + " characters");
+        }
+        byte[] raw = new byte[utf8.length + 1];
+        raw[0] = RAW_MARKER;
+        System.arraycopy(utf8, 0, raw, 1, utf8.length);
+        return raw;
+    }
+
+    public static String decode(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        if (bytes.length == 0 || bytes[0] == RAW_MARKER) {
+            return new String(bytes, Math.min(1, bytes.length), Math.max(0, bytes.length - 1), StandardCharsets.UTF_8);
+        }
+
+        ResourceType resourceType = ResourceType.fromCode(bytes[0] & 0xFF);
+        if (resourceType == null || bytes.length != COMPACT_LENGTH) {
+            throw new IllegalArgumentException("Unknown binary FRN with type code " + (bytes[0] & 0xFF));
+        }
+        ByteBuffer id = ByteBuffer.wrap(bytes, 1, COMPACT_LENGTH - 1);
+        return FRN_PREFIX + resourceType.getType() + ":" + FrnGenerator.encodeBase62(id.getLong(), id.getLong());
+    }
+
+    private static byte[] encodeCompact(String frn) {
+        if (!frn.startsWith(FRN_PREFIX)) {
+            return null;
+        }
+        int separator = frn.lastIndexOf(':');
+        if (separator < FRN_PREFIX.length()) {
+            return null;
+        }
+
+        ResourceType resourceType = ResourceType.fromType(frn.substring(FRN_PREFIX.length(), separator));
+        BigInteger id = decodeBase62(frn.substring(separator + 1));
+        if (resourceType == null || id == null || id.bitLength() > 128) {
+            return null;
+        }
+        // Ids with leading zero digits or other non-canonical spellings would not survive decoding
+        if (!FrnGenerator.encodeBase62(id).equals(frn.substring(separator + 1))) {
+            return null;
+        }
+
+        byte[] magnitude = id.toByteArray();
+        byte[] compact = new byte[COMPACT_LENGTH];
+        compact[0] = (byte) resourceType.getCode();
+        int length = Math.min(magnitude.length, COMPACT_LENGTH - 1);
+        System.arraycopy(magnitude, magnitude.length - length, compact, COMPACT_LENGTH - length, length);
+        return compact;
+    }
+
+    private static BigInteger decodeBase62(String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        BigInteger result = BigInteger.ZERO;
+        for (int i = 0; i < value.length(); i++) {
+            int digit = FrnGenerator.BASE62.indexOf(value.charAt(i));
+            if (digit < 0) {
+                return null;
+            }
+            result = result.multiply(BASE).add(BigInteger.valueOf(digit));
+        }
+        return result;
+    }
+}
@@ -1,35 +1,128 @@
 package com.flashdash.core.utils;
 
 import java.math.BigInteger;
-import java.nio.ByteBuffer;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class FrnGenerator {
 
-    private static final String PREFIX = "frn:flashdash";
-    private static final String BASE62 = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+    static final String PREFIX = "frn:flashdash";
+    static final String BASE62 = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+
+    private static final char[] DIGITS = BASE62.toCharArray();
+    private static final int MAX_DIGITS = 22;
+    private static final char[][] TYPE_PREFIXES = new char[ResourceType.values().length][];
+
+    private static final BigInteger UNSIGNED_LONG_MASK = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+
+    static {
+        for (ResourceType resourceType : ResourceType.values()) {
+            TYPE_PREFIXES[resourceType.ordinal()] = (PREFIX + ":" + resourceType.getType() + ":").toCharArray();
+        }
+    }
+
+    public enum Mode {
+        /**
+         * Random version 4 UUIDs, the original format.
+         */
+        RANDOM,
+        /**
+         * UUIDv7 layout: a 48-bit millisecond timestamp, a 12-bit counter that keeps ids strictly increasing
+         * within this process, and 62 random bits. New rows land at the end of the primary key index instead
+         * of on random pages.
+         */
+        TIME_ORDERED
+    }
+
+    private static volatile Mode mode = Mode.TIME_ORDERED;
+
+    // Last issued (timestamp << 12 | counter), shared by all threads to keep ids monotonic
+    private static final AtomicLong lastTimeAndCounter = new AtomicLong();
+
+    public static void setMode(Mode newMode) {
+        mode = newMode;
+    }
+
+    public static Mode getMode() {
+        return mode;
+    }
 
     public static String generateFrn(ResourceType resourceType) {
-        String uniqueId = generateBase62UUID();
-        return String.format("%s:%s:%s", PREFIX, resourceType.getType(), uniqueId);
+        return generateFrn(resourceType, mode);
     }
 
-    private static String generateBase62UUID() {
-        UUID uuid = UUID.randomUUID();
-        byte[] uuidBytes = ByteBuffer.wrap(new byte[16])
-                .putLong(uuid.getMostSignificantBits())
-                .putLong(uuid.getLeastSignificantBits())
-                .array();
-        return encodeBase62(new BigInteger(1, uuidBytes));
+    public static String generateFrn(ResourceType resourceType, Mode mode) {
+        long msb;
+        long lsb;
+        if (mode == Mode.TIME_ORDERED) {
+            long timeAndCounter = nextTimeAndCounter();
+            msb = (timeAndCounter >>> 12) << 16 | 0x7000L | (timeAndCounter & 0xFFFL);
+            lsb = ThreadLocalRandom.current().nextLong() >>> 2 | 0x8000000000000000L;
+        } else {
+            UUID uuid = UUID.randomUUID();
+            msb = uuid.getMostSignificantBits();
+            lsb = uuid.getLeastSignificantBits();
+        }
+
+        char[] prefix = TYPE_PREFIXES[resourceType.ordinal()];
+        char[] frn = new char[prefix.length + MAX_DIGITS];
+        System.arraycopy(prefix, 0, frn, 0, prefix.length);
+        int digits = writeBase62(msb, lsb, frn, prefix.length);
+        return new String(frn, 0, prefix.length + digits);
     }
 
-    private static String encodeBase62(BigInteger value) {
-        StringBuilder sb = new StringBuilder();
-        while (value.compareTo(BigInteger.ZERO) > 0) {
-            BigInteger[] divmod = value.divideAndRemainder(BigInteger.valueOf(62));
-            value = divmod[0];
-            sb.insert(0, BASE62.charAt(divmod[1].intValue()));
+    private static long nextTimeAndCounter() {
+        long now = System.currentTimeMillis() << 12;
+        while (true) {
+            long last = lastTimeAndCounter.get();
+            // A counter overflow simply moves on to the next millisecond
+            long next = Math.max(now, last + 1);
+            if (lastTimeAndCounter.compareAndSet(last, next)) {
+                return next;
+            }
         }
-        return sb.toString();
+    }
+
+    /**
+     * Writes the unsigned 128-bit value msb:lsb in base62 without leading zero digits, like
+     * {@link #encodeBase62(BigInteger)}, and returns the number of digits written at {@code offset}.
+     */
+    static int writeBase62(long msb, long lsb, char[] target, int offset) {
+        // Four unsigned 32-bit limbs, most significant first, divided by 62 in place
+        long[] limbs = {msb >>> 32, msb & 0xFFFFFFFFL, lsb >>> 32, lsb & 0xFFFFFFFFL};
+        char[] reversed = new char[MAX_DIGITS];
+        int count = 0;
+        int first = 0;
+
+        while (first < limbs.length) {
+            long remainder = 0;
+            for (int i = first; i < limbs.length; i++) {
+                long current = remainder << 32 | limbs[i];
+                limbs[i] = current / 62;
+                remainder = current % 62;
+            }
+            reversed[count++] = DIGITS[(int) remainder];
+            while (first < limbs.length && limbs[first] == 0) {
+                first++;
+            }
+        }
+
+        for (int i = 0; i < count; i++) {
+            target[offset + i] = reversed[count - 1 - i];
+        }
+        return count;
+    }
+
+    static String encodeBase62(long msb, long lsb) {
+        if (msb == 0 && lsb == 0) {
+            return "";
+        }
+        char[] digits = new char[MAX_DIGITS];
+        return new String(digits, 0, writeBase62(msb, lsb, digits, 0));
+    }
+
+    static String encodeBase62(BigInteger value) {
+        return encodeBase62(value.shiftRight(64).longValue(), value.and(UNSIGNED_LONG_MASK).longValue());
     }
 }
@@ -0,0 +1,182 @@
+package com.flashdash.core.utils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sorted set that also knows the position of its elements: adding, removing and looking up the rank of an
+ * element take O(log n), reading {@code count} consecutive elements from a position takes O(log n + count).
+ * Implemented as a treap whose nodes carry the size of their subtree. Not thread-safe.
+ */
+public class OrderStatisticTree<T> {
+
+    private final Comparator<? super T> comparator;
+    private Node<T> root;
+
+    public OrderStatisticTree(Comparator<? super T> comparator) {
+        this.comparator = comparator;
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean add(T value) {
+        if (rankOf(value) >= 0) {
+            return false;
+        }
+        root = insert(root, new Node<>(value, ThreadLocalRandom.current().nextInt()));
+        return true;
+    }
+
+    public boolean remove(T value) {
+        int before = size(root);
+        root = delete(root, value);
+        return size(root) < before;
+    }
+
+    /**
+     * Zero-based position of the value in sort order, or -1 if the tree does not contain it.
+     */
+    public int rankOf(T value) {
+        Node<T> node = root;
+        int rank = 0;
+        while (node != null) {
+            int compared = comparator.compare(value, node.value);
+            if (compared < 0) {
+                node = node.left;
+            } else if (compared > 0) {
+                rank += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return rank + size(node.left);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Up to {@code count} elements in sort order, starting at the zero-based position {@code from}.
+     */
+    public List<T> range(int from, int count) {
+        int start = Math.max(0, from);
+        int end = (int) Math.min((long) from + Math.max(0, count), size(root));
+        List<T> values = new ArrayList<>(Math.max(0, end - start));
+        collect(root, start, end, values);
+        return values;
+    }
+
+    private void collect(Node<T> node, int from, int to, List<T> values) {
+        if (node == null || from >= to) {
+            return;
+        }
+        int leftSize = size(node.left);
+        if (from < leftSize) {
+            collect(node.left, from, Math.min(to, leftSize), values);
+        }
+        if (from <= leftSize && leftSize < to) {
+            values.add(node.value);
+        }
+        if (to > leftSize + 1) {
+            collect(node.right, Math.max(0, from - leftSize - 1), to - leftSize - 1, values);
+        }
+    }
+
+    private Node<T> insert(Node<T> node, Node<T> inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (inserted.priority > node.priority) {
+            split(node, inserted.value, inserted);
+            inserted.update();
+            return inserted;
+        }
+        if (comparator.compare(inserted.value, node.value) < 0) {
+            node.left = insert(node.left, inserted);
+        } else {
+            node.right = insert(node.right, inserted);
+        }
+        node.update();
+        return node;
+    }
+
+    private Node<T> delete(Node<T> node, T value) {
+        if (node == null) {
+            return null;
+        }
+        int compared = comparator.compare(value, node.value);
+        if (compared == 0) {
+            return merge(node.left, node.right);
+        }
+        if (compared < 0) {
+            node.left = delete(node.left, value);
+        } else {
+            node.right = delete(node.right, value);
+        }
+        node.update();
+        return node;
+    }
+
+    /**
+     * Splits the subtree into the values sorting before {@code value}, stored as the left child of
+     * {@code target}, and the remaining values, stored as its right child.
+     */
+    private void split(Node<T> node, T value, Node<T> target) {
+        if (node == null) {
+            target.left = null;
+            target.right = null;
+            return;
+        }
+        if (comparator.compare(node.value, value) < 0) {
+            split(node.right, value, target);
+            node.right = target.left;
+            node.update();
+            target.left = node;
+        } else {
+            split(node.left, value, target);
+            node.left = target.right;
+            node.update();
+            target.right = node;
+        }
+    }
+
+    private Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static int size(Node<?> node) {
+        return node != null ? node.size : 0;
+    }
+
+    private static final class Node<T> {
+        private final T value;
+        private final int priority;
+        private int size = 1;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(T value, int priority) {
+            this.value = value;
+            this.priority = priority;
+        }
+
+        private void update() {
+            size = 1 + size(left) + size(right);
+        }
+    }
+}
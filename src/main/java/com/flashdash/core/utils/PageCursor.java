@@ -0,0 +1,50 @@
+package com.flashdash.core.utils;
+
+import com.flashdash.core.exception.ErrorCode;
+import com.flashdash.core.exception.FlashDashException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a list ordered by creation time and FRN, newest first. Pages are read with a keyset
+ * condition of the form {@code created_at < :createdAt or (created_at = :createdAt and frn < :frn)}, so
+ * every page is a range scan on an index ending with (created_at, frn) no matter how deep it is.
+ * Clients only ever see the cursor as an opaque base64url token.
+ */
+public record PageCursor(LocalDateTime createdAt, String frn) {
+
+    /**
+     * Cursor before the newest possible row, the largest value a MySQL DATETIME column can hold.
+     */
+    public static final PageCursor FIRST = new PageCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), "");
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String value = createdAt.toString() + SEPARATOR + frn;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(String pageToken) {
+        if (pageToken == null || pageToken.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(pageToken), StandardCharsets.UTF_8);
+            int separator = value.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Missing separator");
+            }
+
+            String frn = value.substring(separator + 1);
+            FrnCodec.encode(frn);
+            return new PageCursor(LocalDateTime.parse(value.substring(0, separator)), frn);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new FlashDashException(ErrorCode.E400007, "Invalid page token.");
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.flashdash.core.utils;
+
+import com.flashdash.core.exception.ErrorCode;
+import com.flashdash.core.exception.FlashDashException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Component
+public class Pagination {
+
+    public static final String NEXT_PAGE_TOKEN_HEADER = "X-Next-Page-Token";
+
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public Pagination(@Value("${pagination.default-page-size}") int defaultPageSize,
+                      @Value("${pagination.max-page-size}") int maxPageSize) {
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    public int pageSize(Integer requestedPageSize) {
+        if (requestedPageSize == null) {
+            return defaultPageSize;
+        }
+        if (requestedPageSize < 1) {
+            throw new FlashDashException(ErrorCode.E400007, "Page size must be greater than 0.");
+        }
+        return Math.min(requestedPageSize, maxPageSize);
+    }
+
+    /**
+     * The requested number of rows of an endpoint that takes a plain limit, between 0 and the maximum page size.
+     */
+    public int maxRows(int requestedLimit) {
+        return Math.max(0, Math.min(requestedLimit, maxPageSize));
+    }
+
+    /**
+     * Fetches one row more than the page holds, the extra row only tells whether there is a next page.
+     */
+    public Limit limit(int pageSize) {
+        return Limit.of(pageSize + 1);
+    }
+
+    public <T> CursorPage<T> toPage(List<T> rows, int pageSize, Function<T, PageCursor> cursorOf) {
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+
+        List<T> items = rows.subList(0, pageSize);
+        return new CursorPage<>(items, cursorOf.apply(items.get(pageSize - 1)).encode());
+    }
+
+    public static <T> ResponseEntity<List<T>> toResponse(CursorPage<T> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextPageToken() != null) {
+            response.header(NEXT_PAGE_TOKEN_HEADER, page.nextPageToken());
+        }
+        return response.body(page.items());
+    }
+}
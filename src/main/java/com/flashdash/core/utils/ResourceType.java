@@ -1,20 +1,47 @@
 package com.flashdash.core.utils;
 
 public enum ResourceType {
-    DECK("deck"),
-    USER("user"),
-    GAME_SESSION("game-session"),
-    QUESTION("question"),
-    INVITATION("invitation"),
-    ACTIVITY("activity");
+    DECK("deck", 1),
+    USER("user", 2),
+    GAME_SESSION("game-session", 3),
+    QUESTION("question", 4),
+    INVITATION("invitation", 5),
+    ACTIVITY("activity", 6);
 
     private final String type;
+    private final int code;
 
-    ResourceType(String type) {
+    ResourceType(String type, int code) {
         this.type = type;
+        this.code = code;
     }
 
     public String getType() {
         return type;
     }
+
+    /**
+     * Stable one-byte identifier used by the binary FRN encoding. Never reuse or renumber a code.
+     */
+    public int getCode() {
+        return code;
+    }
+
+    public static ResourceType fromType(String type) {
+        for (ResourceType resourceType : values()) {
+            if (resourceType.type.equals(type)) {
+                return resourceType;
+            }
+        }
+        return null;
+    }
+
+    public static ResourceType fromCode(int code) {
+        for (ResourceType resourceType : values()) {
+            if (resourceType.code == code) {
+                return resourceType;
+            }
+        }
+        return null;
+    }
 }
@@ -0,0 +1,9 @@
+CREATE TABLE refresh_tokens (
+    token_hash    VARCHAR(64)  NOT NULL,
+    user_frn      VARCHAR(256) NOT NULL,
+    email         VARCHAR(256) NOT NULL,
+    token_version INT          NOT NULL,
+    expires_at    DATETIME(6)  NOT NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (token_hash)
+) ENGINE = InnoDB;
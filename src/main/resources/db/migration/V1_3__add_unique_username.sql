@@ -0,0 +1,3 @@
+-- Registration relies on the database to reject a username taken concurrently.
+-- Fails on databases that already contain duplicate usernames; clean those up first.
+ALTER TABLE users ADD CONSTRAINT uk_users_username UNIQUE (username);
@@ -0,0 +1,7 @@
+CREATE TABLE friendships (
+    user_frn   VARCHAR(256) NOT NULL,
+    friend_frn VARCHAR(256) NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (user_frn, friend_frn),
+    INDEX idx_friendships_friend_frn (friend_frn, user_frn)
+) ENGINE = InnoDB;
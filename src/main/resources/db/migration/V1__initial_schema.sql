@@ -0,0 +1,70 @@
+-- Schema as previously generated by hibernate ddl-auto=update.
+-- Existing databases already match it and are baselined at this version.
+
+CREATE TABLE users (
+    user_frn         VARCHAR(256)   NOT NULL,
+    username         VARCHAR(256)   NOT NULL,
+    first_name       VARCHAR(256)   NOT NULL,
+    last_name        VARCHAR(256)   NOT NULL,
+    email            VARCHAR(256)   NOT NULL,
+    password         VARCHAR(256)   NOT NULL,
+    created_at       DATETIME(6)    NOT NULL,
+    updated_at       DATETIME(6)    NOT NULL,
+    enabled          BIT            NOT NULL,
+    activation_token VARCHAR(256)   NOT NULL,
+    study_time       DECIMAL(21, 0) NOT NULL,
+    games_played     INT            NOT NULL,
+    points           INT            NOT NULL,
+    strike           INT            NOT NULL,
+    friends_frn      JSON           NOT NULL,
+    PRIMARY KEY (user_frn),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT uk_users_activation_token UNIQUE (activation_token)
+) ENGINE = InnoDB;
+
+CREATE TABLE decks (
+    deck_frn    VARCHAR(256) NOT NULL,
+    user_frn    VARCHAR(256) NOT NULL,
+    name        VARCHAR(256) NOT NULL,
+    description VARCHAR(512),
+    created_at  DATETIME(6)  NOT NULL,
+    updated_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (deck_frn)
+) ENGINE = InnoDB;
+
+CREATE TABLE questions (
+    question_frn      VARCHAR(256)  NOT NULL,
+    deck_frn          VARCHAR(256)  NOT NULL,
+    question          VARCHAR(512)  NOT NULL,
+    correct_answers   VARCHAR(1024) NOT NULL,
+    incorrect_answers VARCHAR(1024) NOT NULL,
+    difficulty        TINYINT       NOT NULL,
+    created_at        DATETIME(6)   NOT NULL,
+    updated_at        DATETIME(6)   NOT NULL,
+    PRIMARY KEY (question_frn)
+) ENGINE = InnoDB;
+
+CREATE TABLE game_sessions (
+    game_session_frn      VARCHAR(256) NOT NULL,
+    user_frn              VARCHAR(256) NOT NULL,
+    deck_frn              VARCHAR(256) NOT NULL,
+    status                VARCHAR(64)  NOT NULL,
+    total_score           INT          NOT NULL,
+    correct_answers_count INT          NOT NULL,
+    wrong_answers_count   INT          NOT NULL,
+    question_count        INT          NOT NULL,
+    created_at            DATETIME(6)  NOT NULL,
+    updated_at            DATETIME(6)  NOT NULL,
+    session_details       TEXT,
+    PRIMARY KEY (game_session_frn)
+) ENGINE = InnoDB;
+
+CREATE TABLE friend_invitations (
+    invitation_frn VARCHAR(256) NOT NULL,
+    sent_by_frn    VARCHAR(256) NOT NULL,
+    sent_to_frn    VARCHAR(256) NOT NULL,
+    status         VARCHAR(64)  NOT NULL,
+    created_at     DATETIME(6)  NOT NULL,
+    updated_at     DATETIME(6)  NOT NULL,
+    PRIMARY KEY (invitation_frn)
+) ENGINE = InnoDB;
@@ -0,0 +1,23 @@
+-- Secondary indexes backing the derived repository finders. Keep in sync with the @Index
+-- declarations on the entities; SchemaIndexVerifier checks them on startup.
+
+-- DeckRepository.findAllByUserFrn
+CREATE INDEX idx_decks_user_frn ON decks (user_frn);
+
+-- QuestionRepository.findAllByDeckFrn, deleteAllByDeckFrn
+CREATE INDEX idx_questions_deck_frn ON questions (deck_frn);
+
+-- GameSessionRepository.findTopByDeckFrnAndUserFrnAndStatus, findAllByDeckFrnAndUserFrnAndStatus, findAllByUserFrn
+CREATE INDEX idx_game_sessions_user_deck_status ON game_sessions (user_frn, deck_frn, status);
+
+-- FriendInvitationRepository.findAllBySentToFrnAndStatus
+CREATE INDEX idx_friend_invitations_sent_to_status ON friend_invitations (sent_to_frn, status);
+
+-- FriendInvitationRepository.findAllBySentByFrnAndStatus, findBySentByFrnAndSentToFrnAndStatus
+CREATE INDEX idx_friend_invitations_sent_by_status ON friend_invitations (sent_by_frn, status, sent_to_frn);
+
+-- RefreshTokenRepository.deleteAllByUserFrn
+CREATE INDEX idx_refresh_tokens_user_frn ON refresh_tokens (user_frn);
+
+-- RefreshTokenRepository.deleteAllByExpiresAtBefore
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
@@ -0,0 +1,2 @@
+-- Optimistic locking for the remaining read-modify-write updates of users
+ALTER TABLE users ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,14 @@
+-- Progress of background account deletions, one row per deleted account
+CREATE TABLE account_deletion_jobs (
+    user_frn              VARBINARY(257) NOT NULL,
+    status                VARCHAR(64)    NOT NULL,
+    deleted_game_sessions BIGINT         NOT NULL,
+    deleted_questions     BIGINT         NOT NULL,
+    deleted_decks         BIGINT         NOT NULL,
+    deleted_friendships   BIGINT         NOT NULL,
+    created_at            DATETIME(6)    NOT NULL,
+    updated_at            DATETIME(6)    NOT NULL,
+    PRIMARY KEY (user_frn)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_account_deletion_jobs_status ON account_deletion_jobs (status);
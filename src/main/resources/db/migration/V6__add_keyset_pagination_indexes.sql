@@ -0,0 +1,28 @@
+-- Keyset pagination of the list endpoints reads newest first by (created_at, frn) after the
+-- equality columns of each list. Keep in sync with the @Index declarations on the entities.
+-- The replaced indexes are prefixes of the new ones, so their finders stay covered.
+
+-- DeckRepository.findAllByUserFrn, findPageByUserFrn
+DROP INDEX idx_decks_user_frn ON decks;
+CREATE INDEX idx_decks_user_created ON decks (user_frn, created_at, deck_frn);
+
+-- QuestionRepository.findAllByDeckFrn, findPageByDeckFrn, deleteAllByDeckFrn
+DROP INDEX idx_questions_deck_frn ON questions;
+CREATE INDEX idx_questions_deck_created ON questions (deck_frn, created_at, question_frn);
+
+-- GameSessionRepository.findTopByDeckFrnAndUserFrnAndStatus, findPageByDeckFrnAndUserFrnAndStatus
+DROP INDEX idx_game_sessions_user_deck_status ON game_sessions;
+CREATE INDEX idx_game_sessions_user_deck_status_created ON game_sessions (user_frn, deck_frn, status, created_at, game_session_frn);
+
+-- GameSessionRepository.findPageByUserFrn
+CREATE INDEX idx_game_sessions_user_created ON game_sessions (user_frn, created_at, game_session_frn);
+
+-- FriendshipRepository.findPageByUserFrn
+CREATE INDEX idx_friendships_user_created ON friendships (user_frn, created_at, friend_frn);
+
+-- FriendInvitationRepository.findPageBySentToFrnAndStatus
+DROP INDEX idx_friend_invitations_sent_to_status ON friend_invitations;
+CREATE INDEX idx_friend_invitations_sent_to_status_created ON friend_invitations (sent_to_frn, status, created_at, invitation_frn);
+
+-- FriendInvitationRepository.findPageBySentByFrnAndStatus
+CREATE INDEX idx_friend_invitations_sent_by_created ON friend_invitations (sent_by_frn, status, created_at, invitation_frn);
@@ -0,0 +1,15 @@
+-- Global leaderboard top N, read backwards by (score, user_frn) and stopped after the limit.
+-- InnoDB secondary indexes end with the primary key, so the tie-break needs no extra sort.
+-- Keep in sync with the @Index declarations on User.
+
+-- UserRepository.findTopRankingsByPoints
+CREATE INDEX idx_users_points ON users (points, user_frn);
+
+-- UserRepository.findTopRankingsByGamesPlayed
+CREATE INDEX idx_users_games_played ON users (games_played, user_frn);
+
+-- UserRepository.findTopRankingsByStrike
+CREATE INDEX idx_users_strike ON users (strike, user_frn);
+
+-- UserRepository.findTopRankingsByStudyTime
+CREATE INDEX idx_users_study_time ON users (study_time, user_frn);
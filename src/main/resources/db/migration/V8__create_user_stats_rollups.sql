@@ -0,0 +1,21 @@
+-- Statistics per user per day, week and month for the time-windowed leaderboards.
+-- Keep in sync with the @Index declarations on UserStatsRollup.
+CREATE TABLE user_stats_rollups (
+    user_frn     VARBINARY(257) NOT NULL,
+    bucket_type  VARCHAR(16)    NOT NULL,
+    bucket_start DATE           NOT NULL,
+    points       INT            NOT NULL,
+    games_played INT            NOT NULL,
+    study_time   DECIMAL(21, 0) NOT NULL,
+    updated_at   DATETIME(6)    NOT NULL,
+    PRIMARY KEY (user_frn, bucket_type, bucket_start)
+) ENGINE = InnoDB;
+
+-- UserStatsRollupRepository.findTopRankings by points, findUserFrnsWithBucketsBefore, deleteBucketsBefore
+CREATE INDEX idx_user_stats_rollups_points ON user_stats_rollups (bucket_type, bucket_start, points, user_frn);
+
+-- UserStatsRollupRepository.findTopRankings by games played
+CREATE INDEX idx_user_stats_rollups_games_played ON user_stats_rollups (bucket_type, bucket_start, games_played, user_frn);
+
+-- UserStatsRollupRepository.findTopRankings by study time
+CREATE INDEX idx_user_stats_rollups_study_time ON user_stats_rollups (bucket_type, bucket_start, study_time, user_frn);
@@ -0,0 +1,10 @@
+-- Failed account deletions are retried with backoff, AccountDeletionService.retryFailedJobs
+ALTER TABLE account_deletion_jobs ADD COLUMN attempts INT NOT NULL DEFAULT 0;
+ALTER TABLE account_deletion_jobs ADD COLUMN next_attempt_at DATETIME(6) NULL;
+
+-- Jobs that failed before retries existed are retried on the first run
+UPDATE account_deletion_jobs SET attempts = 1, next_attempt_at = updated_at WHERE status = 'FAILED';
+
+-- AccountDeletionJobRepository.findAllByStatusIn and findAllByStatusAndNextAttemptAtLessThanEqual
+DROP INDEX idx_account_deletion_jobs_status ON account_deletion_jobs;
+CREATE INDEX idx_account_deletion_jobs_status_next_attempt ON account_deletion_jobs (status, next_attempt_at);
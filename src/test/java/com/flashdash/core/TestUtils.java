@@ -47,7 +47,6 @@ public class TestUtils {
         user.setUpdatedAt(LocalDateTime.now());
         user.setEnabled(true);
         user.setActivationToken(UUID.randomUUID().toString());
-        user.setFriendsFrnList(List.of());
         user.setGamesPlayed(2);
         user.setStrike(1);
         user.setStudyTime(Duration.ofHours(1));
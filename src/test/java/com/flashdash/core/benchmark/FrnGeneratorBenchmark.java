@@ -0,0 +1,71 @@
+package com.flashdash.core.benchmark;
+
+import com.flashdash.core.utils.FrnGenerator;
+import com.flashdash.core.utils.ResourceType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares FRN generation before and after the switch to time-ordered ids and the long-based base62
+ * encoder. Run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.flashdash.core.benchmark.FrnGeneratorBenchmark}, and add {@code -prof gc} to the
+ * arguments to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class FrnGeneratorBenchmark {
+
+    private static final String BASE62 = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+
+    @Benchmark
+    public String legacy() {
+        UUID uuid = UUID.randomUUID();
+        byte[] uuidBytes = ByteBuffer.wrap(new byte[16])
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+        BigInteger value = new BigInteger(1, uuidBytes);
+        StringBuilder sb = new StringBuilder();
+        while (value.compareTo(BigInteger.ZERO) > 0) {
+            BigInteger[] divmod = value.divideAndRemainder(BigInteger.valueOf(62));
+            value = divmod[0];
+            sb.insert(0, BASE62.charAt(divmod[1].intValue()));
+        }
+        return String.format("%s:%s:%s", "frn:flashdash", ResourceType.QUESTION.getType(), sb);
+    }
+
+    @Benchmark
+    public String random() {
+        return FrnGenerator.generateFrn(ResourceType.QUESTION, FrnGenerator.Mode.RANDOM);
+    }
+
+    @Benchmark
+    public String timeOrdered() {
+        return FrnGenerator.generateFrn(ResourceType.QUESTION, FrnGenerator.Mode.TIME_ORDERED);
+    }
+
+    public static void main(String[] args) throws Exception {
+        String[] arguments = new String[args.length + 1];
+        arguments[0] = FrnGeneratorBenchmark.class.getName();
+        System.arraycopy(args, 0, arguments, 1, args.length);
+        org.openjdk.jmh.Main.main(arguments);
+    }
+}
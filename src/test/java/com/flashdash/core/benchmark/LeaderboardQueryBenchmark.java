@@ -0,0 +1,143 @@
+package com.flashdash.core.benchmark;
+
+import com.flashdash.core.FlashDashCoreApplication;
+import com.flashdash.core.model.LeaderboardCriterion;
+import com.flashdash.core.model.User;
+import com.flashdash.core.model.UserRanking;
+import com.flashdash.core.repository.UserRepository;
+import com.flashdash.core.utils.FrnGenerator;
+import com.flashdash.core.utils.ResourceType;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Compares the indexed top N leaderboard query of every criterion with streaming and sorting every user,
+ * against the H2 database of the tests seeded with {@code users} users. The setup fails if both return
+ * different scores. Run with the environment of the tests and {@code mvn test-compile exec:java
+ * -Dexec.classpathScope=test -Dexec.mainClass=com.flashdash.core.benchmark.LeaderboardQueryBenchmark};
+ * pass e.g. {@code -p users=100000 -p criterion=POINTS} to the arguments for a quicker run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LeaderboardQueryBenchmark {
+
+    private static final int LIMIT = 10;
+    private static final int SEED_BATCH_SIZE = 5_000;
+
+    @Param("1000000")
+    public int users;
+
+    @Param({"POINTS", "GAMES_PLAYED", "STREAK", "STUDY_TIME"})
+    public LeaderboardCriterion criterion;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private TransactionTemplate transactionTemplate;
+
+    @Setup(Level.Trial)
+    public void seedUsers() {
+        context = new SpringApplicationBuilder(FlashDashCoreApplication.class)
+                .properties("server.port=0")
+                .run();
+        userRepository = context.getBean(UserRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        EntityManager entityManager = context.getBean(EntityManager.class);
+
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < users; from += SEED_BATCH_SIZE) {
+            int batchStart = from;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = batchStart; i < Math.min(batchStart + SEED_BATCH_SIZE, users); i++) {
+                    entityManager.persist(createUser(i, random, now));
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+
+        List<Integer> top = top().stream().map(criterion::score).toList();
+        List<Integer> expected = streamAndSortAll().stream().map(criterion::score).toList();
+        if (top.size() != LIMIT || !top.equals(expected)) {
+            throw new IllegalStateException("Top " + criterion + " query returned " + top + ", expected " + expected);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<UserRanking> top() {
+        Limit limit = Limit.of(LIMIT);
+        return transactionTemplate.execute(status -> switch (criterion) {
+            case POINTS -> userRepository.findTopRankingsByPoints(limit);
+            case GAMES_PLAYED -> userRepository.findTopRankingsByGamesPlayed(limit);
+            case STREAK -> userRepository.findTopRankingsByStrike(limit);
+            case STUDY_TIME -> userRepository.findTopRankingsByStudyTime(limit);
+        });
+    }
+
+    @Benchmark
+    public List<UserRanking> streamAndSortAll() {
+        return transactionTemplate.execute(status -> {
+            try (Stream<UserRanking> rankings = userRepository.streamAllRankings()) {
+                return rankings.sorted(criterion.comparator()).limit(LIMIT).toList();
+            }
+        });
+    }
+
+    private static User createUser(int i, Random random, LocalDateTime now) {
+        User user = new User();
+        user.setUserFrn(FrnGenerator.generateFrn(ResourceType.USER));
+        user.setUsername("bench" + i);
+        user.setEmail("bench" + i + "@example.com");
+        user.setPassword("password");
+        user.setFirstName("Bench");
+        user.setLastName("User");
+        user.setCreatedAt(now);
+        user.setUpdatedAt(now);
+        user.setEnabled(true);
+        user.setActivationToken("bench-token-" + i);
+        user.setPoints(random.nextInt(100_000));
+        user.setGamesPlayed(random.nextInt(1_000));
+        user.setStrike(random.nextInt(365));
+        user.setStudyTime(Duration.ofSeconds(random.nextInt(1_000_000)));
+        return user;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String[] arguments = new String[args.length + 1];
+        arguments[0] = LeaderboardQueryBenchmark.class.getName();
+        System.arraycopy(args, 0, arguments, 1, args.length);
+        org.openjdk.jmh.Main.main(arguments);
+    }
+}
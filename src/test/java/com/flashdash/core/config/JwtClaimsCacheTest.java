@@ -0,0 +1,61 @@
+package com.flashdash.core.config;
+
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class JwtClaimsCacheTest {
+
+    @Autowired
+    private JwtManager jwtManager;
+
+    @Autowired
+    private JwtClaimsCache jwtClaimsCache;
+
+    @Test
+    void shouldReturnClaimsFromSingleParse() {
+        // Arrange
+        String token = jwtManager.generateToken("frn:flashdash:user:abc", "user@example.com");
+
+        // Act
+        JwtClaims claims = jwtClaimsCache.getClaims(token);
+
+        // Assert
+        assertThat(claims.getUserFrn()).isEqualTo("frn:flashdash:user:abc");
+        assertThat(claims.getEmail()).isEqualTo("user@example.com");
+        assertThat(claims.isExpired()).isFalse();
+    }
+
+    @Test
+    void shouldReuseVerifiedClaimsForSameToken() {
+        // Arrange
+        String token = jwtManager.generateToken("frn:flashdash:user:def", "other@example.com");
+
+        // Act
+        JwtClaims first = jwtClaimsCache.getClaims(token);
+        JwtClaims second = jwtClaimsCache.getClaims(token);
+
+        // Assert
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void shouldRejectTamperedToken() {
+        // Arrange
+        String token = jwtManager.generateToken("frn:flashdash:user:ghi", "tampered@example.com");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        int sizeBefore = jwtClaimsCache.size();
+
+        // Act & Assert
+        assertThatThrownBy(() -> jwtClaimsCache.getClaims(tampered))
+                .isInstanceOf(SignatureException.class);
+        assertThat(jwtClaimsCache.size()).isEqualTo(sizeBefore);
+    }
+}
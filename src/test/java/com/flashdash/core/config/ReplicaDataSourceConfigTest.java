@@ -0,0 +1,104 @@
+package com.flashdash.core.config;
+
+import com.flashdash.core.TestUtils;
+import com.flashdash.core.model.User;
+import com.flashdash.core.repository.UserRepository;
+import com.flashdash.core.service.UserStatsAccumulator;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "datasource.replica.enabled = true",
+        "datasource.replica.url = jdbc:h2:mem:replica-config;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size = 7"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReplicaDataSourceConfigTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private UserStatsAccumulator userStatsAccumulator;
+
+    @Test
+    void shouldRouteApplicationDataSourceThroughReplica() {
+        // Arrange
+        User user = userRepository.save(TestUtils.createUser());
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+
+        // Act
+        boolean foundOnPrimary = transactionTemplate.execute(status -> userRepository.existsById(user.getUserFrn()));
+
+        // Assert
+        assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+        assertThat(((LazyConnectionDataSourceProxy) dataSource).getTargetDataSource()).isSameAs(replicaRoutingDataSource);
+        assertThat(foundOnPrimary).isTrue();
+
+        // The schema is only created on the primary, so a read-only query failing proves it went to the replica
+        assertThatThrownBy(() -> readOnly.execute(status -> userRepository.existsById(user.getUserFrn())))
+                .hasMessageContaining("USERS");
+    }
+
+    @Test
+    void shouldApplyHikariPropertiesToPrimaryPool() {
+        // Act
+        HikariDataSource primary = (HikariDataSource) replicaRoutingDataSource.getResolvedDefaultDataSource();
+
+        // Assert
+        assertThat(primary.getPoolName()).isEqualTo("primary");
+        assertThat(primary.getMaximumPoolSize()).isEqualTo(7);
+    }
+
+    @Test
+    void shouldReadOwnStatsFromPrimaryRightAfterFlush() {
+        // Arrange
+        User user = userRepository.save(TestUtils.createUser());
+        userStatsAccumulator.recordGame(user.getUserFrn(), 15, Duration.ofMinutes(2), LocalDateTime.now());
+        userStatsAccumulator.flush();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnly.setReadOnly(true);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+
+        try {
+            // Act
+            User loaded = readOnly.execute(status -> {
+                User found = userRepository.findByUserFrn(user.getUserFrn()).orElseThrow();
+                userStatsAccumulator.applyPending(found);
+                return found;
+            });
+
+            // Assert
+            // The replica has no schema, so reading the user at all proves the read went to the primary
+            assertThat(loaded.getPoints()).isEqualTo(user.getPoints() + 15);
+            assertThat(loaded.getGamesPlayed()).isEqualTo(user.getGamesPlayed() + 1);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.flashdash.core.config;
+
+import com.flashdash.core.config.ReplicaRoutingDataSource.Route;
+import com.flashdash.core.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    private static final String USER_FRN = "frn:flashdash:user:writer";
+
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource primary = database("routing_primary", "primary");
+        DriverManagerDataSource replica = database("routing_replica", "replica");
+        routingDataSource = new ReplicaRoutingDataSource(primary, replica, 60_000, 100);
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldReadFromReplicaInReadOnlyTransaction() {
+        // Act
+        String database = readOnly.execute(status -> currentDatabase());
+
+        // Assert
+        assertThat(database).isEqualTo("replica");
+    }
+
+    @Test
+    void shouldUsePrimaryForReadWriteTransactionsAndWithoutTransaction() {
+        // Act
+        String inTransaction = readWrite.execute(status -> currentDatabase());
+        String withoutTransaction = currentDatabase();
+
+        // Assert
+        assertThat(inTransaction).isEqualTo("primary");
+        assertThat(withoutTransaction).isEqualTo("primary");
+    }
+
+    @Test
+    void shouldReadOwnWritesFromPrimary() {
+        // Arrange
+        authenticate(USER_FRN);
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("update marker set name = 'primary'"));
+
+        // Act
+        String ownRead = readOnly.execute(status -> currentDatabase());
+        authenticate("frn:flashdash:user:reader");
+        String otherRead = readOnly.execute(status -> currentDatabase());
+
+        // Assert
+        assertThat(ownRead).isEqualTo("primary");
+        assertThat(otherRead).isEqualTo("replica");
+    }
+
+    @Test
+    void shouldNotStickToPrimaryWhenWriteRolledBack() {
+        // Arrange
+        authenticate(USER_FRN);
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("update marker set name = 'primary'");
+            status.setRollbackOnly();
+        });
+
+        // Act
+        String database = readOnly.execute(status -> currentDatabase());
+
+        // Assert
+        assertThat(database).isEqualTo("replica");
+    }
+
+    @Test
+    void shouldReadFromReplicaAgainOnceLagToleranceHasPassed() throws InterruptedException {
+        // Arrange
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                database("routing_primary", "primary"), database("routing_replica", "replica"), 1, 100);
+        authenticate(USER_FRN);
+        routing.recordWrite(USER_FRN);
+        Thread.sleep(10);
+
+        // Act
+        Route route = readOnly.execute(status -> routing.route());
+
+        // Assert
+        assertThat(route).isEqualTo(Route.REPLICA);
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhileReplicaIsUnavailable() {
+        // Arrange
+        routingDataSource.setReplicaAvailable(false);
+
+        // Act
+        String database = readOnly.execute(status -> currentDatabase());
+
+        // Assert
+        assertThat(database).isEqualTo("primary");
+    }
+
+    @Test
+    void shouldMarkReplicaUnavailableWhenLagExceedsTolerance() {
+        // Arrange
+        ReplicaLagMonitor lagging = new ReplicaLagMonitor(routingDataSource, "select 5", 1000);
+        ReplicaLagMonitor current = new ReplicaLagMonitor(routingDataSource, "select 0", 1000);
+        ReplicaLagMonitor broken = new ReplicaLagMonitor(routingDataSource, "select lag from missing_table", 1000);
+
+        // Act & Assert
+        lagging.checkLag();
+        assertThat(routingDataSource.isReplicaAvailable()).isFalse();
+
+        current.checkLag();
+        assertThat(routingDataSource.isReplicaAvailable()).isTrue();
+
+        broken.checkLag();
+        assertThat(routingDataSource.isReplicaAvailable()).isFalse();
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("select name from marker", String.class);
+    }
+
+    private static void authenticate(String userFrn) {
+        User principal = new User();
+        principal.setUserFrn(userFrn);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+
+    private static DriverManagerDataSource database(String name, String marker) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table if not exists marker (name varchar(16))");
+        jdbcTemplate.update("delete from marker");
+        jdbcTemplate.update("insert into marker (name) values (?)", marker);
+        return dataSource;
+    }
+}
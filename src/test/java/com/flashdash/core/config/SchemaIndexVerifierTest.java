@@ -0,0 +1,80 @@
+package com.flashdash.core.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SchemaIndexVerifierTest {
+
+    @Autowired
+    private SchemaIndexVerifier schemaIndexVerifier;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldFindAllDeclaredIndexes() {
+        // Act
+        List<String> missing = schemaIndexVerifier.findMissingIndexes();
+
+        // Assert
+        assertThat(missing).isEmpty();
+    }
+
+    @Test
+    void shouldReportDroppedIndex() {
+        // Arrange
+        jdbcTemplate.execute("drop index idx_decks_user_created");
+
+        try {
+            // Act
+            List<String> missing = schemaIndexVerifier.findMissingIndexes();
+
+            // Assert
+            assertThat(missing).containsExactly("decks.idx_decks_user_created [user_frn, created_at, deck_frn]");
+        } finally {
+            jdbcTemplate.execute("create index idx_decks_user_created on decks (user_frn, created_at, deck_frn)");
+        }
+    }
+
+    @Test
+    void shouldCreateEveryDeclaredIndexWithMigrations() {
+        // Arrange
+        DriverManagerDataSource migrated = new DriverManagerDataSource("jdbc:h2:mem:migrations;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(
+                new ClassPathResource("db/migration/V1__initial_schema.sql"),
+                new ClassPathResource("db/migration/V1_1__add_user_token_version.sql"),
+                new ClassPathResource("db/migration/V1_2__create_refresh_tokens.sql"),
+                new ClassPathResource("db/migration/V1_3__add_unique_username.sql"),
+                new ClassPathResource("db/migration/V1_4__create_friendships.sql"),
+                new ClassPathResource("db/migration/V2__add_finder_indexes.sql"),
+                new ClassPathResource("db/migration/V4__add_user_version.sql"),
+                new ClassPathResource("db/migration/V5__create_account_deletion_jobs.sql"),
+                new ClassPathResource("db/migration/V6__add_keyset_pagination_indexes.sql"),
+                new ClassPathResource("db/migration/V7__add_leaderboard_indexes.sql"),
+                new ClassPathResource("db/migration/V8__create_user_stats_rollups.sql"),
+                new ClassPathResource("db/migration/V9__add_account_deletion_retries.sql"));
+        populator.execute(migrated);
+
+        // Act
+        List<String> missing = new SchemaIndexVerifier(entityManagerFactory, migrated, true).findMissingIndexes();
+
+        // Assert
+        assertThat(missing).isEmpty();
+    }
+}
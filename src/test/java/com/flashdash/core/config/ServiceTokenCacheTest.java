@@ -0,0 +1,97 @@
+package com.flashdash.core.config;
+
+import com.flashdash.core.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ServiceTokenCacheTest {
+
+    @Autowired
+    private ServiceTokenCache serviceTokenCache;
+
+    @MockitoBean
+    private JwtManager jwtManager;
+
+    @MockitoBean
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        reset(jwtManager, userRepository);
+        when(jwtManager.getTokenValidity()).thenReturn(Duration.ofHours(1));
+    }
+
+    @Test
+    void shouldSignOnceAndReuseTokenForRememberedUser() {
+        // Arrange
+        String userFrn = "frn:flashdash:user:remembered";
+        when(jwtManager.generateToken(userFrn, "remembered@example.com")).thenReturn("service-token");
+        serviceTokenCache.remember(userFrn, "remembered@example.com");
+
+        // Act
+        Optional<String> first = serviceTokenCache.getToken(userFrn);
+        Optional<String> second = serviceTokenCache.getToken(userFrn);
+
+        // Assert
+        assertThat(first).contains("service-token");
+        assertThat(second).contains("service-token");
+        verify(jwtManager, times(1)).generateToken(userFrn, "remembered@example.com");
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void shouldResignWhenTokenIsWithinRefreshMargin() {
+        // Arrange
+        String userFrn = "frn:flashdash:user:expiring";
+        when(jwtManager.getTokenValidity()).thenReturn(Duration.ofMinutes(1));
+        when(jwtManager.generateToken(userFrn, "expiring@example.com")).thenReturn("token-1", "token-2");
+        serviceTokenCache.remember(userFrn, "expiring@example.com");
+
+        // Act
+        Optional<String> first = serviceTokenCache.getToken(userFrn);
+        Optional<String> second = serviceTokenCache.getToken(userFrn);
+
+        // Assert
+        assertThat(first).contains("token-1");
+        assertThat(second).contains("token-2");
+    }
+
+    @Test
+    void shouldLoadEmailOnceForUnknownUser() {
+        // Arrange
+        String userFrn = "frn:flashdash:user:unknown";
+        when(userRepository.findEmailByUserFrn(userFrn)).thenReturn(Optional.of("unknown@example.com"));
+        when(jwtManager.generateToken(userFrn, "unknown@example.com")).thenReturn("service-token");
+
+        // Act
+        serviceTokenCache.getToken(userFrn);
+        Optional<String> token = serviceTokenCache.getToken(userFrn);
+
+        // Assert
+        assertThat(token).contains("service-token");
+        verify(userRepository, times(1)).findEmailByUserFrn(userFrn);
+    }
+
+    @Test
+    void shouldReturnEmptyForMissingUser() {
+        // Arrange
+        String userFrn = "frn:flashdash:user:missing";
+        when(userRepository.findEmailByUserFrn(userFrn)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThat(serviceTokenCache.getToken(userFrn)).isEmpty();
+        verify(jwtManager, never()).generateToken(anyString(), anyString());
+    }
+}
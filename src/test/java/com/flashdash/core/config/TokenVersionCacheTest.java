@@ -0,0 +1,85 @@
+package com.flashdash.core.config;
+
+import com.flashdash.core.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class TokenVersionCacheTest {
+
+    @Autowired
+    private TokenVersionCache tokenVersionCache;
+
+    @MockitoBean
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        reset(userRepository);
+    }
+
+    @Test
+    void shouldLoadVersionOnceAndServeFromCache() {
+        // Arrange
+        String userFrn = "frn:flashdash:user:cached";
+        when(userRepository.findActiveTokenVersionByUserFrn(userFrn)).thenReturn(Optional.of(0));
+
+        // Act
+        boolean first = tokenVersionCache.isCurrent(userFrn, 0);
+        boolean second = tokenVersionCache.isCurrent(userFrn, 0);
+
+        // Assert
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        verify(userRepository, times(1)).findActiveTokenVersionByUserFrn(userFrn);
+    }
+
+    @Test
+    void shouldRejectTokensIssuedBeforeVersionUpdate() {
+        // Arrange
+        String userFrn = "frn:flashdash:user:updated";
+        when(userRepository.findActiveTokenVersionByUserFrn(userFrn)).thenReturn(Optional.of(0));
+        tokenVersionCache.isCurrent(userFrn, 0);
+
+        // Act
+        tokenVersionCache.update(userFrn, 1);
+
+        // Assert
+        assertThat(tokenVersionCache.isCurrent(userFrn, 0)).isFalse();
+        assertThat(tokenVersionCache.isCurrent(userFrn, 1)).isTrue();
+    }
+
+    @Test
+    void shouldRejectAllTokensOfRevokedUser() {
+        // Arrange
+        String userFrn = "frn:flashdash:user:revoked";
+        tokenVersionCache.update(userFrn, 3);
+
+        // Act
+        tokenVersionCache.revoke(userFrn);
+
+        // Assert
+        assertThat(tokenVersionCache.isCurrent(userFrn, 3)).isFalse();
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void shouldRejectUnknownUser() {
+        // Arrange
+        String userFrn = "frn:flashdash:user:unknown";
+        when(userRepository.findActiveTokenVersionByUserFrn(userFrn)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThat(tokenVersionCache.isCurrent(userFrn, 0)).isFalse();
+    }
+}
@@ -0,0 +1,73 @@
+package com.flashdash.core.config.interceptor;
+
+import com.flashdash.core.config.interceptor.BearerTokenInterceptor.TokenScope;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.mockito.ArgumentCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BearerTokenInterceptorTest {
+
+    private final BearerTokenInterceptor bearerTokenInterceptor = new BearerTokenInterceptor();
+    private Interceptor.Chain chain;
+
+    @BeforeEach
+    void setUp() {
+        chain = mock(Interceptor.Chain.class);
+        when(chain.request()).thenReturn(new Request.Builder().url("http://localhost/activities").build());
+    }
+
+    @Test
+    void shouldAddBearerTokenOfCurrentScope() throws Exception {
+        // Arrange
+        ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+
+        // Act
+        try (TokenScope ignored = BearerTokenInterceptor.withToken("token-1")) {
+            bearerTokenInterceptor.intercept(chain);
+        }
+
+        // Assert
+        verify(chain).proceed(requestCaptor.capture());
+        assertThat(requestCaptor.getValue().header("Authorization")).isEqualTo("Bearer token-1");
+    }
+
+    @Test
+    void shouldRestoreOuterTokenWhenNestedScopeCloses() throws Exception {
+        // Arrange
+        ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+
+        // Act
+        try (TokenScope outer = BearerTokenInterceptor.withToken("outer")) {
+            try (TokenScope inner = BearerTokenInterceptor.withToken("inner")) {
+                bearerTokenInterceptor.intercept(chain);
+            }
+            bearerTokenInterceptor.intercept(chain);
+        }
+
+        // Assert
+        verify(chain, times(2)).proceed(requestCaptor.capture());
+        assertThat(requestCaptor.getAllValues())
+                .extracting(request -> request.header("Authorization"))
+                .containsExactly("Bearer inner", "Bearer outer");
+    }
+
+    @Test
+    void shouldLeaveRequestUntouchedOutsideOfScope() throws Exception {
+        // Arrange
+        ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+
+        // Act
+        bearerTokenInterceptor.intercept(chain);
+
+        // Assert
+        verify(chain).proceed(requestCaptor.capture());
+        assertThat(requestCaptor.getValue().header("Authorization")).isNull();
+    }
+}
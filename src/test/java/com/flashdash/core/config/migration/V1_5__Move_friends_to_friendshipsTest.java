@@ -0,0 +1,89 @@
+package com.flashdash.core.config.migration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class V1_5__Move_friends_to_friendshipsTest {
+
+    private Connection connection;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:friends-migration;MODE=MySQL", "sa", "");
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(connection, true);
+        new ResourceDatabasePopulator(
+                new ClassPathResource("db/migration/V1__initial_schema.sql"),
+                new ClassPathResource("db/migration/V1_1__add_user_token_version.sql"),
+                new ClassPathResource("db/migration/V1_2__create_refresh_tokens.sql"),
+                new ClassPathResource("db/migration/V1_3__add_unique_username.sql"),
+                new ClassPathResource("db/migration/V1_4__create_friendships.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void shouldMoveJsonFriendListsIntoFriendshipsTableAndDropColumn() throws SQLException {
+        // Arrange
+        insertUser("frn:flashdash:user:alice", "[\"frn:flashdash:user:bob\",\"frn:flashdash:user:deleted\"]");
+        insertUser("frn:flashdash:user:bob", "[\"frn:flashdash:user:alice\"]");
+        insertUser("frn:flashdash:user:carol", "[\"frn:flashdash:user:carol\",\"frn:flashdash:user:dave\"]");
+        insertUser("frn:flashdash:user:dave", "[]");
+        insertUser("frn:flashdash:user:eve", "{\"friends\": []}");
+
+        // Act
+        new V1_5__Move_friends_to_friendships().migrate(connection);
+
+        // Assert
+        assertThat(jdbcTemplate.queryForList("SELECT CONCAT(user_frn, ' -> ', friend_frn) FROM friendships", String.class))
+                .containsExactlyInAnyOrder(
+                        "frn:flashdash:user:alice -> frn:flashdash:user:bob",
+                        "frn:flashdash:user:bob -> frn:flashdash:user:alice",
+                        "frn:flashdash:user:carol -> frn:flashdash:user:dave",
+                        "frn:flashdash:user:dave -> frn:flashdash:user:carol");
+
+        List<String> columns = jdbcTemplate.queryForList(
+                "SELECT column_name FROM information_schema.columns WHERE table_name = 'USERS' AND column_name = 'FRIENDS_FRN'", String.class);
+        assertThat(columns).isEmpty();
+    }
+
+    @Test
+    void shouldReadUsersInBatches() throws SQLException {
+        // Arrange
+        for (int i = 0; i < 1_200; i++) {
+            insertUser(String.format("frn:flashdash:user:%04d", i), "[\"frn:flashdash:user:0000\"]");
+        }
+
+        // Act
+        new V1_5__Move_friends_to_friendships().migrate(connection);
+
+        // Assert
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM friendships", Integer.class)).isEqualTo(2 * 1_199);
+    }
+
+    private void insertUser(String userFrn, String friendsJson) {
+        String name = userFrn.substring(userFrn.lastIndexOf(':') + 1);
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("INSERT INTO users (user_frn, username, first_name, last_name, email, password, created_at, updated_at, "
+                        + "enabled, activation_token, study_time, games_played, points, strike, friends_frn) "
+                        + "VALUES (?, ?, 'Test', 'User', ?, 'password', ?, ?, TRUE, ?, 0, 0, 0, 0, ? FORMAT JSON)",
+                userFrn, name, name + "@example.com", now, now, name + "-token", friendsJson);
+    }
+}
@@ -0,0 +1,95 @@
+package com.flashdash.core.config.migration;
+
+import com.flashdash.core.utils.FrnCodec;
+import com.flashdash.core.utils.FrnGenerator;
+import com.flashdash.core.utils.ResourceType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class V3__Store_frns_as_binaryTest {
+
+    private Connection connection;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:frn-migration;MODE=MySQL", "sa", "");
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(connection, true);
+        new ResourceDatabasePopulator(
+                new ClassPathResource("db/migration/V1__initial_schema.sql"),
+                new ClassPathResource("db/migration/V1_1__add_user_token_version.sql"),
+                new ClassPathResource("db/migration/V1_2__create_refresh_tokens.sql"),
+                new ClassPathResource("db/migration/V1_3__add_unique_username.sql"),
+                new ClassPathResource("db/migration/V1_4__create_friendships.sql")).execute(dataSource);
+        new V1_5__Move_friends_to_friendships().migrate(connection);
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V2__add_finder_indexes.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void shouldConvertTextualFrnsToBinary() throws SQLException {
+        // Arrange
+        String userFrn = FrnGenerator.generateFrn(ResourceType.USER);
+        String friendFrn = "frn:flashdash:user:hand-written";
+        String deckFrn = FrnGenerator.generateFrn(ResourceType.DECK);
+        LocalDateTime now = LocalDateTime.now();
+
+        insertUser(userFrn, "alice", now);
+        insertUser(friendFrn, "bob", now);
+        jdbcTemplate.update("INSERT INTO decks VALUES (?, ?, 'Deck', NULL, ?, ?)", deckFrn, userFrn, now, now);
+        jdbcTemplate.update("INSERT INTO friendships VALUES (?, ?, ?)", userFrn, friendFrn, now);
+        jdbcTemplate.update("INSERT INTO refresh_tokens VALUES ('hash', ?, 'alice@example.com', 0, ?, ?)", userFrn, now, now);
+
+        // Act
+        new V3__Store_frns_as_binary().migrate(connection);
+
+        // Assert
+        byte[] storedUser = jdbcTemplate.queryForObject("SELECT user_frn FROM users WHERE username = 'alice'", byte[].class);
+        assertThat(storedUser).hasSize(FrnCodec.COMPACT_LENGTH);
+        assertThat(FrnCodec.decode(storedUser)).isEqualTo(userFrn);
+        assertThat(FrnCodec.decode(jdbcTemplate.queryForObject("SELECT user_frn FROM users WHERE username = 'bob'", byte[].class)))
+                .isEqualTo(friendFrn);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM decks WHERE deck_frn = ? AND user_frn = ?", Integer.class,
+                FrnCodec.encode(deckFrn), FrnCodec.encode(userFrn))).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM friendships WHERE user_frn = ? AND friend_frn = ?", Integer.class,
+                FrnCodec.encode(userFrn), FrnCodec.encode(friendFrn))).isEqualTo(1);
+        assertThat(FrnCodec.decode(jdbcTemplate.queryForObject("SELECT user_frn FROM refresh_tokens WHERE token_hash = 'hash'", byte[].class)))
+                .isEqualTo(userFrn);
+    }
+
+    @Test
+    void shouldLeaveConvertedRowsUntouchedWhenRunAgain() throws SQLException {
+        // Arrange
+        String userFrn = FrnGenerator.generateFrn(ResourceType.USER);
+        insertUser(userFrn, "alice", LocalDateTime.now());
+        new V3__Store_frns_as_binary().migrate(connection);
+
+        // Act
+        new V3__Store_frns_as_binary().migrate(connection);
+
+        // Assert
+        assertThat(FrnCodec.decode(jdbcTemplate.queryForObject("SELECT user_frn FROM users", byte[].class))).isEqualTo(userFrn);
+    }
+
+    private void insertUser(String userFrn, String username, LocalDateTime now) {
+        jdbcTemplate.update("INSERT INTO users VALUES (?, ?, 'Test', 'User', ?, 'password', ?, ?, TRUE, ?, 0, 0, 0, 0, 0)",
+                userFrn, username, username + "@example.com", now, now, username + "-token");
+    }
+}
@@ -5,6 +5,9 @@ import com.flashdash.core.exception.ErrorCode;
 import com.flashdash.core.exception.FlashDashException;
 import com.flashdash.core.model.User;
 import com.flashdash.core.service.AuthenticationService;
+import com.flashdash.core.service.AuthenticationService.LoginTokens;
+import com.flashdash.core.service.RefreshTokenService;
+import com.flashdash.core.service.RefreshTokenService.RotatedTokens;
 import com.p4r1nc3.flashdash.core.model.AuthenticationResponse;
 import com.p4r1nc3.flashdash.core.model.LoginRequest;
 import com.p4r1nc3.flashdash.core.model.RegisterRequest;
@@ -13,14 +16,19 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest
@@ -33,11 +41,15 @@ class AuthenticationControllerTest {
     @MockitoBean
     private AuthenticationService authenticationService;
 
+    @MockitoBean
+    private RefreshTokenService refreshTokenService;
+
     private User user;
 
     @BeforeEach
     void setUp() {
         user = TestUtils.createUser();
+        when(refreshTokenService.getRefreshTokenValidity()).thenReturn(Duration.ofDays(30));
     }
 
     @Test
@@ -45,7 +57,7 @@ class AuthenticationControllerTest {
         // Arrange
         LoginRequest loginRequest = TestUtils.createLoginRequest(user);
         AuthenticationResponse authenticationResponse = TestUtils.createAuthenticationResponse();
-        when(authenticationService.login(loginRequest)).thenReturn(authenticationResponse);
+        when(authenticationService.login(loginRequest)).thenReturn(new LoginTokens(authenticationResponse, "refresh-token"));
 
         // Act
         ResponseEntity<AuthenticationResponse> responseEntity = authenticationController.login(loginRequest);
@@ -53,6 +65,44 @@ class AuthenticationControllerTest {
         // Assert
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
         assertEquals(authenticationResponse, responseEntity.getBody());
+        String cookie = responseEntity.getHeaders().getFirst(HttpHeaders.SET_COOKIE);
+        assertTrue(cookie.startsWith("refresh_token=refresh-token"));
+        assertTrue(cookie.contains("HttpOnly"));
+    }
+
+    @Test
+    public void testRefreshSuccessful() {
+        // Arrange
+        when(refreshTokenService.refresh("refresh-token")).thenReturn(new RotatedTokens("access-token", "rotated-token"));
+
+        // Act
+        ResponseEntity<AuthenticationResponse> responseEntity = authenticationController.refresh("refresh-token");
+
+        // Assert
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertEquals("access-token", responseEntity.getBody().getToken());
+        assertTrue(responseEntity.getHeaders().getFirst(HttpHeaders.SET_COOKIE).startsWith("refresh_token=rotated-token"));
+    }
+
+    @Test
+    public void testRefreshWithoutCookie() {
+        // Act & Assert
+        FlashDashException exception = assertThrows(
+                FlashDashException.class,
+                () -> authenticationController.refresh(null)
+        );
+        assertEquals(ErrorCode.E401001, exception.getErrorCode());
+    }
+
+    @Test
+    public void testLogoutRevokesRefreshToken() {
+        // Act
+        ResponseEntity<Void> responseEntity = authenticationController.logout("refresh-token");
+
+        // Assert
+        assertEquals(HttpStatus.NO_CONTENT, responseEntity.getStatusCode());
+        assertTrue(responseEntity.getHeaders().getFirst(HttpHeaders.SET_COOKIE).contains("Max-Age=0"));
+        verify(refreshTokenService).revoke("refresh-token");
     }
 
     @Test
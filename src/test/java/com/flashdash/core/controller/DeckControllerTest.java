@@ -6,7 +6,9 @@ import com.flashdash.core.exception.FlashDashException;
 import com.flashdash.core.model.Deck;
 import com.flashdash.core.model.User;
 import com.flashdash.core.service.DeckService;
+import com.flashdash.core.utils.CursorPage;
 import com.flashdash.core.utils.EntityToResponseMapper;
+import com.flashdash.core.utils.Pagination;
 import com.p4r1nc3.flashdash.core.model.DeckRequest;
 import com.p4r1nc3.flashdash.core.model.DeckResponse;
 import org.junit.jupiter.api.*;
@@ -89,15 +91,16 @@ class DeckControllerTest {
         List<Deck> decks = List.of(deck);
         List<DeckResponse> expectedResponses = List.of(new DeckResponse());
 
-        when(deckService.getAllDecks(eq(user.getUserFrn()))).thenReturn(decks);
+        when(deckService.getAllDecks(eq(user.getUserFrn()), eq("token"), eq(1))).thenReturn(new CursorPage<>(decks, "next"));
         when(entityToResponseMapper.mapToDeckResponse(decks)).thenReturn(expectedResponses);
 
         // Act
-        ResponseEntity<List<DeckResponse>> responseEntity = deckController.getAllDecks();
+        ResponseEntity<List<DeckResponse>> responseEntity = deckController.getAllDecks("token", 1);
 
         // Assert
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
         assertEquals(expectedResponses, responseEntity.getBody());
+        assertEquals("next", responseEntity.getHeaders().getFirst(Pagination.NEXT_PAGE_TOKEN_HEADER));
     }
 
     @Test
@@ -5,6 +5,7 @@ import com.flashdash.core.exception.ErrorCode;
 import com.flashdash.core.exception.FlashDashException;
 import com.flashdash.core.model.User;
 import com.flashdash.core.service.FriendService;
+import com.flashdash.core.utils.CursorPage;
 import com.flashdash.core.utils.EntityToResponseMapper;
 import com.p4r1nc3.flashdash.core.model.UserResponse;
 import org.junit.jupiter.api.*;
@@ -76,11 +77,11 @@ class FriendControllerTest {
         List<User> friends = List.of(friendUser);
         List<UserResponse> expectedResponses = List.of(friendResponse);
 
-        when(friendService.getFriends(userFrn)).thenReturn(friends);
+        when(friendService.getFriends(userFrn, null, null)).thenReturn(new CursorPage<>(friends, null));
         when(entityToResponseMapper.mapToUserResponse(friends)).thenReturn(expectedResponses);
 
         // Act
-        ResponseEntity<List<UserResponse>> responseEntity = friendController.getFriends();
+        ResponseEntity<List<UserResponse>> responseEntity = friendController.getFriends(null, null);
 
         // Assert
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
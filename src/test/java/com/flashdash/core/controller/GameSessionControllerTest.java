@@ -5,9 +5,11 @@ import com.flashdash.core.exception.ErrorCode;
 import com.flashdash.core.exception.FlashDashException;
 import com.flashdash.core.model.Deck;
 import com.flashdash.core.model.GameSession;
+import com.flashdash.core.model.GameSessionSummary;
 import com.flashdash.core.model.Question;
 import com.flashdash.core.model.User;
 import com.flashdash.core.service.GameSessionService;
+import com.flashdash.core.utils.CursorPage;
 import com.flashdash.core.utils.EntityToResponseMapper;
 import com.p4r1nc3.flashdash.core.model.GameSessionResponse;
 import com.p4r1nc3.flashdash.core.model.QuestionRequest;
@@ -127,14 +129,14 @@ class GameSessionControllerTest {
     @Test
     void shouldGetAllGameSessionsSuccessfully() {
         // Arrange
-        List<GameSession> gameSessions = List.of(gameSession);
+        List<GameSessionSummary> gameSessions = List.of(GameSessionSummary.of(gameSession));
         List<GameSessionResponse> expectedResponses = List.of(new GameSessionResponse());
 
-        when(gameSessionService.getGameSessions(eq(deckFrn), eq(user.getUserFrn()))).thenReturn(gameSessions);
+        when(gameSessionService.getGameSessions(eq(deckFrn), eq(user.getUserFrn()), isNull(), isNull())).thenReturn(new CursorPage<>(gameSessions, null));
         when(entityToResponseMapper.mapToGameSessionResponse(gameSessions)).thenReturn(expectedResponses);
 
         // Act
-        ResponseEntity<List<GameSessionResponse>> responseEntity = gameSessionController.getGameSessions(deckFrn);
+        ResponseEntity<List<GameSessionResponse>> responseEntity = gameSessionController.getGameSessions(deckFrn, null, null);
 
         // Assert
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
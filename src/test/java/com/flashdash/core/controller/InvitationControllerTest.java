@@ -6,6 +6,7 @@ import com.flashdash.core.exception.FlashDashException;
 import com.flashdash.core.model.FriendInvitation;
 import com.flashdash.core.model.User;
 import com.flashdash.core.service.InvitationService;
+import com.flashdash.core.utils.CursorPage;
 import com.flashdash.core.utils.EntityToResponseMapper;
 import com.p4r1nc3.flashdash.core.model.FriendInvitationResponseReceived;
 import com.p4r1nc3.flashdash.core.model.FriendInvitationResponseSent;
@@ -90,11 +91,11 @@ public class InvitationControllerTest {
         List<FriendInvitation> invitations = List.of(TestUtils.createFriendInvitation(friendUser, testUser));
         List<FriendInvitationResponseReceived> expectedResponses = List.of(new FriendInvitationResponseReceived());
 
-        when(invitationService.getReceivedFriendInvitations(userFrn)).thenReturn(invitations);
+        when(invitationService.getReceivedFriendInvitations(userFrn, null, null)).thenReturn(new CursorPage<>(invitations, null));
         when(entityToResponseMapper.mapToReceivedResponse(invitations)).thenReturn(expectedResponses);
 
         // Act
-        ResponseEntity<List<FriendInvitationResponseReceived>> responseEntity = invitationController.getReceivedInvitations();
+        ResponseEntity<List<FriendInvitationResponseReceived>> responseEntity = invitationController.getReceivedInvitations(null, null);
 
         // Assert
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -107,11 +108,11 @@ public class InvitationControllerTest {
         List<FriendInvitation> invitations = List.of(TestUtils.createFriendInvitation(testUser, friendUser));
         List<FriendInvitationResponseSent> expectedResponses = List.of(new FriendInvitationResponseSent());
 
-        when(invitationService.getSentFriendInvitations(userFrn)).thenReturn(invitations);
+        when(invitationService.getSentFriendInvitations(userFrn, null, null)).thenReturn(new CursorPage<>(invitations, null));
         when(entityToResponseMapper.mapToSentResponse(invitations)).thenReturn(expectedResponses);
 
         // Act
-        ResponseEntity<List<FriendInvitationResponseSent>> responseEntity = invitationController.getSentInvitations();
+        ResponseEntity<List<FriendInvitationResponseSent>> responseEntity = invitationController.getSentInvitations(null, null);
 
         // Assert
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -1,8 +1,11 @@
 package com.flashdash.core.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.flashdash.core.TestUtils;
 import com.flashdash.core.model.User;
+import com.flashdash.core.service.LeaderboardCache;
 import com.flashdash.core.service.LeaderboardService;
+import com.flashdash.core.utils.Pagination;
 import com.p4r1nc3.flashdash.core.model.LeaderboardEntry;
 import com.p4r1nc3.flashdash.core.model.UserSummary;
 import org.junit.jupiter.api.AfterEach;
@@ -22,12 +25,16 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest
@@ -44,7 +51,8 @@ class LeaderboardControllerTest {
 
     @BeforeEach
     void setUp() {
-        leaderboardController = new LeaderboardController(leaderboardService);
+        leaderboardController = new LeaderboardController(leaderboardService, new LeaderboardCache(new ObjectMapper(), 5, 1000),
+                new Pagination(50, 200));
         user = TestUtils.createUser();
 
         Authentication authentication = mock(Authentication.class);
@@ -66,11 +74,11 @@ class LeaderboardControllerTest {
     void testGetLeaderboardsSuccessful() {
         // Arrange
         List<LeaderboardEntry> expectedLeaderboard = createSampleLeaderboard();
-        when(leaderboardService.getLeaderboard(eq(user.getUserFrn()), anyString(), anyBoolean(), anyInt()))
+        when(leaderboardService.getLeaderboard(eq(user.getUserFrn()), anyString(), eq("all"), anyBoolean(), anyInt()))
                 .thenReturn(expectedLeaderboard);
 
         // Act
-        ResponseEntity<List<LeaderboardEntry>> responseEntity = leaderboardController.getLeaderboards("points", false, 10);
+        ResponseEntity<List<LeaderboardEntry>> responseEntity = leaderboardController.getLeaderboards("points", "all", false, 10, null);
 
         // Assert
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -81,11 +89,11 @@ class LeaderboardControllerTest {
     void testGetLeaderboardsWithDifferentCriteria() {
         // Arrange
         List<LeaderboardEntry> expectedLeaderboard = createSampleLeaderboard();
-        when(leaderboardService.getLeaderboard(eq(user.getUserFrn()), eq("studyTime"), anyBoolean(), anyInt()))
+        when(leaderboardService.getLeaderboard(eq(user.getUserFrn()), eq("studyTime"), eq("all"), anyBoolean(), anyInt()))
                 .thenReturn(expectedLeaderboard);
 
         // Act
-        ResponseEntity<List<LeaderboardEntry>> responseEntity = leaderboardController.getLeaderboards("studyTime", false, 10);
+        ResponseEntity<List<LeaderboardEntry>> responseEntity = leaderboardController.getLeaderboards("studyTime", "all", false, 10, null);
 
         // Assert
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -96,11 +104,11 @@ class LeaderboardControllerTest {
     void testGetLeaderboardsFriendsOnly() {
         // Arrange
         List<LeaderboardEntry> expectedLeaderboard = createSampleLeaderboard();
-        when(leaderboardService.getLeaderboard(eq(user.getUserFrn()), anyString(), eq(true), anyInt()))
+        when(leaderboardService.getLeaderboard(eq(user.getUserFrn()), anyString(), eq("all"), eq(true), anyInt()))
                 .thenReturn(expectedLeaderboard);
 
         // Act
-        ResponseEntity<List<LeaderboardEntry>> responseEntity = leaderboardController.getLeaderboards("points", true, 10);
+        ResponseEntity<List<LeaderboardEntry>> responseEntity = leaderboardController.getLeaderboards("points", "all", true, 10, null);
 
         // Assert
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -111,11 +119,11 @@ class LeaderboardControllerTest {
     void testGetLeaderboardsWithLimit() {
         // Arrange
         List<LeaderboardEntry> expectedLeaderboard = createSampleLeaderboard().subList(0, 3);
-        when(leaderboardService.getLeaderboard(eq(user.getUserFrn()), anyString(), anyBoolean(), eq(3)))
+        when(leaderboardService.getLeaderboard(eq(user.getUserFrn()), anyString(), eq("all"), anyBoolean(), eq(3)))
                 .thenReturn(expectedLeaderboard);
 
         // Act
-        ResponseEntity<List<LeaderboardEntry>> responseEntity = leaderboardController.getLeaderboards("points", false, 3);
+        ResponseEntity<List<LeaderboardEntry>> responseEntity = leaderboardController.getLeaderboards("points", "all", false, 3, null);
 
         // Assert
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -123,15 +131,32 @@ class LeaderboardControllerTest {
         assertEquals(3, responseEntity.getBody().size());
     }
 
+    @Test
+    void testGetLeaderboardsCapsLimitAtMaxPageSize() {
+        // Arrange
+        List<LeaderboardEntry> expectedLeaderboard = createSampleLeaderboard();
+        when(leaderboardService.getLeaderboard(eq(user.getUserFrn()), eq("points"), eq("all"), eq(false), eq(200)))
+                .thenReturn(expectedLeaderboard);
+
+        // Act
+        ResponseEntity<List<LeaderboardEntry>> first = leaderboardController.getLeaderboards("points", "all", false, 1_000_000, null);
+        ResponseEntity<List<LeaderboardEntry>> second = leaderboardController.getLeaderboards("points", "all", false, 5_000, null);
+
+        // Assert
+        assertEquals(expectedLeaderboard, first.getBody());
+        assertEquals(first.getHeaders().getETag(), second.getHeaders().getETag());
+        verify(leaderboardService, times(1)).getLeaderboard(user.getUserFrn(), "points", "all", false, 200);
+    }
+
     @Test
     void testGetLeaderboardsWithStreak() {
         // Arrange
         List<LeaderboardEntry> expectedLeaderboard = createSampleLeaderboard();
-        when(leaderboardService.getLeaderboard(eq(user.getUserFrn()), eq("streak"), anyBoolean(), anyInt()))
+        when(leaderboardService.getLeaderboard(eq(user.getUserFrn()), eq("streak"), eq("all"), anyBoolean(), anyInt()))
                 .thenReturn(expectedLeaderboard);
 
         // Act
-        ResponseEntity<List<LeaderboardEntry>> responseEntity = leaderboardController.getLeaderboards("streak", false, 10);
+        ResponseEntity<List<LeaderboardEntry>> responseEntity = leaderboardController.getLeaderboards("streak", "all", false, 10, null);
 
         // Assert
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -142,11 +167,75 @@ class LeaderboardControllerTest {
     void testGetLeaderboardsWithGamesPlayed() {
         // Arrange
         List<LeaderboardEntry> expectedLeaderboard = createSampleLeaderboard();
-        when(leaderboardService.getLeaderboard(eq(user.getUserFrn()), eq("gamesPlayed"), anyBoolean(), anyInt()))
+        when(leaderboardService.getLeaderboard(eq(user.getUserFrn()), eq("gamesPlayed"), eq("all"), anyBoolean(), anyInt()))
+                .thenReturn(expectedLeaderboard);
+
+        // Act
+        ResponseEntity<List<LeaderboardEntry>> responseEntity = leaderboardController.getLeaderboards("gamesPlayed", "all", false, 10, null);
+
+        // Assert
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertEquals(expectedLeaderboard, responseEntity.getBody());
+    }
+
+    @Test
+    void testGetLeaderboardsForWeek() {
+        // Arrange
+        List<LeaderboardEntry> expectedLeaderboard = createSampleLeaderboard();
+        when(leaderboardService.getLeaderboard(eq(user.getUserFrn()), eq("points"), eq("week"), anyBoolean(), anyInt()))
+                .thenReturn(expectedLeaderboard);
+
+        // Act
+        ResponseEntity<List<LeaderboardEntry>> responseEntity = leaderboardController.getLeaderboards("points", "week", false, 10, null);
+
+        // Assert
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        assertEquals(expectedLeaderboard, responseEntity.getBody());
+    }
+
+    @Test
+    void testGetLeaderboardsComputesGlobalLeaderboardOnceWithinTtl() {
+        // Arrange
+        List<LeaderboardEntry> expectedLeaderboard = createSampleLeaderboard();
+        when(leaderboardService.getLeaderboard(eq(user.getUserFrn()), eq("points"), eq("all"), eq(false), eq(10)))
+                .thenReturn(expectedLeaderboard);
+
+        // Act
+        ResponseEntity<List<LeaderboardEntry>> first = leaderboardController.getLeaderboards("points", "all", false, 10, null);
+        ResponseEntity<List<LeaderboardEntry>> second = leaderboardController.getLeaderboards("points", "all", false, 10, null);
+
+        // Assert
+        assertEquals(expectedLeaderboard, second.getBody());
+        assertNotNull(first.getHeaders().getETag());
+        assertEquals(first.getHeaders().getETag(), second.getHeaders().getETag());
+        verify(leaderboardService, times(1)).getLeaderboard(user.getUserFrn(), "points", "all", false, 10);
+    }
+
+    @Test
+    void testGetLeaderboardsNotModified() {
+        // Arrange
+        when(leaderboardService.getLeaderboard(eq(user.getUserFrn()), eq("points"), eq("all"), eq(false), eq(10)))
+                .thenReturn(createSampleLeaderboard());
+        String eTag = leaderboardController.getLeaderboards("points", "all", false, 10, null).getHeaders().getETag();
+
+        // Act
+        ResponseEntity<List<LeaderboardEntry>> responseEntity = leaderboardController.getLeaderboards("points", "all", false, 10, eTag);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, responseEntity.getStatusCode());
+        assertEquals(eTag, responseEntity.getHeaders().getETag());
+        assertNull(responseEntity.getBody());
+    }
+
+    @Test
+    void testGetLeaderboardAroundMe() {
+        // Arrange
+        List<LeaderboardEntry> expectedLeaderboard = createSampleLeaderboard().subList(1, 4);
+        when(leaderboardService.getLeaderboardAroundUser(user.getUserFrn(), "points", 1))
                 .thenReturn(expectedLeaderboard);
 
         // Act
-        ResponseEntity<List<LeaderboardEntry>> responseEntity = leaderboardController.getLeaderboards("gamesPlayed", false, 10);
+        ResponseEntity<List<LeaderboardEntry>> responseEntity = leaderboardController.getLeaderboardAroundMe("points", 1);
 
         // Assert
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
@@ -7,7 +7,9 @@ import com.flashdash.core.model.Deck;
 import com.flashdash.core.model.Question;
 import com.flashdash.core.model.User;
 import com.flashdash.core.service.QuestionService;
+import com.flashdash.core.utils.CursorPage;
 import com.flashdash.core.utils.EntityToResponseMapper;
+import com.flashdash.core.utils.Pagination;
 import com.p4r1nc3.flashdash.core.model.GenerateQuestionsRequest;
 import com.p4r1nc3.flashdash.core.model.QuestionRequest;
 import com.p4r1nc3.flashdash.core.model.QuestionResponse;
@@ -149,17 +151,18 @@ class QuestionControllerTest {
         );
         List<QuestionResponse> expectedResponses = List.of(new QuestionResponse(), new QuestionResponse());
 
-        when(questionService.getAllQuestionsInDeck(eq(deck.getDeckFrn()), eq(user.getUserFrn())))
-                .thenReturn(questions);
+        when(questionService.getQuestionsInDeck(eq(deck.getDeckFrn()), eq(user.getUserFrn()), isNull(), isNull()))
+                .thenReturn(new CursorPage<>(questions, null));
         when(entityToResponseMapper.mapToQuestionResponse(questions)).thenReturn(expectedResponses);
 
         // Act
-        ResponseEntity<List<QuestionResponse>> responseEntity = questionController.getAllQuestionsInDeck(deck.getDeckFrn());
+        ResponseEntity<List<QuestionResponse>> responseEntity = questionController.getAllQuestionsInDeck(deck.getDeckFrn(), null, null);
 
         // Assert
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
         assertEquals(expectedResponses, responseEntity.getBody());
-        verify(questionService, times(1)).getAllQuestionsInDeck(eq(deck.getDeckFrn()), eq(user.getUserFrn()));
+        assertNull(responseEntity.getHeaders().getFirst(Pagination.NEXT_PAGE_TOKEN_HEADER));
+        verify(questionService, times(1)).getQuestionsInDeck(eq(deck.getDeckFrn()), eq(user.getUserFrn()), isNull(), isNull());
     }
 
     @Test
@@ -157,7 +157,7 @@ class UserControllerTest {
 
         // Assert
         assertThat(response).isNotNull();
-        assertThat(response.getStatusCodeValue()).isEqualTo(204);
+        assertThat(response.getStatusCodeValue()).isEqualTo(202);
         verify(userService, times(1)).deleteUser(user.getUserFrn());
     }
 
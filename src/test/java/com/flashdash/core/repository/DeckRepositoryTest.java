@@ -3,13 +3,17 @@ package com.flashdash.core.repository;
 import com.flashdash.core.TestUtils;
 import com.flashdash.core.model.Deck;
 import com.flashdash.core.model.User;
+import com.flashdash.core.utils.PageCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -53,6 +57,42 @@ class DeckRepositoryTest {
                 .containsExactlyInAnyOrder(deck1.getDeckFrn(), deck2.getDeckFrn());
     }
 
+    @Test
+    void shouldPageDecksNewestFirstByCreatedAtAndFrn() {
+        // Arrange
+        User user = userRepository.save(TestUtils.createUser());
+        User otherUser = userRepository.save(TestUtils.createUser());
+        deckRepository.save(TestUtils.createDeck(otherUser));
+
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        List<Deck> decks = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Deck deck = TestUtils.createDeck(user);
+            // Two decks share a creation time, the FRN breaks the tie
+            deck.setCreatedAt(createdAt.plusMinutes(Math.min(i, 3)));
+            decks.add(deckRepository.save(deck));
+        }
+
+        // Act
+        List<String> pagedFrns = new ArrayList<>();
+        PageCursor cursor = PageCursor.FIRST;
+        List<Deck> page;
+        do {
+            page = deckRepository.findPageByUserFrn(user.getUserFrn(), cursor.createdAt(), cursor.frn(), Limit.of(2));
+            page.forEach(deck -> pagedFrns.add(deck.getDeckFrn()));
+            if (!page.isEmpty()) {
+                Deck last = page.get(page.size() - 1);
+                cursor = new PageCursor(last.getCreatedAt(), last.getDeckFrn());
+            }
+        } while (!page.isEmpty());
+
+        // Assert
+        assertThat(pagedFrns).hasSize(5).doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(decks.stream().map(Deck::getDeckFrn).toList());
+        assertThat(pagedFrns.subList(0, 2)).containsExactlyInAnyOrder(decks.get(3).getDeckFrn(), decks.get(4).getDeckFrn());
+        assertThat(pagedFrns.subList(2, 5)).containsExactly(decks.get(2).getDeckFrn(), decks.get(1).getDeckFrn(), decks.get(0).getDeckFrn());
+    }
+
     @Test
     void shouldFindSpecificDeckByDeckFrnAndUserFrn() {
         // Arrange
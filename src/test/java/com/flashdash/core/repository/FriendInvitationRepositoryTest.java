@@ -3,11 +3,13 @@ package com.flashdash.core.repository;
 import com.flashdash.core.TestUtils;
 import com.flashdash.core.model.FriendInvitation;
 import com.flashdash.core.model.User;
+import com.flashdash.core.utils.PageCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -50,8 +52,8 @@ class FriendInvitationRepositoryTest {
         friendInvitationRepository.save(acceptedInvitation);
 
         // Act
-        List<FriendInvitation> invitations = friendInvitationRepository.findAllBySentToFrnAndStatus(
-                recipient.getUserFrn(), "PENDING");
+        List<FriendInvitation> invitations = friendInvitationRepository.findPageBySentToFrnAndStatus(
+                recipient.getUserFrn(), "PENDING", PageCursor.FIRST.createdAt(), PageCursor.FIRST.frn(), Limit.of(10));
 
         // Assert
         assertThat(invitations).hasSize(1);
@@ -76,8 +78,8 @@ class FriendInvitationRepositoryTest {
         friendInvitationRepository.save(rejectedInvitation);
 
         // Act
-        List<FriendInvitation> invitations = friendInvitationRepository.findAllBySentByFrnAndStatus(
-                sender.getUserFrn(), "PENDING");
+        List<FriendInvitation> invitations = friendInvitationRepository.findPageBySentByFrnAndStatus(
+                sender.getUserFrn(), "PENDING", PageCursor.FIRST.createdAt(), PageCursor.FIRST.frn(), Limit.of(10));
 
         // Assert
         assertThat(invitations).hasSize(1);
@@ -98,8 +100,8 @@ class FriendInvitationRepositoryTest {
         friendInvitationRepository.save(acceptedInvitation);
 
         // Act
-        List<FriendInvitation> invitations = friendInvitationRepository.findAllBySentByFrnAndStatus(
-                sender.getUserFrn(), "PENDING");
+        List<FriendInvitation> invitations = friendInvitationRepository.findPageBySentByFrnAndStatus(
+                sender.getUserFrn(), "PENDING", PageCursor.FIRST.createdAt(), PageCursor.FIRST.frn(), Limit.of(10));
 
         // Assert
         assertThat(invitations).isEmpty();
@@ -144,8 +146,8 @@ class FriendInvitationRepositoryTest {
         friendInvitationRepository.save(rejectedInvitation);
 
         // Act
-        List<FriendInvitation> invitations = friendInvitationRepository.findAllBySentToFrnAndStatus(
-                recipient.getUserFrn(), "PENDING");
+        List<FriendInvitation> invitations = friendInvitationRepository.findPageBySentToFrnAndStatus(
+                recipient.getUserFrn(), "PENDING", PageCursor.FIRST.createdAt(), PageCursor.FIRST.frn(), Limit.of(10));
 
         // Assert
         assertThat(invitations).hasSize(1);
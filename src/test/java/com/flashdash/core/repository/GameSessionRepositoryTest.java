@@ -4,12 +4,15 @@ import com.flashdash.core.TestUtils;
 import com.flashdash.core.model.Deck;
 import com.flashdash.core.model.GameSession;
 import com.flashdash.core.model.GameSessionStatus;
+import com.flashdash.core.model.GameSessionSummary;
 import com.flashdash.core.model.User;
+import com.flashdash.core.utils.PageCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -180,14 +183,13 @@ class GameSessionRepositoryTest {
         gameSessionRepository.saveAll(List.of(session1, session2, session3));
 
         // Act
-        List<GameSession> deck1Sessions = gameSessionRepository.findAllByDeckFrnAndUserFrnAndStatus(
-                deck1.getDeckFrn(), user.getUserFrn(), GameSessionStatus.FINISHED.toString()
+        List<GameSessionSummary> deck1Sessions = gameSessionRepository.findPageByDeckFrnAndUserFrnAndStatus(
+                deck1.getDeckFrn(), user.getUserFrn(), GameSessionStatus.FINISHED.toString(),
+                PageCursor.FIRST.createdAt(), PageCursor.FIRST.frn(), Limit.of(10)
         );
 
         // Assert
-        assertThat(deck1Sessions).hasSize(1);
-        assertThat(deck1Sessions).extracting(GameSession::getDeckFrn).containsOnly(deck1.getDeckFrn());
-        assertThat(deck1Sessions).extracting(GameSession::getUserFrn).containsOnly(user.getUserFrn());
+        assertThat(deck1Sessions).extracting(GameSessionSummary::gameSessionFrn).containsExactly(session2.getGameSessionFrn());
     }
 
     @Test
@@ -200,8 +202,9 @@ class GameSessionRepositoryTest {
         deckRepository.save(deck);
 
         // Act
-        List<GameSession> sessions = gameSessionRepository.findAllByDeckFrnAndUserFrnAndStatus(
-                deck.getDeckFrn(), user.getUserFrn(), GameSessionStatus.FINISHED.toString()
+        List<GameSessionSummary> sessions = gameSessionRepository.findPageByDeckFrnAndUserFrnAndStatus(
+                deck.getDeckFrn(), user.getUserFrn(), GameSessionStatus.FINISHED.toString(),
+                PageCursor.FIRST.createdAt(), PageCursor.FIRST.frn(), Limit.of(10)
         );
 
         // Assert
@@ -4,13 +4,20 @@ import com.flashdash.core.TestUtils;
 import com.flashdash.core.model.Deck;
 import com.flashdash.core.model.Question;
 import com.flashdash.core.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,11 +37,30 @@ class QuestionRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    private Statistics statistics;
+
     @BeforeEach
     void setUp() {
         questionRepository.deleteAll();
         deckRepository.deleteAll();
         userRepository.deleteAll();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
     }
 
     @Test
@@ -143,4 +169,41 @@ class QuestionRepositoryTest {
         assertThat(questions).hasSize(1);
         assertThat(questions.get(0).getQuestion()).isEqualTo("What is Spring?");
     }
+
+    @Test
+    void shouldSaveAndDeleteLargeDeckInBatches() {
+        // Arrange
+        User user = userRepository.save(TestUtils.createUser());
+        Deck deck = deckRepository.save(TestUtils.createDeck(user));
+        entityManager.flush();
+
+        List<Question> questions = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            questions.add(TestUtils.createQuestion(deck, "Question " + i));
+        }
+
+        // Act
+        statistics.clear();
+        questionRepository.saveAll(questions);
+        entityManager.flush();
+        long insertStatements = statistics.getPrepareStatementCount();
+        long insertedEntities = statistics.getEntityInsertCount();
+        long loadedEntities = statistics.getEntityLoadCount();
+
+        statistics.clear();
+        int deleted = questionRepository.deleteAllByDeckFrn(deck.getDeckFrn());
+        long deleteStatements = statistics.getPrepareStatementCount();
+
+        // Assert
+        // New questions are persisted without a select each and their inserts are sent in JDBC batches
+        assertThat(insertedEntities).isEqualTo(1000);
+        assertThat(insertStatements).isLessThanOrEqualTo(1000 / batchSize);
+        assertThat(loadedEntities).isZero();
+
+        // The deck is cleared with a single delete instead of loading and removing every question
+        assertThat(deleted).isEqualTo(1000);
+        assertThat(deleteStatements).isEqualTo(1);
+        entityManager.clear();
+        assertThat(questionRepository.findAllByDeckFrn(deck.getDeckFrn())).isEmpty();
+    }
 }
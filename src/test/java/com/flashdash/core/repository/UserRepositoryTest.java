@@ -1,18 +1,28 @@
 package com.flashdash.core.repository;
 
 import com.flashdash.core.TestUtils;
+import com.flashdash.core.model.Friendship;
+import com.flashdash.core.model.LeaderboardCriterion;
 import com.flashdash.core.model.User;
+import com.flashdash.core.model.UserRanking;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @Transactional
 @SpringBootTest
@@ -22,8 +32,15 @@ class UserRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private FriendshipRepository friendshipRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @BeforeEach
     void setUp() {
+        friendshipRepository.deleteAll();
         userRepository.deleteAll();
     }
 
@@ -153,4 +170,179 @@ class UserRepositoryTest {
         assertThat(foundUsers).hasSize(2);
         assertThat(foundUsers).extracting(User::getUserFrn).containsExactlyInAnyOrder(user1.getUserFrn(), user2.getUserFrn());
     }
+
+    @Test
+    void shouldUpdateStrikeWithoutLoadingUser() {
+        // Arrange
+        User user = TestUtils.createUser();
+        userRepository.saveAndFlush(user);
+        LocalDateTime updatedAt = LocalDateTime.now();
+
+        // Act
+        int updated = userRepository.updateStrike(user.getUserFrn(), 7, updatedAt);
+
+        // Assert
+        assertThat(updated).isEqualTo(1);
+        assertThat(userRepository.findByUserFrn(user.getUserFrn()))
+                .get()
+                .extracting(User::getStrike)
+                .isEqualTo(7);
+    }
+
+    @Test
+    void shouldFindFriendsThroughFriendshipsTable() {
+        // Arrange
+        User user = userRepository.save(TestUtils.createUser());
+        User friend = userRepository.save(TestUtils.createUser());
+        User stranger = userRepository.save(TestUtils.createUser());
+
+        LocalDateTime now = LocalDateTime.now();
+        friendshipRepository.save(new Friendship(user.getUserFrn(), friend.getUserFrn(), now));
+        friendshipRepository.save(new Friendship(friend.getUserFrn(), user.getUserFrn(), now));
+
+        // Act
+        List<String> friends = friendshipRepository.findFriendFrnsByUserFrn(user.getUserFrn());
+        List<User> selfAndFriends = userRepository.findSelfAndFriendsByUserFrn(user.getUserFrn());
+
+        // Assert
+        assertThat(friends).containsExactly(friend.getUserFrn());
+        assertThat(selfAndFriends).extracting(User::getUserFrn)
+                .containsExactlyInAnyOrder(user.getUserFrn(), friend.getUserFrn())
+                .doesNotContain(stranger.getUserFrn());
+    }
+
+    @Test
+    void shouldIncrementGameStatsAtomically() {
+        // Arrange
+        User user = TestUtils.createUser();
+        user.setPoints(5);
+        userRepository.save(user);
+        LocalDateTime updatedAt = LocalDateTime.now();
+
+        // Act
+        int updated = userRepository.incrementGameStats(user.getUserFrn(), 10, Duration.ofMinutes(3), updatedAt);
+        userRepository.incrementGameStats(user.getUserFrn(), -4, Duration.ofMinutes(2), updatedAt);
+
+        // Assert
+        assertThat(updated).isEqualTo(1);
+        User reloaded = userRepository.findByUserFrn(user.getUserFrn()).orElseThrow();
+        assertThat(reloaded.getPoints()).isEqualTo(11);
+        assertThat(reloaded.getGamesPlayed()).isEqualTo(user.getGamesPlayed() + 2);
+        assertThat(reloaded.getStudyTime()).isEqualTo(user.getStudyTime().plusMinutes(5));
+    }
+
+    @Test
+    void shouldReturnZeroWhenIncrementingStatsOfMissingUser() {
+        // Act
+        int updated = userRepository.incrementGameStats("frn:flashdash:user:missing", 10, Duration.ofMinutes(1), LocalDateTime.now());
+
+        // Assert
+        assertThat(updated).isZero();
+    }
+
+    @Test
+    void shouldNotOverwriteStatsWhenSavingEntity() {
+        // Arrange
+        User user = userRepository.save(TestUtils.createUser());
+        userRepository.incrementGameStats(user.getUserFrn(), 10, Duration.ofMinutes(1), LocalDateTime.now());
+        User loaded = userRepository.findByUserFrn(user.getUserFrn()).orElseThrow();
+
+        // Act
+        loaded.setPoints(0);
+        loaded.setFirstName("Renamed");
+        userRepository.saveAndFlush(loaded);
+        entityManager.clear();
+
+        // Assert
+        User reloaded = userRepository.findByUserFrn(user.getUserFrn()).orElseThrow();
+        assertThat(reloaded.getPoints()).isEqualTo(10);
+        assertThat(reloaded.getFirstName()).isEqualTo("Renamed");
+    }
+
+    @Test
+    void shouldRejectStaleUserUpdate() {
+        // Arrange
+        User user = userRepository.saveAndFlush(TestUtils.createUser());
+        User current = userRepository.findByUserFrn(user.getUserFrn()).orElseThrow();
+        current.setFirstName("First");
+        userRepository.saveAndFlush(current);
+
+        User stale = TestUtils.createUser();
+        stale.setUserFrn(user.getUserFrn());
+        stale.setFirstName("Second");
+
+        // Act & Assert
+        assertThatThrownBy(() -> userRepository.saveAndFlush(stale))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+    }
+
+    @Test
+    void shouldFindTopRankingsOrderedByCriterionWithLimit() {
+        // Arrange
+        User low = TestUtils.createUser();
+        low.setPoints(10);
+        low.setStrike(9);
+        User high = TestUtils.createUser();
+        high.setPoints(30);
+        high.setStrike(1);
+        User middle = TestUtils.createUser();
+        middle.setPoints(20);
+        middle.setStrike(5);
+        userRepository.saveAll(List.of(low, high, middle));
+
+        // Act
+        List<UserRanking> byPoints = userRepository.findTopRankingsByPoints(Limit.of(2));
+        List<UserRanking> byStrike = userRepository.findTopRankingsByStrike(Limit.of(3));
+
+        // Assert
+        assertThat(byPoints).extracting(UserRanking::userFrn).containsExactly(high.getUserFrn(), middle.getUserFrn());
+        assertThat(byPoints.get(0).points()).isEqualTo(30);
+        assertThat(byPoints.get(0).username()).isEqualTo(high.getUsername());
+        assertThat(byStrike).extracting(UserRanking::userFrn).containsExactly(low.getUserFrn(), middle.getUserFrn(), high.getUserFrn());
+    }
+
+    @Test
+    void shouldBreakTiesOfTopRankingsLikeLeaderboardComparator() {
+        // Arrange
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            User user = TestUtils.createUser();
+            user.setPoints(7);
+            users.add(user);
+        }
+        users.get(0).setUserFrn("legacy-user-frn");
+        userRepository.saveAll(users);
+
+        // Act
+        List<UserRanking> byPoints = userRepository.findTopRankingsByPoints(Limit.of(users.size()));
+
+        // Assert
+        List<UserRanking> sorted = byPoints.stream().sorted(LeaderboardCriterion.POINTS.comparator()).toList();
+        assertThat(byPoints).extracting(UserRanking::userFrn)
+                .containsExactlyElementsOf(sorted.stream().map(UserRanking::userFrn).toList());
+    }
+
+    @Test
+    void shouldFindRankAndNeighboursInOrderOfTopRankings() {
+        // Arrange
+        List<User> users = new ArrayList<>();
+        for (int points : new int[] {50, 40, 40, 40, 30, 20}) {
+            User user = TestUtils.createUser();
+            user.setPoints(points);
+            users.add(user);
+        }
+        userRepository.saveAll(users);
+        List<UserRanking> ranked = userRepository.findTopRankingsByPoints(Limit.of(users.size()));
+        UserRanking user = ranked.get(2);
+
+        // Act
+        long ahead = userRepository.countRankedAheadByPoints(user.points(), user.userFrn());
+        List<UserRanking> above = userRepository.findRankingsAheadByPoints(user.points(), user.userFrn(), Limit.of(2));
+        List<UserRanking> below = userRepository.findRankingsBehindByPoints(user.points(), user.userFrn(), Limit.of(2));
+
+        // Assert
+        assertThat(ahead).isEqualTo(2);
+        assertThat(above).extracting(UserRanking::userFrn).containsExactly(ranked.get(1).userFrn(), ranked.get(0).userFrn());
+        assertThat(below).extracting(UserRanking::userFrn).containsExactly(ranked.get(3).userFrn(), ranked.get(4).userFrn());
+    }
 }
@@ -0,0 +1,234 @@
+package com.flashdash.core.service;
+
+import com.flashdash.core.TestUtils;
+import com.flashdash.core.exception.ErrorCode;
+import com.flashdash.core.exception.FlashDashException;
+import com.flashdash.core.model.*;
+import com.flashdash.core.repository.*;
+import com.flashdash.core.service.api.ActivityService;
+import com.flashdash.core.service.api.NotificationService;
+import com.p4r1nc3.flashdash.activity.model.LogActivityRequest.ActivityTypeEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AccountDeletionServiceTest {
+
+    @Autowired
+    private AccountDeletionService accountDeletionService;
+
+    @Autowired
+    private AccountDeletionJobRepository accountDeletionJobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DeckRepository deckRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private GameSessionRepository gameSessionRepository;
+
+    @Autowired
+    private FriendshipRepository friendshipRepository;
+
+    @Autowired
+    private UserStatsRollupRepository userStatsRollupRepository;
+
+    @Autowired
+    private StatsRollupService statsRollupService;
+
+    @MockitoBean
+    private ActivityService activityService;
+
+    @MockitoBean
+    private NotificationService notificationService;
+
+    private User user;
+    private User friend;
+
+    @BeforeEach
+    void setUp() {
+        accountDeletionJobRepository.deleteAll();
+        gameSessionRepository.deleteAll();
+        questionRepository.deleteAll();
+        deckRepository.deleteAll();
+        friendshipRepository.deleteAll();
+        userStatsRollupRepository.deleteAll();
+        userRepository.deleteAll();
+
+        user = userRepository.save(TestUtils.createUser());
+        friend = userRepository.save(TestUtils.createUser());
+    }
+
+    @Test
+    void shouldDeleteAllDataOfUserInChunks() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            Deck deck = deckRepository.save(TestUtils.createDeck(user));
+            for (int j = 0; j < 3; j++) {
+                questionRepository.save(TestUtils.createQuestion(deck, "Question " + j));
+            }
+            gameSessionRepository.save(TestUtils.createGameSession(user, deck, GameSessionStatus.FINISHED.toString()));
+        }
+        friendshipRepository.save(new Friendship(user.getUserFrn(), friend.getUserFrn(), LocalDateTime.now()));
+        friendshipRepository.save(new Friendship(friend.getUserFrn(), user.getUserFrn(), LocalDateTime.now()));
+        statsRollupService.recordGame(user.getUserFrn(), 10, Duration.ofMinutes(1), LocalDateTime.now());
+        statsRollupService.recordGame(friend.getUserFrn(), 10, Duration.ofMinutes(1), LocalDateTime.now());
+
+        Deck otherDeck = deckRepository.save(TestUtils.createDeck(friend));
+        questionRepository.save(TestUtils.createQuestion(otherDeck, "Other question"));
+
+        createJob(user.getUserFrn());
+
+        // Act
+        accountDeletionService.runJob(user.getUserFrn());
+
+        // Assert
+        assertThat(userRepository.existsById(user.getUserFrn())).isFalse();
+        assertThat(deckRepository.findAllByUserFrn(user.getUserFrn())).isEmpty();
+        assertThat(gameSessionRepository.findAllByUserFrn(user.getUserFrn())).isEmpty();
+        assertThat(friendshipRepository.findFriendFrnsByUserFrn(friend.getUserFrn())).isEmpty();
+        assertThat(userStatsRollupRepository.findAll()).extracting(UserStatsRollup::getUserFrn).containsOnly(friend.getUserFrn());
+
+        AccountDeletionJob job = accountDeletionJobRepository.findById(user.getUserFrn()).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(AccountDeletionStatus.COMPLETED.toString());
+        assertThat(job.getDeletedGameSessions()).isEqualTo(3);
+        assertThat(job.getDeletedQuestions()).isEqualTo(9);
+        assertThat(job.getDeletedDecks()).isEqualTo(3);
+        assertThat(job.getDeletedFriendships()).isEqualTo(2);
+
+        // Data of other users is left alone
+        assertThat(userRepository.existsById(friend.getUserFrn())).isTrue();
+        assertThat(questionRepository.findAllByDeckFrn(otherDeck.getDeckFrn())).hasSize(1);
+
+        verify(activityService).logUserActivity(user.getUserFrn(), user.getUserFrn(), ActivityTypeEnum.ACCOUNT_DELETED);
+        verify(notificationService).unregisterSubscriber(user.getUserFrn());
+    }
+
+    @Test
+    void shouldDisableUserAndDeleteItInBackground() throws InterruptedException {
+        // Arrange
+        deckRepository.save(TestUtils.createDeck(user));
+
+        // Act
+        accountDeletionService.requestDeletion(user.getUserFrn());
+
+        // Assert
+        AccountDeletionJob job = awaitCompletion(user.getUserFrn());
+        assertThat(job.getDeletedDecks()).isEqualTo(1);
+        assertThat(userRepository.existsById(user.getUserFrn())).isFalse();
+        assertThat(userRepository.findActiveTokenVersionByUserFrn(user.getUserFrn())).isEmpty();
+    }
+
+    @Test
+    void shouldThrowExceptionWhenRequestingDeletionOfMissingUser() {
+        // Act & Assert
+        assertThatThrownBy(() -> accountDeletionService.requestDeletion("frn:flashdash:user:missing"))
+                .isInstanceOf(FlashDashException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.E404001);
+
+        assertThat(accountDeletionJobRepository.count()).isZero();
+    }
+
+    @Test
+    void shouldResumeUnfinishedJobs() throws InterruptedException {
+        // Arrange
+        AccountDeletionJob job = createJob(user.getUserFrn());
+        job.setStatus(AccountDeletionStatus.RUNNING.toString());
+        accountDeletionJobRepository.save(job);
+
+        // Act
+        accountDeletionService.resumeUnfinishedJobs();
+
+        // Assert
+        awaitCompletion(user.getUserFrn());
+        assertThat(userRepository.existsById(user.getUserFrn())).isFalse();
+    }
+
+    @Test
+    void shouldRetryFailedJobsWhenTheyAreDue() throws InterruptedException {
+        // Arrange
+        AccountDeletionJob due = createJob(user.getUserFrn());
+        due.setStatus(AccountDeletionStatus.FAILED.toString());
+        due.setAttempts(1);
+        due.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        accountDeletionJobRepository.save(due);
+        AccountDeletionJob backingOff = createJob(friend.getUserFrn());
+        backingOff.setStatus(AccountDeletionStatus.FAILED.toString());
+        backingOff.setAttempts(1);
+        backingOff.setNextAttemptAt(LocalDateTime.now().plusHours(1));
+        accountDeletionJobRepository.save(backingOff);
+
+        // Act
+        accountDeletionService.retryFailedJobs();
+
+        // Assert
+        awaitCompletion(user.getUserFrn());
+        assertThat(userRepository.existsById(user.getUserFrn())).isFalse();
+        assertThat(accountDeletionJobRepository.findById(friend.getUserFrn()).orElseThrow().getStatus())
+                .isEqualTo(AccountDeletionStatus.FAILED.toString());
+        assertThat(userRepository.existsById(friend.getUserFrn())).isTrue();
+    }
+
+    @Test
+    void shouldBackOffExponentiallyAndGiveUpAfterMaxAttempts() {
+        // Arrange
+        createJob(user.getUserFrn());
+        doThrow(new IllegalStateException("Activity service unavailable"))
+                .when(activityService).logUserActivity(user.getUserFrn(), user.getUserFrn(), ActivityTypeEnum.ACCOUNT_DELETED);
+
+        // Act
+        accountDeletionService.runJob(user.getUserFrn());
+        AccountDeletionJob first = accountDeletionJobRepository.findById(user.getUserFrn()).orElseThrow();
+        accountDeletionService.runJob(user.getUserFrn());
+        AccountDeletionJob second = accountDeletionJobRepository.findById(user.getUserFrn()).orElseThrow();
+        accountDeletionService.runJob(user.getUserFrn());
+        AccountDeletionJob last = accountDeletionJobRepository.findById(user.getUserFrn()).orElseThrow();
+
+        // Assert
+        assertThat(first.getStatus()).isEqualTo(AccountDeletionStatus.FAILED.toString());
+        assertThat(first.getAttempts()).isEqualTo(1);
+        assertThat(Duration.between(first.getUpdatedAt(), first.getNextAttemptAt())).isEqualTo(Duration.ofSeconds(60));
+        assertThat(second.getAttempts()).isEqualTo(2);
+        assertThat(Duration.between(second.getUpdatedAt(), second.getNextAttemptAt())).isEqualTo(Duration.ofSeconds(120));
+        assertThat(last.getStatus()).isEqualTo(AccountDeletionStatus.FAILED.toString());
+        assertThat(last.getAttempts()).isEqualTo(3);
+        assertThat(last.getNextAttemptAt()).isNull();
+    }
+
+    private AccountDeletionJob createJob(String userFrn) {
+        AccountDeletionJob job = new AccountDeletionJob();
+        job.setUserFrn(userFrn);
+        job.setStatus(AccountDeletionStatus.PENDING.toString());
+        job.setCreatedAt(LocalDateTime.now());
+        job.setUpdatedAt(LocalDateTime.now());
+        return accountDeletionJobRepository.save(job);
+    }
+
+    private AccountDeletionJob awaitCompletion(String userFrn) throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            AccountDeletionJob job = accountDeletionJobRepository.findById(userFrn).orElseThrow();
+            if (AccountDeletionStatus.COMPLETED.toString().equals(job.getStatus())) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Deletion of " + userFrn + " did not complete");
+    }
+}
@@ -6,9 +6,9 @@ import com.flashdash.core.exception.FlashDashException;
 import com.flashdash.core.exception.ErrorCode;
 import com.flashdash.core.model.User;
 import com.flashdash.core.repository.UserRepository;
+import com.flashdash.core.service.AuthenticationService.LoginTokens;
 import com.flashdash.core.service.api.ActivityService;
 import com.flashdash.core.service.api.NotificationService;
-import com.p4r1nc3.flashdash.activity.model.ActivityStatisticsResponse;
 import com.p4r1nc3.flashdash.activity.model.LogActivityRequest.ActivityTypeEnum;
 import com.p4r1nc3.flashdash.core.model.AuthenticationResponse;
 import com.p4r1nc3.flashdash.core.model.LoginRequest;
@@ -18,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
@@ -46,6 +47,12 @@ class AuthenticationServiceTest {
     @MockitoBean
     private NotificationService notificationService;
 
+    @MockitoBean
+    private RegistrationIndex registrationIndex;
+
+    @MockitoBean
+    private RefreshTokenService refreshTokenService;
+
     @MockitoBean
     private UserRepository userRepository;
 
@@ -55,7 +62,7 @@ class AuthenticationServiceTest {
     void setUp() {
         user = TestUtils.createUser();
 
-        when(jwtManager.generateToken(user.getUsername(), user.getEmail())).thenReturn("mocked-jwt-token");
+        when(jwtManager.generateToken(user.getUsername(), user.getEmail(), user.getTokenVersion())).thenReturn("mocked-jwt-token");
     }
 
     @Test
@@ -64,25 +71,45 @@ class AuthenticationServiceTest {
         user.setEnabled(true);
         when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
         when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
-        when(jwtManager.generateToken(user.getUserFrn(), user.getEmail())).thenReturn("mocked-jwt-token");
-
-        ActivityStatisticsResponse activityStats = new ActivityStatisticsResponse();
-        activityStats.setCurrentStreak(5);
-        when(activityService.getActivityStatistics(user.getUserFrn())).thenReturn(activityStats);
+        when(jwtManager.generateToken(user.getUserFrn(), user.getEmail(), user.getTokenVersion())).thenReturn("mocked-jwt-token");
+        when(refreshTokenService.issue(user.getUserFrn(), user.getEmail(), user.getTokenVersion())).thenReturn("refresh-token");
 
         LoginRequest loginRequest = TestUtils.createLoginRequest(user);
 
         // Act
-        AuthenticationResponse response = authenticationService.login(loginRequest);
+        LoginTokens tokens = authenticationService.login(loginRequest);
 
         // Assert
-        assertThat(response).isNotNull();
-        assertThat(response.getToken()).isEqualTo("mocked-jwt-token");
+        assertThat(tokens.response()).isNotNull();
+        assertThat(tokens.response().getToken()).isEqualTo("mocked-jwt-token");
+        assertThat(tokens.refreshToken()).isEqualTo("refresh-token");
 
         verify(userRepository).findByEmail(user.getEmail());
         verify(passwordEncoder).matches(loginRequest.getPassword(), user.getPassword());
-        verify(jwtManager).generateToken(user.getUserFrn(), user.getEmail());
+        verify(jwtManager).generateToken(user.getUserFrn(), user.getEmail(), user.getTokenVersion());
         verify(activityService).logUserActivity(user.getUserFrn(), user.getUserFrn(), ActivityTypeEnum.ACCOUNT_LOGIN);
+        verify(activityService, never()).getActivityStatistics(anyString());
+        verify(userRepository, never()).save(any(User.class));
+    }
+
+    @Test
+    void shouldRehashPasswordOnLoginWhenEncodingIsOutdated() {
+        // Arrange
+        user.setEnabled(true);
+        String outdatedHash = user.getPassword();
+        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding(outdatedHash)).thenReturn(true);
+        when(passwordEncoder.encode(anyString())).thenReturn("rehashed-password");
+
+        LoginRequest loginRequest = TestUtils.createLoginRequest(user);
+
+        // Act
+        authenticationService.login(loginRequest);
+
+        // Assert
+        assertThat(user.getPassword()).isEqualTo("rehashed-password");
+        verify(passwordEncoder).encode(loginRequest.getPassword());
         verify(userRepository).save(user);
     }
 
@@ -138,6 +165,8 @@ class AuthenticationServiceTest {
     void shouldRegisterSuccessfully() {
         // Arrange
         RegisterRequest registerRequest = TestUtils.createRegisterRequest(user);
+        when(registrationIndex.mightContainEmail(registerRequest.getEmail())).thenReturn(true);
+        when(registrationIndex.mightContainUsername(registerRequest.getUsername())).thenReturn(true);
         when(userRepository.findByEmail(registerRequest.getEmail())).thenReturn(Optional.empty());
         when(passwordEncoder.encode(registerRequest.getPassword())).thenReturn("encodedPassword");
 
@@ -150,13 +179,48 @@ class AuthenticationServiceTest {
 
         verify(userRepository).findByEmail(registerRequest.getEmail());
         verify(userRepository).save(any(User.class));
+        verify(registrationIndex).add(anyString(), eq(registerRequest.getUsername()));
         verify(notificationService).sendAccountConfirmationEmail(anyString(), anyString());
     }
 
+    @Test
+    void shouldSkipUniquenessLookupsWhenIndexReportsDefiniteMiss() {
+        // Arrange
+        RegisterRequest registerRequest = TestUtils.createRegisterRequest(user);
+        when(registrationIndex.mightContainEmail(anyString())).thenReturn(false);
+        when(registrationIndex.mightContainUsername(anyString())).thenReturn(false);
+        when(passwordEncoder.encode(registerRequest.getPassword())).thenReturn("encodedPassword");
+
+        // Act
+        authenticationService.register(registerRequest);
+
+        // Assert
+        verify(userRepository, never()).findByEmail(anyString());
+        verify(userRepository, never()).findByUsername(anyString());
+        verify(userRepository).save(any(User.class));
+    }
+
+    @Test
+    void shouldMapUniqueConstraintViolationToConflict() {
+        // Arrange
+        RegisterRequest registerRequest = TestUtils.createRegisterRequest(user);
+        when(passwordEncoder.encode(registerRequest.getPassword())).thenReturn("encodedPassword");
+        when(userRepository.save(any(User.class))).thenThrow(new DataIntegrityViolationException("duplicate username"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> authenticationService.register(registerRequest))
+                .isInstanceOf(FlashDashException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.E409004);
+
+        verify(registrationIndex, never()).add(anyString(), anyString());
+        verifyNoInteractions(notificationService);
+    }
+
     @Test
     void shouldThrowExceptionWhenEmailIsAlreadyTaken() {
         // Arrange
         RegisterRequest registerRequest = TestUtils.createRegisterRequest(user);
+        when(registrationIndex.mightContainEmail(registerRequest.getEmail())).thenReturn(true);
         when(userRepository.findByEmail(registerRequest.getEmail())).thenReturn(Optional.of(user));
 
         // Act & Assert
@@ -173,6 +237,8 @@ class AuthenticationServiceTest {
     void shouldThrowExceptionWhenUsernameIsAlreadyTaken() {
         // Arrange
         RegisterRequest registerRequest = TestUtils.createRegisterRequest(user);
+        when(registrationIndex.mightContainEmail(registerRequest.getEmail())).thenReturn(true);
+        when(registrationIndex.mightContainUsername(registerRequest.getUsername())).thenReturn(true);
         when(userRepository.findByUsername(registerRequest.getUsername())).thenReturn(Optional.of(user));
 
         // Act & Assert
@@ -8,14 +8,16 @@ import com.flashdash.core.model.User;
 import com.flashdash.core.repository.DeckRepository;
 import com.flashdash.core.repository.QuestionRepository;
 import com.flashdash.core.service.api.ActivityService;
+import com.flashdash.core.utils.CursorPage;
+import com.flashdash.core.utils.PageCursor;
 import com.p4r1nc3.flashdash.core.model.DeckRequest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -63,15 +65,15 @@ class DeckServiceTest {
         // Arrange
         User user = TestUtils.createUser();
         List<Deck> decks = List.of(TestUtils.createDeck(user));
-        when(deckRepository.findAllByUserFrn(user.getUserFrn())).thenReturn(decks);
+        when(deckRepository.findPageByUserFrn(eq(user.getUserFrn()), any(), any(), any())).thenReturn(decks);
 
         // Act
-        List<Deck> retrievedDecks = deckService.getAllDecks(user.getUserFrn());
+        CursorPage<Deck> retrievedDecks = deckService.getAllDecks(user.getUserFrn(), null, null);
 
         // Assert
-        assertThat(retrievedDecks).isNotEmpty();
-        assertThat(retrievedDecks).isEqualTo(decks);
-        verify(deckRepository).findAllByUserFrn(user.getUserFrn());
+        assertThat(retrievedDecks.items()).isEqualTo(decks);
+        assertThat(retrievedDecks.nextPageToken()).isNull();
+        verify(deckRepository).findPageByUserFrn(user.getUserFrn(), PageCursor.FIRST.createdAt(), PageCursor.FIRST.frn(), Limit.of(51));
     }
 
     @Test
@@ -150,7 +152,7 @@ class DeckServiceTest {
         Deck deck = TestUtils.createDeck(user);
 
         when(deckRepository.findByDeckFrnAndUserFrn(deck.getDeckFrn(), user.getUserFrn())).thenReturn(Optional.of(deck));
-        doNothing().when(questionRepository).deleteAllByDeckFrn(deck.getDeckFrn());
+        when(questionRepository.deleteAllByDeckFrn(deck.getDeckFrn())).thenReturn(2);
         doNothing().when(deckRepository).delete(deck);
 
         // Act
@@ -177,62 +179,4 @@ class DeckServiceTest {
 
         verify(deckRepository).findByDeckFrnAndUserFrn(deckFrn, user.getUserFrn());
     }
-
-    @Test
-    void shouldDeleteAllDecksForUserSuccessfully() {
-        // Arrange
-        User user = TestUtils.createUser();
-        Deck deck1 = TestUtils.createDeck(user);
-        Deck deck2 = TestUtils.createDeck(user);
-        List<Deck> userDecks = List.of(deck1, deck2);
-
-        when(deckRepository.findAllByUserFrn(user.getUserFrn())).thenReturn(userDecks);
-
-        when(deckRepository.findByDeckFrnAndUserFrn(deck1.getDeckFrn(), user.getUserFrn())).thenReturn(Optional.of(deck1));
-        when(deckRepository.findByDeckFrnAndUserFrn(deck2.getDeckFrn(), user.getUserFrn())).thenReturn(Optional.of(deck2));
-
-        doNothing().when(questionRepository).deleteAllByDeckFrn(anyString());
-        doNothing().when(deckRepository).delete(any(Deck.class));
-
-        // Act
-        deckService.deleteAllDecksForUser(user.getUserFrn());
-
-        // Assert
-        verify(deckRepository).findAllByUserFrn(user.getUserFrn());
-        verify(deckRepository, times(userDecks.size())).findByDeckFrnAndUserFrn(anyString(), anyString());
-        verify(deckRepository, times(userDecks.size())).delete(any(Deck.class));
-        verify(questionRepository, times(userDecks.size())).deleteAllByDeckFrn(anyString());
-    }
-
-
-    @Test
-    void shouldNotDeleteDecksWhenUserHasNone() {
-        // Arrange
-        User user = TestUtils.createUser();
-        when(deckRepository.findAllByUserFrn(user.getUserFrn())).thenReturn(Collections.emptyList());
-
-        // Act
-        deckService.deleteAllDecksForUser(user.getUserFrn());
-
-        // Assert
-        verify(deckRepository).findAllByUserFrn(user.getUserFrn());
-        verify(deckRepository, never()).delete(any(Deck.class));
-        verify(questionRepository, never()).deleteAllByDeckFrn(anyString());
-    }
-
-    @Test
-    void shouldNotDeleteAnythingWhenDeletingDecksForNonExistentUser() {
-        // Arrange
-        User user = TestUtils.createUser();
-
-        when(deckRepository.findAllByUserFrn(user.getUserFrn())).thenReturn(Collections.emptyList());
-
-        // Act
-        deckService.deleteAllDecksForUser(user.getUserFrn());
-
-        // Assert
-        verify(deckRepository).findAllByUserFrn(user.getUserFrn());
-        verify(deckRepository, never()).delete(any(Deck.class));
-        verify(questionRepository, never()).deleteAllByDeckFrn(anyString());
-    }
 }
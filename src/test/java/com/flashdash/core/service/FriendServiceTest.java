@@ -3,11 +3,15 @@ package com.flashdash.core.service;
 import com.flashdash.core.TestUtils;
 import com.flashdash.core.exception.ErrorCode;
 import com.flashdash.core.exception.FlashDashException;
+import com.flashdash.core.model.Friendship;
 import com.flashdash.core.model.User;
 import com.flashdash.core.repository.FriendInvitationRepository;
+import com.flashdash.core.repository.FriendshipRepository;
 import com.flashdash.core.repository.UserRepository;
 import com.flashdash.core.service.api.ActivityService;
 import com.flashdash.core.service.api.NotificationService;
+import com.flashdash.core.utils.CursorPage;
+import com.p4r1nc3.flashdash.activity.model.LogActivityRequest.ActivityTypeEnum;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
@@ -15,12 +19,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
-import java.util.Collections;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @SpringBootTest
@@ -42,6 +48,9 @@ class FriendServiceTest {
     @MockitoBean
     private FriendInvitationRepository friendInvitationRepository;
 
+    @MockitoBean
+    private FriendshipRepository friendshipRepository;
+
     private User sender;
     private User recipient;
 
@@ -58,39 +67,36 @@ class FriendServiceTest {
         User friend1 = TestUtils.createUser();
         User friend2 = TestUtils.createUser();
 
-        user.setFriendsFrnList(List.of(friend1.getUserFrn(), friend2.getUserFrn()));
-
-        when(userRepository.findByUserFrn(user.getUserFrn())).thenReturn(Optional.of(user));
-        when(userRepository.findByUserFrn(friend1.getUserFrn())).thenReturn(Optional.of(friend1));
-        when(userRepository.findByUserFrn(friend2.getUserFrn())).thenReturn(Optional.of(friend2));
+        LocalDateTime now = LocalDateTime.now();
+        when(friendshipRepository.findPageByUserFrn(eq(user.getUserFrn()), any(), any(), any())).thenReturn(List.of(
+                new Friendship(user.getUserFrn(), friend2.getUserFrn(), now),
+                new Friendship(user.getUserFrn(), friend1.getUserFrn(), now.minusMinutes(1))));
+        when(userRepository.findAllById(List.of(friend2.getUserFrn(), friend1.getUserFrn()))).thenReturn(List.of(friend1, friend2));
 
         // Act
-        List<User> friends = friendService.getFriends(user.getUserFrn());
+        CursorPage<User> friends = friendService.getFriends(user.getUserFrn(), null, null);
 
         // Assert
-        assertThat(friends).hasSize(2);
-        assertThat(friends).extracting(User::getUserFrn)
-                .containsExactlyInAnyOrder(friend1.getUserFrn(), friend2.getUserFrn());
+        assertThat(friends.items()).extracting(User::getUserFrn)
+                .containsExactly(friend2.getUserFrn(), friend1.getUserFrn());
+        assertThat(friends.nextPageToken()).isNull();
 
-        verify(userRepository, times(3)).findByUserFrn(user.getUserFrn());
-        verify(userRepository).findByUserFrn(friend1.getUserFrn());
-        verify(userRepository).findByUserFrn(friend2.getUserFrn());
+        verify(userRepository, never()).findByUserFrn(anyString());
     }
 
     @Test
     void shouldReturnEmptyListWhenUserHasNoFriends() {
         // Arrange
         User user = TestUtils.createUser();
-        user.setFriendsFrnList(Collections.emptyList());
 
-        when(userRepository.findByUserFrn(user.getUserFrn())).thenReturn(Optional.of(user));
+        when(friendshipRepository.findPageByUserFrn(eq(user.getUserFrn()), any(), any(), any())).thenReturn(List.of());
 
         // Act
-        List<User> friends = friendService.getFriends(user.getUserFrn());
+        CursorPage<User> friends = friendService.getFriends(user.getUserFrn(), null, null);
 
         // Assert
-        assertThat(friends).isEmpty();
-        verify(userRepository).findByUserFrn(user.getUserFrn());
+        assertThat(friends.items()).isEmpty();
+        assertThat(friends.nextPageToken()).isNull();
     }
 
     @Test
@@ -99,9 +105,7 @@ class FriendServiceTest {
         User user = TestUtils.createUser();
         User friend = TestUtils.createUser();
 
-        user.setFriendsFrnList(List.of(friend.getUserFrn()));
-
-        when(userRepository.findByUserFrn(user.getUserFrn())).thenReturn(Optional.of(user));
+        when(friendshipRepository.existsByUserFrnAndFriendFrn(user.getUserFrn(), friend.getUserFrn())).thenReturn(true);
         when(userRepository.findByUserFrn(friend.getUserFrn())).thenReturn(Optional.of(friend));
 
         // Act
@@ -111,7 +115,7 @@ class FriendServiceTest {
         assertThat(retrievedFriend).isNotNull();
         assertThat(retrievedFriend.getUserFrn()).isEqualTo(friend.getUserFrn());
 
-        verify(userRepository, times(1)).findByUserFrn(user.getUserFrn());
+        verify(userRepository, never()).findByUserFrn(user.getUserFrn());
         verify(userRepository, times(1)).findByUserFrn(friend.getUserFrn());
     }
 
@@ -120,7 +124,7 @@ class FriendServiceTest {
         // Arrange
         User user = TestUtils.createUser();
         User stranger = TestUtils.createUser();
-        when(userRepository.findByUserFrn(user.getUserFrn())).thenReturn(Optional.of(user));
+        when(friendshipRepository.existsByUserFrnAndFriendFrn(user.getUserFrn(), stranger.getUserFrn())).thenReturn(false);
 
         // Act & Assert
         assertThatThrownBy(() -> friendService.getFriend(user.getUserFrn(), stranger.getUserFrn()))
@@ -128,7 +132,6 @@ class FriendServiceTest {
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.E404003)
                 .hasMessage("Friend not found in user's friend list.");
 
-        verify(userRepository, times(1)).findByUserFrn(user.getUserFrn());
         verify(userRepository, never()).findByUserFrn(stranger.getUserFrn());
     }
 
@@ -138,48 +141,30 @@ class FriendServiceTest {
         User user = TestUtils.createUser();
         String nonExistentFriendFrn = "non-existent-frn";
 
-        user.setFriendsFrnList(List.of(nonExistentFriendFrn));
-
-        when(userRepository.findByUserFrn(user.getUserFrn())).thenReturn(Optional.of(user));
+        when(friendshipRepository.existsByUserFrnAndFriendFrn(user.getUserFrn(), nonExistentFriendFrn)).thenReturn(true);
         when(userRepository.findByUserFrn(nonExistentFriendFrn)).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThatThrownBy(() -> friendService.getFriends(user.getUserFrn()))
+        assertThatThrownBy(() -> friendService.getFriend(user.getUserFrn(), nonExistentFriendFrn))
                 .isInstanceOf(FlashDashException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.E404002)
                 .hasMessage("Friend not found");
 
-        verify(userRepository, times(2)).findByUserFrn(user.getUserFrn());
         verify(userRepository).findByUserFrn(nonExistentFriendFrn);
     }
 
-    @Test
-    void shouldRemoveAllFriendsSuccessfully() {
-        sender.getFriendsFrnList().add(recipient.getUserFrn());
-        recipient.getFriendsFrnList().add(sender.getUserFrn());
-
-        when(userRepository.findById(sender.getUserFrn())).thenReturn(Optional.of(sender));
-
-        friendService.removeAllFriends(sender.getUserFrn());
-
-        assertThat(sender.getFriendsFrnList()).isEmpty();
-        verify(userRepository, times(1)).save(sender);
-    }
-
     @Test
     void shouldDeleteFriendSuccessfully() {
-        sender.setFriendsFrnList(List.of(recipient.getUserFrn()));
-        recipient.setFriendsFrnList(List.of(sender.getUserFrn()));
-
-        when(userRepository.findById(sender.getUserFrn())).thenReturn(Optional.of(sender));
-        when(userRepository.findById(recipient.getUserFrn())).thenReturn(Optional.of(recipient));
+        // Arrange
+        when(friendshipRepository.deleteFriendship(sender.getUserFrn(), recipient.getUserFrn())).thenReturn(2);
 
+        // Act
         friendService.deleteFriend(sender.getUserFrn(), recipient.getUserFrn());
 
-        assertThat(sender.getFriendsFrnList()).doesNotContain(recipient.getUserFrn());
-        assertThat(recipient.getFriendsFrnList()).doesNotContain(sender.getUserFrn());
-        verify(userRepository, times(1)).save(sender);
-        verify(userRepository, times(1)).save(recipient);
+        // Assert
+        verify(friendshipRepository, times(1)).deleteFriendship(sender.getUserFrn(), recipient.getUserFrn());
+        verify(activityService).logUserActivity(sender.getUserFrn(), recipient.getUserFrn(), ActivityTypeEnum.FRIEND_DELETED);
+        verify(userRepository, never()).save(any(User.class));
     }
 
     @Test
@@ -188,8 +173,7 @@ class FriendServiceTest {
         User user = TestUtils.createUser();
         User stranger = TestUtils.createUser();
 
-        when(userRepository.findById(user.getUserFrn())).thenReturn(Optional.of(user));
-        when(userRepository.findById(stranger.getUserFrn())).thenReturn(Optional.of(stranger));
+        when(friendshipRepository.deleteFriendship(user.getUserFrn(), stranger.getUserFrn())).thenReturn(0);
 
         // Act & Assert
         assertThatThrownBy(() -> friendService.deleteFriend(user.getUserFrn(), stranger.getUserFrn()))
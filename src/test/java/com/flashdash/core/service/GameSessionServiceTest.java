@@ -6,8 +6,9 @@ import com.flashdash.core.exception.ErrorCode;
 import com.flashdash.core.exception.FlashDashException;
 import com.flashdash.core.model.*;
 import com.flashdash.core.repository.GameSessionRepository;
-import com.flashdash.core.repository.UserRepository;
 import com.flashdash.core.service.api.ActivityService;
+import com.flashdash.core.utils.CursorPage;
+import com.flashdash.core.utils.PageCursor;
 import com.p4r1nc3.flashdash.activity.model.LogActivityRequest.ActivityTypeEnum;
 import com.p4r1nc3.flashdash.core.model.QuestionRequest;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,9 +16,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,7 +47,7 @@ class GameSessionServiceTest {
     private GameSessionRepository gameSessionRepository;
 
     @MockitoBean
-    private UserRepository userRepository;
+    private UserStatsAccumulator userStatsAccumulator;
 
     private User user;
     private Deck deck;
@@ -106,10 +109,6 @@ class GameSessionServiceTest {
         when(gameSessionRepository.findTopByDeckFrnAndUserFrnAndStatus(deck.getDeckFrn(), user.getUserFrn(), GameSessionStatus.PENDING.toString()))
                 .thenReturn(Optional.of(gameSession));
 
-        // Mock UserService behavior
-        when(userRepository.findByUserFrn(user.getUserFrn())).thenReturn(Optional.of(user));
-        when(userRepository.save(user)).thenReturn(user);
-
         // Act
         GameSession result = gameSessionService.endGameSession(deck.getDeckFrn(), user.getUserFrn(), List.of(userAnswer));
 
@@ -122,14 +121,10 @@ class GameSessionServiceTest {
         assertThat(result.getSessionDetails()).isNotBlank();
 
         verify(gameSessionRepository).save(gameSession);
-        verify(userRepository).findByUserFrn(user.getUserFrn());
-        verify(userRepository).save(user);
         verify(activityService).logUserActivity(eq(user.getUserFrn()), eq(gameSession.getGameSessionFrn()), eq(ActivityTypeEnum.GAME_FINISHED));
 
-        // Verify user stats were updated
-        assertThat(user.getGamesPlayed()).isEqualTo(3);
-        assertThat(user.getPoints()).isEqualTo(10);
-        assertThat(user.getStudyTime()).isNotNull();
+        // Verify user stats were handed to the write-behind accumulator
+        verify(userStatsAccumulator).recordGame(eq(user.getUserFrn()), eq(10), any(Duration.class), eq(result.getUpdatedAt()));
     }
 
     @Test
@@ -146,15 +141,6 @@ class GameSessionServiceTest {
         when(gameSessionRepository.findTopByDeckFrnAndUserFrnAndStatus(deck.getDeckFrn(), user.getUserFrn(), GameSessionStatus.PENDING.toString()))
                 .thenReturn(Optional.of(gameSession));
 
-        // Setup user with initial stats
-        user.setGamesPlayed(0);
-        user.setPoints(0);
-        user.setStudyTime(Duration.ZERO);
-
-        // Mock UserService behavior
-        when(userRepository.findByUserFrn(user.getUserFrn())).thenReturn(Optional.of(user));
-        when(userRepository.save(user)).thenReturn(user);
-
         // Act
         GameSession result = gameSessionService.endGameSession(deck.getDeckFrn(), user.getUserFrn(), List.of(userAnswer));
 
@@ -166,13 +152,9 @@ class GameSessionServiceTest {
         assertThat(result.getQuestionCount()).isEqualTo(1);
 
         verify(gameSessionRepository).save(gameSession);
-        verify(userRepository).findByUserFrn(user.getUserFrn());
-        verify(userRepository).save(user);
 
-        // Verify user stats were updated with negative points
-        assertThat(user.getGamesPlayed()).isEqualTo(1);
-        assertThat(user.getPoints()).isEqualTo(-4);
-        assertThat(user.getStudyTime()).isNotNull();
+        // Verify user stats were incremented with negative points
+        verify(userStatsAccumulator).recordGame(eq(user.getUserFrn()), eq(-4), any(Duration.class), any(LocalDateTime.class));
     }
 
     @Test
@@ -196,8 +178,7 @@ class GameSessionServiceTest {
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.E404002)
                 .hasMessage("Matching question not found in the provided deck.");
 
-        verify(userRepository, never()).findByUserFrn(anyString());
-        verify(userRepository, never()).save(any(User.class));
+        verify(userStatsAccumulator, never()).recordGame(anyString(), anyInt(), any(Duration.class), any(LocalDateTime.class));
     }
 
     @Test
@@ -216,8 +197,7 @@ class GameSessionServiceTest {
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.E400003)
                 .hasMessage("No active game session for this deck.");
 
-        verify(userRepository, never()).findByUserFrn(anyString());
-        verify(userRepository, never()).save(any(User.class));
+        verify(userStatsAccumulator, never()).recordGame(anyString(), anyInt(), any(Duration.class), any(LocalDateTime.class));
     }
 
     @Test
@@ -250,58 +230,38 @@ class GameSessionServiceTest {
     @Test
     void shouldGetAllGameSessionsForUser() {
         // Arrange
-        when(gameSessionRepository.findAllByUserFrn(user.getUserFrn())).thenReturn(List.of(gameSession));
+        GameSessionSummary summary = GameSessionSummary.of(gameSession);
+        when(gameSessionRepository.findPageByUserFrn(eq(user.getUserFrn()), any(), any(), any())).thenReturn(List.of(summary));
 
         // Act
-        List<GameSession> sessions = gameSessionService.getAllGameSessions(user.getUserFrn());
+        CursorPage<GameSessionSummary> sessions = gameSessionService.getAllGameSessions(user.getUserFrn(), null, null);
 
         // Assert
-        assertThat(sessions).hasSize(1);
-        assertThat(sessions.get(0)).isEqualTo(gameSession);
-        verify(gameSessionRepository).findAllByUserFrn(user.getUserFrn());
+        assertThat(sessions.items()).containsExactly(summary);
+        assertThat(sessions.nextPageToken()).isNull();
+        verify(gameSessionRepository).findPageByUserFrn(user.getUserFrn(), PageCursor.FIRST.createdAt(), PageCursor.FIRST.frn(), Limit.of(51));
     }
 
     @Test
     void shouldGetGameSessionsForDeck() {
         // Arrange
-        when(gameSessionRepository.findAllByDeckFrnAndUserFrnAndStatus(
-                deck.getDeckFrn(), user.getUserFrn(), GameSessionStatus.FINISHED.toString()
-        )).thenReturn(List.of(gameSession));
+        GameSessionSummary summary = GameSessionSummary.of(gameSession);
+        GameSessionSummary older = GameSessionSummary.of(TestUtils.createGameSession(user, deck, GameSessionStatus.FINISHED.toString()));
+        PageCursor cursor = new PageCursor(LocalDateTime.now(), "frn:flashdash:gameSession:previous");
+        when(gameSessionRepository.findPageByDeckFrnAndUserFrnAndStatus(
+                eq(deck.getDeckFrn()), eq(user.getUserFrn()), eq(GameSessionStatus.FINISHED.toString()), any(), any(), any()
+        )).thenReturn(List.of(summary, older));
 
         // Act
-        List<GameSession> sessions = gameSessionService.getGameSessions(deck.getDeckFrn(), user.getUserFrn());
+        CursorPage<GameSessionSummary> sessions = gameSessionService.getGameSessions(deck.getDeckFrn(), user.getUserFrn(), cursor.encode(), 1);
 
         // Assert
-        assertThat(sessions).hasSize(1);
-        assertThat(sessions.get(0)).isEqualTo(gameSession);
-        verify(gameSessionRepository).findAllByDeckFrnAndUserFrnAndStatus(
-                deck.getDeckFrn(), user.getUserFrn(), GameSessionStatus.FINISHED.toString()
+        assertThat(sessions.items()).containsExactly(summary);
+        assertThat(PageCursor.decode(sessions.nextPageToken()))
+                .isEqualTo(new PageCursor(gameSession.getCreatedAt(), gameSession.getGameSessionFrn()));
+        verify(gameSessionRepository).findPageByDeckFrnAndUserFrnAndStatus(
+                deck.getDeckFrn(), user.getUserFrn(), GameSessionStatus.FINISHED.toString(),
+                cursor.createdAt(), cursor.frn(), Limit.of(2)
         );
     }
-
-    @Test
-    void shouldRemoveAllGameSessionsForUser() {
-        // Arrange
-        when(gameSessionRepository.findAllByUserFrn(user.getUserFrn())).thenReturn(List.of(gameSession));
-
-        // Act
-        gameSessionService.removeAllGameSessionsForUser(user.getUserFrn());
-
-        // Assert
-        verify(gameSessionRepository).findAllByUserFrn(user.getUserFrn());
-        verify(gameSessionRepository).deleteAll(List.of(gameSession));
-    }
-
-    @Test
-    void shouldNotRemoveSessionsWhenUserHasNone() {
-        // Arrange
-        when(gameSessionRepository.findAllByUserFrn(user.getUserFrn())).thenReturn(List.of());
-
-        // Act
-        gameSessionService.removeAllGameSessionsForUser(user.getUserFrn());
-
-        // Assert
-        verify(gameSessionRepository).findAllByUserFrn(user.getUserFrn());
-        verify(gameSessionRepository, never()).deleteAll(anyList());
-    }
-}
\ No newline at end of file
+}
@@ -4,11 +4,14 @@ import com.flashdash.core.TestUtils;
 import com.flashdash.core.exception.ErrorCode;
 import com.flashdash.core.exception.FlashDashException;
 import com.flashdash.core.model.FriendInvitation;
+import com.flashdash.core.model.Friendship;
 import com.flashdash.core.model.User;
 import com.flashdash.core.repository.FriendInvitationRepository;
+import com.flashdash.core.repository.FriendshipRepository;
 import com.flashdash.core.repository.UserRepository;
 import com.flashdash.core.service.api.ActivityService;
 import com.flashdash.core.service.api.NotificationService;
+import com.flashdash.core.utils.CursorPage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
@@ -44,6 +47,9 @@ public class InvitationServiceTest {
     @MockitoBean
     private FriendInvitationRepository friendInvitationRepository;
 
+    @MockitoBean
+    private FriendshipRepository friendshipRepository;
+
     private User sender;
     private User recipient;
 
@@ -120,13 +126,13 @@ public class InvitationServiceTest {
         FriendInvitation acceptedInvitation = TestUtils.createFriendInvitation(sender, recipient);
         acceptedInvitation.setStatus("ACCEPTED");
 
-        when(friendInvitationRepository.findAllBySentToFrnAndStatus(recipient.getUserFrn(), "PENDING"))
+        when(friendInvitationRepository.findPageBySentToFrnAndStatus(eq(recipient.getUserFrn()), eq("PENDING"), any(), any(), any()))
                 .thenReturn(List.of(invitation));
 
-        List<FriendInvitation> invitations = invitationService.getReceivedFriendInvitations(recipient.getUserFrn());
+        CursorPage<FriendInvitation> invitations = invitationService.getReceivedFriendInvitations(recipient.getUserFrn(), null, null);
 
-        assertThat(invitations).hasSize(1);
-        assertThat(invitations.get(0).getStatus()).isEqualTo("PENDING");
+        assertThat(invitations.items()).hasSize(1);
+        assertThat(invitations.items().get(0).getStatus()).isEqualTo("PENDING");
     }
 
     @Test
@@ -137,13 +143,13 @@ public class InvitationServiceTest {
         FriendInvitation rejectedInvitation = TestUtils.createFriendInvitation(sender, recipient);
         rejectedInvitation.setStatus("REJECTED");
 
-        when(friendInvitationRepository.findAllBySentByFrnAndStatus(sender.getUserFrn(), "PENDING"))
+        when(friendInvitationRepository.findPageBySentByFrnAndStatus(eq(sender.getUserFrn()), eq("PENDING"), any(), any(), any()))
                 .thenReturn(List.of(invitation));
 
-        List<FriendInvitation> invitations = invitationService.getSentFriendInvitations(sender.getUserFrn());
+        CursorPage<FriendInvitation> invitations = invitationService.getSentFriendInvitations(sender.getUserFrn(), null, null);
 
-        assertThat(invitations).hasSize(1);
-        assertThat(invitations.get(0).getStatus()).isEqualTo("PENDING");
+        assertThat(invitations.items()).hasSize(1);
+        assertThat(invitations.items().get(0).getStatus()).isEqualTo("PENDING");
     }
 
     @Test
@@ -168,12 +174,13 @@ public class InvitationServiceTest {
         FriendInvitation invitation = TestUtils.createFriendInvitation(sender, recipient);
 
         when(friendInvitationRepository.findById(invitation.getInvitationFrn())).thenReturn(Optional.of(invitation));
-        when(userRepository.findById(sender.getUserFrn())).thenReturn(Optional.of(sender));
-        when(userRepository.findById(recipient.getUserFrn())).thenReturn(Optional.of(recipient));
+        when(userRepository.existsById(sender.getUserFrn())).thenReturn(true);
+        when(userRepository.existsById(recipient.getUserFrn())).thenReturn(true);
 
         invitationService.respondToFriendInvitation(invitation.getInvitationFrn(), recipient.getUserFrn(), "ACCEPTED");
 
-        verify(userRepository, times(2)).save(any(User.class));
+        verify(friendshipRepository, times(2)).save(any(Friendship.class));
+        verify(userRepository, never()).save(any(User.class));
     }
 
     @Test
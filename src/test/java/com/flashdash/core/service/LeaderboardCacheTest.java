@@ -0,0 +1,164 @@
+package com.flashdash.core.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flashdash.core.service.LeaderboardCache.CachedLeaderboard;
+import com.p4r1nc3.flashdash.core.model.LeaderboardEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LeaderboardCacheTest {
+
+    private LeaderboardCache leaderboardCache;
+
+    @BeforeEach
+    void setUp() {
+        leaderboardCache = new LeaderboardCache(new ObjectMapper(), 5, 1000);
+    }
+
+    @Test
+    void shouldComputeLeaderboardOnceForConcurrentRequests() throws Exception {
+        // Arrange
+        int requests = 8;
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch computing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+
+        // Act
+        List<Future<CachedLeaderboard>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < requests; i++) {
+                results.add(executor.submit(() -> leaderboardCache.get("points", "all", 10, () -> {
+                    computations.incrementAndGet();
+                    computing.countDown();
+                    await(release);
+                    return entries(100);
+                })));
+            }
+            assertThat(computing.await(5, TimeUnit.SECONDS)).isTrue();
+            release.countDown();
+
+            // Assert
+            for (Future<CachedLeaderboard> result : results) {
+                assertThat(topScore(result.get(5, TimeUnit.SECONDS))).isEqualTo(100);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(computations).hasValue(1);
+    }
+
+    @Test
+    void shouldReuseLeaderboardForSameParameters() {
+        // Arrange
+        AtomicInteger computations = new AtomicInteger();
+
+        // Act
+        CachedLeaderboard first = leaderboardCache.get("points", "all", 10, () -> {
+            computations.incrementAndGet();
+            return entries(100);
+        });
+        CachedLeaderboard second = leaderboardCache.get("POINTS", "ALL", 10, () -> {
+            computations.incrementAndGet();
+            return entries(200);
+        });
+
+        // Assert
+        assertThat(second).isSameAs(first);
+        assertThat(computations).hasValue(1);
+    }
+
+    @Test
+    void shouldComputeLeaderboardPerParameters() {
+        // Act
+        CachedLeaderboard points = leaderboardCache.get("points", "all", 10, () -> entries(100));
+        CachedLeaderboard weekly = leaderboardCache.get("points", "week", 10, () -> entries(50));
+
+        // Assert
+        assertThat(topScore(weekly)).isEqualTo(50);
+        assertThat(weekly.eTag()).isNotEqualTo(points.eTag());
+    }
+
+    @Test
+    void shouldRecomputeLeaderboardAfterTtl() {
+        // Arrange
+        leaderboardCache = new LeaderboardCache(new ObjectMapper(), 0, 1000);
+        leaderboardCache.get("points", "all", 10, () -> entries(100));
+        sleep(5);
+
+        // Act
+        CachedLeaderboard leaderboard = leaderboardCache.get("points", "all", 10, () -> entries(200));
+
+        // Assert
+        assertThat(topScore(leaderboard)).isEqualTo(200);
+    }
+
+    @Test
+    void shouldNotCacheFailedComputation() {
+        // Arrange
+        assertThatThrownBy(() -> leaderboardCache.get("points", "all", 10, () -> {
+            throw new IllegalStateException("Database unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // Act
+        CachedLeaderboard leaderboard = leaderboardCache.get("points", "all", 10, () -> entries(100));
+
+        // Assert
+        assertThat(topScore(leaderboard)).isEqualTo(100);
+    }
+
+    @Test
+    void shouldMatchIfNoneMatchHeader() {
+        // Arrange
+        CachedLeaderboard leaderboard = leaderboardCache.get("points", "all", 10, () -> entries(100));
+        String eTag = leaderboard.eTag();
+
+        // Act & Assert
+        assertThat(eTag).startsWith("\"").endsWith("\"");
+        assertThat(leaderboard.matches(eTag)).isTrue();
+        assertThat(leaderboard.matches("W/" + eTag)).isTrue();
+        assertThat(leaderboard.matches("\"other\", " + eTag)).isTrue();
+        assertThat(leaderboard.matches("*")).isTrue();
+        assertThat(leaderboard.matches("\"other\"")).isFalse();
+        assertThat(leaderboard.matches(null)).isFalse();
+    }
+
+    private List<LeaderboardEntry> entries(int topScore) {
+        return List.of(
+                new LeaderboardEntry().rank(1).score(topScore),
+                new LeaderboardEntry().rank(2).score(topScore / 2)
+        );
+    }
+
+    private int topScore(CachedLeaderboard leaderboard) {
+        return leaderboard.entries().get(0).getScore();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.flashdash.core.service;
+
+import com.flashdash.core.TestUtils;
+import com.flashdash.core.model.LeaderboardCriterion;
+import com.flashdash.core.model.LeaderboardSlice;
+import com.flashdash.core.model.User;
+import com.flashdash.core.model.UserRanking;
+import com.flashdash.core.repository.FriendshipRepository;
+import com.flashdash.core.repository.UserRepository;
+import com.flashdash.core.utils.FrnGenerator;
+import com.flashdash.core.utils.ResourceType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class LeaderboardIndexTest {
+
+    @Autowired
+    private LeaderboardIndex leaderboardIndex;
+
+    @Autowired
+    private UserStatsAccumulator userStatsAccumulator;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FriendshipRepository friendshipRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User first;
+    private User second;
+    private User third;
+
+    @BeforeEach
+    void setUp() {
+        userStatsAccumulator.flush();
+        friendshipRepository.deleteAll();
+        userRepository.deleteAll();
+
+        first = userRepository.save(createUser(300, 10, 2, Duration.ofHours(1)));
+        second = userRepository.save(createUser(200, 30, 5, Duration.ofHours(3)));
+        third = userRepository.save(createUser(100, 20, 1, Duration.ofHours(2)));
+
+        leaderboardIndex.build();
+    }
+
+    @Test
+    void shouldRankUsersByEveryCriterionAfterBuild() {
+        // Act & Assert
+        assertThat(leaderboardIndex.isReady()).isTrue();
+        assertThat(frns(leaderboardIndex.top(LeaderboardCriterion.POINTS, 10)))
+                .containsExactly(first.getUserFrn(), second.getUserFrn(), third.getUserFrn());
+        assertThat(frns(leaderboardIndex.top(LeaderboardCriterion.GAMES_PLAYED, 10)))
+                .containsExactly(second.getUserFrn(), third.getUserFrn(), first.getUserFrn());
+        assertThat(frns(leaderboardIndex.top(LeaderboardCriterion.STREAK, 10)))
+                .containsExactly(second.getUserFrn(), first.getUserFrn(), third.getUserFrn());
+        assertThat(frns(leaderboardIndex.top(LeaderboardCriterion.STUDY_TIME, 10)))
+                .containsExactly(second.getUserFrn(), third.getUserFrn(), first.getUserFrn());
+    }
+
+    @Test
+    void shouldReturnOnlyRequestedNumberOfUsers() {
+        // Act
+        List<UserRanking> top = leaderboardIndex.top(LeaderboardCriterion.POINTS, 2);
+
+        // Assert
+        assertThat(frns(top)).containsExactly(first.getUserFrn(), second.getUserFrn());
+    }
+
+    @Test
+    void shouldReorderUsersWhenGameIsRecorded() {
+        // Act
+        leaderboardIndex.recordGame(third.getUserFrn(), 250, Duration.ofMinutes(30));
+
+        // Assert
+        List<UserRanking> top = leaderboardIndex.top(LeaderboardCriterion.POINTS, 10);
+        assertThat(frns(top)).containsExactly(third.getUserFrn(), first.getUserFrn(), second.getUserFrn());
+        assertThat(top.get(0).points()).isEqualTo(350);
+        assertThat(top.get(0).gamesPlayed()).isEqualTo(21);
+        assertThat(top.get(0).studyTime()).isEqualTo(Duration.ofMinutes(150));
+    }
+
+    @Test
+    void shouldReorderUsersWhenStreakIsUpdated() {
+        // Act
+        leaderboardIndex.updateStreak(third.getUserFrn(), 7);
+
+        // Assert
+        assertThat(frns(leaderboardIndex.top(LeaderboardCriterion.STREAK, 1))).containsExactly(third.getUserFrn());
+    }
+
+    @Test
+    void shouldAddAndRemoveUsers() {
+        // Arrange
+        User registered = createUser(1000, 0, 0, Duration.ZERO);
+
+        // Act
+        leaderboardIndex.add(registered);
+        leaderboardIndex.remove(first.getUserFrn());
+
+        // Assert
+        assertThat(frns(leaderboardIndex.top(LeaderboardCriterion.POINTS, 10)))
+                .containsExactly(registered.getUserFrn(), second.getUserFrn(), third.getUserFrn());
+    }
+
+    @Test
+    void shouldIgnoreStatsOfUnknownUsers() {
+        // Act
+        leaderboardIndex.recordGame("frn:flashdash:user:unknown", 500, Duration.ofMinutes(5));
+
+        // Assert
+        assertThat(leaderboardIndex.top(LeaderboardCriterion.POINTS, 10)).hasSize(3);
+    }
+
+    @Test
+    void shouldReturnRankAndNeighboursOfUser() {
+        // Act
+        LeaderboardSlice slice = leaderboardIndex.around(LeaderboardCriterion.POINTS, second.getUserFrn(), 1).orElseThrow();
+
+        // Assert
+        assertThat(slice.firstRank()).isEqualTo(1);
+        assertThat(frns(slice.rankings())).containsExactly(first.getUserFrn(), second.getUserFrn(), third.getUserFrn());
+    }
+
+    @Test
+    void shouldKeepRankOfUserCurrentAfterGameIsRecorded() {
+        // Act
+        leaderboardIndex.recordGame(third.getUserFrn(), 250, Duration.ofMinutes(30));
+
+        // Assert
+        LeaderboardSlice slice = leaderboardIndex.around(LeaderboardCriterion.POINTS, third.getUserFrn(), 0).orElseThrow();
+        assertThat(slice.firstRank()).isEqualTo(1);
+        assertThat(frns(slice.rankings())).containsExactly(third.getUserFrn());
+    }
+
+    @Test
+    void shouldNotReturnRankOfUnknownUser() {
+        // Act & Assert
+        assertThat(leaderboardIndex.around(LeaderboardCriterion.POINTS, "frn:flashdash:user:unknown", 1)).isEmpty();
+    }
+
+    @Test
+    void shouldBuildIndexOfManyTiedUsersQuickly() {
+        // Arrange
+        int users = 100_000;
+        List<UserRanking> tied = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            String userFrn = FrnGenerator.generateFrn(ResourceType.USER);
+            tied.add(new UserRanking(userFrn, "user" + i, "First", "Last", userFrn + "@example.com", 0, 0, 1, Duration.ZERO));
+        }
+        UserRepository tiedRepository = mock(UserRepository.class);
+        when(tiedRepository.streamAllRankings()).thenAnswer(invocation -> tied.stream());
+        LeaderboardIndex tiedIndex = new LeaderboardIndex(tiedRepository, userStatsAccumulator, transactionTemplate, true);
+
+        // Act
+        assertTimeout(Duration.ofSeconds(10), tiedIndex::build);
+        tiedIndex.recordGame(tied.get(0).userFrn(), 0, Duration.ZERO);
+
+        // Assert
+        List<String> expected = tied.stream()
+                .sorted(LeaderboardCriterion.POINTS.comparator())
+                .map(UserRanking::userFrn)
+                .toList();
+        assertThat(frns(tiedIndex.top(LeaderboardCriterion.POINTS, 20))).containsExactlyElementsOf(expected.subList(0, 20));
+        LeaderboardSlice slice = tiedIndex.around(LeaderboardCriterion.STREAK, expected.get(500), 0).orElseThrow();
+        assertThat(slice.firstRank()).isEqualTo(501);
+    }
+
+    private User createUser(int points, int gamesPlayed, int strike, Duration studyTime) {
+        User user = TestUtils.createUser();
+        user.setPoints(points);
+        user.setGamesPlayed(gamesPlayed);
+        user.setStrike(strike);
+        user.setStudyTime(studyTime);
+        return user;
+    }
+
+    private List<String> frns(List<UserRanking> rankings) {
+        return rankings.stream().map(UserRanking::userFrn).toList();
+    }
+}
@@ -1,7 +1,13 @@
 package com.flashdash.core.service;
 
 import com.flashdash.core.TestUtils;
+import com.flashdash.core.exception.ErrorCode;
+import com.flashdash.core.exception.FlashDashException;
+import com.flashdash.core.model.LeaderboardCriterion;
+import com.flashdash.core.model.LeaderboardSlice;
+import com.flashdash.core.model.StatsBucket;
 import com.flashdash.core.model.User;
+import com.flashdash.core.model.UserRanking;
 import com.flashdash.core.repository.UserRepository;
 import com.flashdash.core.utils.EntityToResponseMapper;
 import com.p4r1nc3.flashdash.core.model.LeaderboardEntry;
@@ -9,19 +15,21 @@ import com.p4r1nc3.flashdash.core.model.UserSummary;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @SpringBootTest
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
@@ -34,21 +42,24 @@ class LeaderboardServiceTest {
     private UserRepository userRepository;
 
     @MockitoBean
-    private UserService userService;
+    private EntityToResponseMapper entityToResponseMapper;
 
     @MockitoBean
-    private EntityToResponseMapper entityToResponseMapper;
+    private LeaderboardIndex leaderboardIndex;
+
+    @MockitoBean
+    private StatsRollupService statsRollupService;
 
     @Test
     void shouldGetGlobalLeaderboardByPointsSuccessfully() {
         // Arrange
         String userFrn = "frn:flashdash:user:testUser";
         List<User> users = createSampleUsers();
-        when(userRepository.findAll()).thenReturn(users);
+        mockTopRankings(users);
         setupEntityToResponseMapper();
 
         // Act
-        List<LeaderboardEntry> leaderboard = leaderboardService.getLeaderboard(userFrn, "points", false, 10);
+        List<LeaderboardEntry> leaderboard = leaderboardService.getLeaderboard(userFrn, "points", "all", false, 10);
 
         // Assert
         assertThat(leaderboard).isNotNull();
@@ -69,11 +80,11 @@ class LeaderboardServiceTest {
         // Arrange
         String userFrn = "frn:flashdash:user:testUser";
         List<User> users = createSampleUsers();
-        when(userRepository.findAll()).thenReturn(users);
+        mockTopRankings(users);
         setupEntityToResponseMapper();
 
         // Act
-        List<LeaderboardEntry> leaderboard = leaderboardService.getLeaderboard(userFrn, "studyTime", false, 10);
+        List<LeaderboardEntry> leaderboard = leaderboardService.getLeaderboard(userFrn, "studyTime", "all", false, 10);
 
         // Assert
         assertThat(leaderboard).isNotNull();
@@ -90,11 +101,11 @@ class LeaderboardServiceTest {
         // Arrange
         String userFrn = "frn:flashdash:user:testUser";
         List<User> users = createSampleUsers();
-        when(userRepository.findAll()).thenReturn(users);
+        mockTopRankings(users);
         setupEntityToResponseMapper();
 
         // Act
-        List<LeaderboardEntry> leaderboard = leaderboardService.getLeaderboard(userFrn, "gamesPlayed", false, 10);
+        List<LeaderboardEntry> leaderboard = leaderboardService.getLeaderboard(userFrn, "gamesPlayed", "all", false, 10);
 
         // Assert
         assertThat(leaderboard).isNotNull();
@@ -111,11 +122,11 @@ class LeaderboardServiceTest {
         // Arrange
         String userFrn = "frn:flashdash:user:testUser";
         List<User> users = createSampleUsers();
-        when(userRepository.findAll()).thenReturn(users);
+        mockTopRankings(users);
         setupEntityToResponseMapper();
 
         // Act
-        List<LeaderboardEntry> leaderboard = leaderboardService.getLeaderboard(userFrn, "streak", false, 10);
+        List<LeaderboardEntry> leaderboard = leaderboardService.getLeaderboard(userFrn, "streak", "all", false, 10);
 
         // Assert
         assertThat(leaderboard).isNotNull();
@@ -134,22 +145,16 @@ class LeaderboardServiceTest {
         User currentUser = TestUtils.createUser();
         currentUser.setUserFrn(userFrn);
 
-        List<String> friendsFrn = Arrays.asList(
-                "frn:flashdash:user:user1",
-                "frn:flashdash:user:user3");
-        currentUser.setFriendsFrnList(friendsFrn);
-
         List<User> friendsUsers = new ArrayList<>();
         friendsUsers.add(createUserWithDetails("frn:flashdash:user:user1", "User One", 500, 15, Duration.ofHours(5), 10));
         friendsUsers.add(createUserWithDetails("frn:flashdash:user:user3", "User Three", 700, 25, Duration.ofHours(7), 30));
         friendsUsers.add(currentUser);
 
-        when(userService.getCurrentUser(userFrn)).thenReturn(currentUser);
-        when(userRepository.findByUserFrnIn(anyList())).thenReturn(friendsUsers);
+        when(userRepository.findSelfAndFriendsByUserFrn(userFrn)).thenReturn(friendsUsers);
         setupEntityToResponseMapper();
 
         // Act
-        List<LeaderboardEntry> leaderboard = leaderboardService.getLeaderboard(userFrn, "points", true, 10);
+        List<LeaderboardEntry> leaderboard = leaderboardService.getLeaderboard(userFrn, "points", "all", true, 10);
 
         // Assert
         assertThat(leaderboard).isNotNull();
@@ -166,11 +171,11 @@ class LeaderboardServiceTest {
         // Arrange
         String userFrn = "frn:flashdash:user:testUser";
         List<User> users = createSampleUsers();
-        when(userRepository.findAll()).thenReturn(users);
+        mockTopRankings(users);
         setupEntityToResponseMapper();
 
         // Act
-        List<LeaderboardEntry> leaderboard = leaderboardService.getLeaderboard(userFrn, "points", false, 3);
+        List<LeaderboardEntry> leaderboard = leaderboardService.getLeaderboard(userFrn, "points", "all", false, 3);
 
         // Assert
         assertThat(leaderboard).isNotNull();
@@ -186,10 +191,10 @@ class LeaderboardServiceTest {
     void shouldHandleEmptyUserList() {
         // Arrange
         String userFrn = "frn:flashdash:user:testUser";
-        when(userRepository.findAll()).thenReturn(Collections.emptyList());
+        mockTopRankings(Collections.emptyList());
 
         // Act
-        List<LeaderboardEntry> leaderboard = leaderboardService.getLeaderboard(userFrn, "points", false, 10);
+        List<LeaderboardEntry> leaderboard = leaderboardService.getLeaderboard(userFrn, "points", "all", false, 10);
 
         // Assert
         assertThat(leaderboard).isNotNull();
@@ -206,11 +211,11 @@ class LeaderboardServiceTest {
         User user = createUserWithDetails("frn:flashdash:user:user1", "User One", 500, 15, null, 10);
         users.add(user);
 
-        when(userRepository.findAll()).thenReturn(users);
+        mockTopRankings(users);
         setupEntityToResponseMapper();
 
         // Act
-        List<LeaderboardEntry> leaderboard = leaderboardService.getLeaderboard(userFrn, "studyTime", false, 10);
+        List<LeaderboardEntry> leaderboard = leaderboardService.getLeaderboard(userFrn, "studyTime", "all", false, 10);
 
         // Assert
         assertThat(leaderboard).isNotNull();
@@ -223,11 +228,11 @@ class LeaderboardServiceTest {
         // Arrange
         String userFrn = "frn:flashdash:user:testUser";
         List<User> users = createSampleUsers();
-        when(userRepository.findAll()).thenReturn(users);
+        mockTopRankings(users);
         setupEntityToResponseMapper();
 
         // Act
-        List<LeaderboardEntry> leaderboard = leaderboardService.getLeaderboard(userFrn, "points", false, 10);
+        List<LeaderboardEntry> leaderboard = leaderboardService.getLeaderboard(userFrn, "points", "all", false, 10);
 
         // Assert
         assertThat(leaderboard).isNotNull();
@@ -246,6 +251,167 @@ class LeaderboardServiceTest {
         }
     }
 
+    @Test
+    void shouldGetGlobalLeaderboardFromIndexWhenReady() {
+        // Arrange
+        String userFrn = "frn:flashdash:user:testUser";
+        List<UserRanking> rankings = createSampleUsers().stream()
+                .map(UserRanking::of)
+                .sorted(LeaderboardCriterion.STREAK.comparator())
+                .limit(2)
+                .toList();
+        when(leaderboardIndex.isReady()).thenReturn(true);
+        when(leaderboardIndex.top(LeaderboardCriterion.STREAK, 2)).thenReturn(rankings);
+        setupEntityToResponseMapper();
+
+        // Act
+        List<LeaderboardEntry> leaderboard = leaderboardService.getLeaderboard(userFrn, "streak", "all", false, 2);
+
+        // Assert
+        assertThat(leaderboard).hasSize(2);
+        assertThat(leaderboard.get(0).getRank()).isEqualTo(1);
+        assertThat(leaderboard.get(0).getUser().getUserFrn()).isEqualTo("frn:flashdash:user:user3");
+        assertThat(leaderboard.get(0).getScore()).isEqualTo(30);
+        assertThat(leaderboard.get(1).getUser().getUserFrn()).isEqualTo("frn:flashdash:user:user5");
+        assertThat(leaderboard.get(1).getScore()).isEqualTo(20);
+        verify(userRepository, never()).findAll();
+    }
+
+    @Test
+    void shouldGetRankAndNeighboursFromIndexWhenReady() {
+        // Arrange
+        String userFrn = "frn:flashdash:user:user3";
+        List<UserRanking> rankings = createSampleUsers().stream()
+                .map(UserRanking::of)
+                .sorted(LeaderboardCriterion.POINTS.comparator())
+                .toList();
+        when(leaderboardIndex.isReady()).thenReturn(true);
+        when(leaderboardIndex.around(LeaderboardCriterion.POINTS, userFrn, 1))
+                .thenReturn(Optional.of(new LeaderboardSlice(1, rankings.subList(0, 3))));
+        setupEntityToResponseMapper();
+
+        // Act
+        List<LeaderboardEntry> leaderboard = leaderboardService.getLeaderboardAroundUser(userFrn, "points", 1);
+
+        // Assert
+        assertThat(leaderboard).extracting(LeaderboardEntry::getRank).containsExactly(1, 2, 3);
+        assertThat(leaderboard.get(1).getUser().getUserFrn()).isEqualTo(userFrn);
+        assertThat(leaderboard.get(1).getScore()).isEqualTo(700);
+        verify(userRepository, never()).findAll();
+    }
+
+    @Test
+    void shouldComputeRankAndNeighboursFromDatabaseWhenIndexIsNotReady() {
+        // Arrange
+        String userFrn = "frn:flashdash:user:user1";
+        List<User> users = createSampleUsers();
+        when(userRepository.findByUserFrn(userFrn)).thenReturn(Optional.of(users.get(0)));
+        when(userRepository.countRankedAheadByPoints(500, userFrn)).thenReturn(2L);
+        when(userRepository.findRankingsAheadByPoints(500, userFrn, Limit.of(1))).thenReturn(List.of(UserRanking.of(users.get(2))));
+        when(userRepository.findRankingsBehindByPoints(500, userFrn, Limit.of(1))).thenReturn(List.of(UserRanking.of(users.get(3))));
+        setupEntityToResponseMapper();
+
+        // Act
+        List<LeaderboardEntry> leaderboard = leaderboardService.getLeaderboardAroundUser(userFrn, "points", 1);
+
+        // Assert
+        assertThat(leaderboard).extracting(LeaderboardEntry::getRank).containsExactly(2, 3, 4);
+        assertThat(leaderboard).extracting(entry -> entry.getUser().getUserFrn()).containsExactly(
+                "frn:flashdash:user:user3", userFrn, "frn:flashdash:user:user4");
+        verify(userRepository, never()).findAll();
+    }
+
+    @Test
+    void shouldThrowExceptionWhenNeighboursAreOutOfRange() {
+        // Act & Assert
+        assertThatThrownBy(() -> leaderboardService.getLeaderboardAroundUser("frn:flashdash:user:user1", "points", 51))
+                .isInstanceOf(FlashDashException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.E400008);
+    }
+
+    @Test
+    void shouldReadOnlyLimitRowsFromDatabaseWhenIndexIsNotReady() {
+        // Arrange
+        String userFrn = "frn:flashdash:user:testUser";
+        mockTopRankings(createSampleUsers());
+        setupEntityToResponseMapper();
+
+        // Act
+        leaderboardService.getLeaderboard(userFrn, "gamesPlayed", "all", false, 2);
+
+        // Assert
+        verify(userRepository).findTopRankingsByGamesPlayed(Limit.of(2));
+        verify(userRepository, never()).findAll();
+    }
+
+    @Test
+    void shouldGetWeeklyLeaderboardFromRollups() {
+        // Arrange
+        String userFrn = "frn:flashdash:user:testUser";
+        List<UserRanking> rankings = createSampleUsers().stream()
+                .map(UserRanking::of)
+                .sorted(LeaderboardCriterion.POINTS.comparator())
+                .limit(3)
+                .toList();
+        when(statsRollupService.top(StatsBucket.WEEK, LeaderboardCriterion.POINTS, 3)).thenReturn(rankings);
+        setupEntityToResponseMapper();
+
+        // Act
+        List<LeaderboardEntry> leaderboard = leaderboardService.getLeaderboard(userFrn, "points", "week", false, 3);
+
+        // Assert
+        assertThat(leaderboard).extracting(LeaderboardEntry::getRank).containsExactly(1, 2, 3);
+        assertThat(leaderboard.get(0).getScore()).isEqualTo(1000);
+        verifyNoInteractions(leaderboardIndex);
+    }
+
+    @Test
+    void shouldGetMonthlyFriendsLeaderboardFromRollups() {
+        // Arrange
+        String userFrn = "frn:flashdash:user:user1";
+        when(statsRollupService.topOfSelfAndFriends(StatsBucket.MONTH, LeaderboardCriterion.GAMES_PLAYED, userFrn, 10))
+                .thenReturn(List.of(UserRanking.of(createSampleUsers().get(0))));
+        setupEntityToResponseMapper();
+
+        // Act
+        List<LeaderboardEntry> leaderboard = leaderboardService.getLeaderboard(userFrn, "gamesPlayed", "month", true, 10);
+
+        // Assert
+        assertThat(leaderboard).hasSize(1);
+        assertThat(leaderboard.get(0).getScore()).isEqualTo(15);
+        verify(userRepository, never()).findSelfAndFriendsByUserFrn(anyString());
+    }
+
+    @Test
+    void shouldThrowExceptionForInvalidWindow() {
+        // Act & Assert
+        assertThatThrownBy(() -> leaderboardService.getLeaderboard("frn:flashdash:user:user1", "points", "year", false, 10))
+                .isInstanceOf(FlashDashException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.E400009);
+        assertThatThrownBy(() -> leaderboardService.getLeaderboard("frn:flashdash:user:user1", "streak", "week", false, 10))
+                .isInstanceOf(FlashDashException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.E400009);
+    }
+
+    private void mockTopRankings(List<User> users) {
+        when(userRepository.findTopRankingsByPoints(any(Limit.class)))
+                .thenAnswer(invocation -> topRankings(users, LeaderboardCriterion.POINTS, invocation.getArgument(0)));
+        when(userRepository.findTopRankingsByGamesPlayed(any(Limit.class)))
+                .thenAnswer(invocation -> topRankings(users, LeaderboardCriterion.GAMES_PLAYED, invocation.getArgument(0)));
+        when(userRepository.findTopRankingsByStrike(any(Limit.class)))
+                .thenAnswer(invocation -> topRankings(users, LeaderboardCriterion.STREAK, invocation.getArgument(0)));
+        when(userRepository.findTopRankingsByStudyTime(any(Limit.class)))
+                .thenAnswer(invocation -> topRankings(users, LeaderboardCriterion.STUDY_TIME, invocation.getArgument(0)));
+    }
+
+    private List<UserRanking> topRankings(List<User> users, LeaderboardCriterion criterion, Limit limit) {
+        return users.stream()
+                .map(UserRanking::of)
+                .sorted(criterion.comparator())
+                .limit(limit.max())
+                .toList();
+    }
+
     private void setupEntityToResponseMapper() {
         // Setup extractId method to return the last part of the frn
         when(entityToResponseMapper.extractId(anyString())).thenAnswer(invocation -> {
@@ -0,0 +1,93 @@
+package com.flashdash.core.service;
+
+import com.flashdash.core.config.JwtClaims;
+import com.flashdash.core.config.JwtManager;
+import com.flashdash.core.config.TokenVersionCache;
+import com.flashdash.core.exception.ErrorCode;
+import com.flashdash.core.exception.FlashDashException;
+import com.flashdash.core.repository.RefreshTokenRepository;
+import com.flashdash.core.service.RefreshTokenService.RotatedTokens;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RefreshTokenServiceTest {
+
+    private static final String USER_FRN = "frn:flashdash:user:refresh";
+    private static final String EMAIL = "refresh@example.com";
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private JwtManager jwtManager;
+
+    @MockitoBean
+    private TokenVersionCache tokenVersionCache;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository.deleteAll();
+        when(tokenVersionCache.isCurrent(USER_FRN, 2)).thenReturn(true);
+    }
+
+    @Test
+    void shouldIssueAccessTokenAndRotateRefreshToken() {
+        // Arrange
+        String refreshToken = refreshTokenService.issue(USER_FRN, EMAIL, 2);
+
+        // Act
+        RotatedTokens tokens = refreshTokenService.refresh(refreshToken);
+
+        // Assert
+        JwtClaims claims = jwtManager.parseToken(tokens.accessToken());
+        assertThat(claims.getUserFrn()).isEqualTo(USER_FRN);
+        assertThat(claims.getEmail()).isEqualTo(EMAIL);
+        assertThat(claims.getTokenVersion()).isEqualTo(2);
+        assertThat(tokens.refreshToken()).isNotEqualTo(refreshToken);
+        assertThat(refreshTokenRepository.count()).isEqualTo(1);
+        assertThatThrownBy(() -> refreshTokenService.refresh(refreshToken))
+                .isInstanceOf(FlashDashException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.E401001);
+    }
+
+    @Test
+    void shouldRejectRefreshTokenIssuedBeforePasswordChange() {
+        // Arrange
+        String refreshToken = refreshTokenService.issue(USER_FRN, EMAIL, 2);
+        when(tokenVersionCache.isCurrent(USER_FRN, 2)).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> refreshTokenService.refresh(refreshToken))
+                .isInstanceOf(FlashDashException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.E401001);
+    }
+
+    @Test
+    void shouldRevokeAllRefreshTokensOfUser() {
+        // Arrange
+        String first = refreshTokenService.issue(USER_FRN, EMAIL, 2);
+        refreshTokenService.issue(USER_FRN, EMAIL, 2);
+
+        // Act
+        refreshTokenService.revokeAll(USER_FRN);
+
+        // Assert
+        assertThat(refreshTokenRepository.count()).isZero();
+        assertThatThrownBy(() -> refreshTokenService.refresh(first))
+                .isInstanceOf(FlashDashException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.E401001);
+    }
+}
@@ -0,0 +1,153 @@
+package com.flashdash.core.service;
+
+import com.flashdash.core.TestUtils;
+import com.flashdash.core.model.Friendship;
+import com.flashdash.core.model.LeaderboardCriterion;
+import com.flashdash.core.model.StatsBucket;
+import com.flashdash.core.model.User;
+import com.flashdash.core.model.UserRanking;
+import com.flashdash.core.model.UserStatsRollup;
+import com.flashdash.core.model.UserStatsRollupId;
+import com.flashdash.core.repository.FriendshipRepository;
+import com.flashdash.core.repository.UserRepository;
+import com.flashdash.core.repository.UserStatsRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StatsRollupServiceTest {
+
+    @Autowired
+    private StatsRollupService statsRollupService;
+
+    @Autowired
+    private UserStatsRollupRepository userStatsRollupRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FriendshipRepository friendshipRepository;
+
+    private User first;
+    private User second;
+    private User third;
+
+    @BeforeEach
+    void setUp() {
+        userStatsRollupRepository.deleteAll();
+        friendshipRepository.deleteAll();
+        userRepository.deleteAll();
+
+        first = userRepository.save(TestUtils.createUser());
+        second = userRepository.save(TestUtils.createUser());
+        third = userRepository.save(TestUtils.createUser());
+    }
+
+    @Test
+    void shouldCreateAndIncrementEveryBucketOfFinishedGame() {
+        // Arrange
+        LocalDateTime wednesday = LocalDateTime.of(2026, 10, 14, 12, 0);
+
+        // Act
+        statsRollupService.recordGame(first.getUserFrn(), 30, Duration.ofMinutes(5), wednesday);
+        statsRollupService.recordGame(first.getUserFrn(), -4, Duration.ofMinutes(2), wednesday.plusHours(1));
+
+        // Assert
+        assertThat(userStatsRollupRepository.count()).isEqualTo(3);
+        for (UserStatsRollup rollup : List.of(
+                findRollup(first, "DAY", LocalDate.of(2026, 10, 14)),
+                findRollup(first, "WEEK", LocalDate.of(2026, 10, 12)),
+                findRollup(first, "MONTH", LocalDate.of(2026, 10, 1)))) {
+            assertThat(rollup.getPoints()).isEqualTo(26);
+            assertThat(rollup.getGamesPlayed()).isEqualTo(2);
+            assertThat(rollup.getStudyTime()).isEqualTo(Duration.ofMinutes(7));
+        }
+    }
+
+    @Test
+    void shouldKeepGamesOfDifferentDaysInSeparateDayBuckets() {
+        // Arrange
+        LocalDateTime wednesday = LocalDateTime.of(2026, 10, 14, 23, 59);
+
+        // Act
+        statsRollupService.recordGame(first.getUserFrn(), 10, Duration.ofMinutes(1), wednesday);
+        statsRollupService.recordGame(first.getUserFrn(), 20, Duration.ofMinutes(1), wednesday.plusMinutes(2));
+
+        // Assert
+        assertThat(userStatsRollupRepository.count()).isEqualTo(4);
+        assertThat(findRollup(first, "DAY", LocalDate.of(2026, 10, 15)).getPoints()).isEqualTo(20);
+        assertThat(findRollup(first, "WEEK", LocalDate.of(2026, 10, 12)).getPoints()).isEqualTo(30);
+    }
+
+    @Test
+    void shouldRankUsersOfCurrentWindow() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        statsRollupService.recordGame(first.getUserFrn(), 10, Duration.ofMinutes(30), now);
+        statsRollupService.recordGame(second.getUserFrn(), 50, Duration.ofMinutes(5), now);
+        statsRollupService.recordGame(third.getUserFrn(), 30, Duration.ofMinutes(10), now);
+        statsRollupService.recordGame(third.getUserFrn(), 900, Duration.ofHours(9), now.minusMonths(2));
+
+        // Act
+        List<UserRanking> byPoints = statsRollupService.top(StatsBucket.WEEK, LeaderboardCriterion.POINTS, 2);
+        List<UserRanking> byStudyTime = statsRollupService.top(StatsBucket.MONTH, LeaderboardCriterion.STUDY_TIME, 10);
+
+        // Assert
+        assertThat(byPoints).extracting(UserRanking::userFrn).containsExactly(second.getUserFrn(), third.getUserFrn());
+        assertThat(byPoints.get(0).points()).isEqualTo(50);
+        assertThat(byPoints.get(0).username()).isEqualTo(second.getUsername());
+        assertThat(byStudyTime).extracting(UserRanking::userFrn)
+                .containsExactly(first.getUserFrn(), third.getUserFrn(), second.getUserFrn());
+    }
+
+    @Test
+    void shouldRankOnlySelfAndFriendsOfCurrentWindow() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        friendshipRepository.save(new Friendship(first.getUserFrn(), third.getUserFrn(), now));
+        statsRollupService.recordGame(first.getUserFrn(), 10, Duration.ofMinutes(1), now);
+        statsRollupService.recordGame(second.getUserFrn(), 50, Duration.ofMinutes(1), now);
+        statsRollupService.recordGame(third.getUserFrn(), 30, Duration.ofMinutes(1), now);
+
+        // Act
+        List<UserRanking> rankings = statsRollupService.topOfSelfAndFriends(StatsBucket.DAY, LeaderboardCriterion.GAMES_PLAYED, first.getUserFrn(), 10);
+
+        // Assert
+        assertThat(rankings).extracting(UserRanking::userFrn).containsExactlyInAnyOrder(first.getUserFrn(), third.getUserFrn());
+    }
+
+    @Test
+    void shouldCompactBucketsOlderThanRetention() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        statsRollupService.recordGame(first.getUserFrn(), 10, Duration.ofMinutes(1), now.minusDays(40));
+        statsRollupService.recordGame(first.getUserFrn(), 10, Duration.ofMinutes(1), now);
+
+        // Act
+        statsRollupService.compact();
+
+        // Assert
+        List<UserStatsRollup> days = userStatsRollupRepository.findAll().stream()
+                .filter(rollup -> rollup.getBucketType().equals("DAY"))
+                .toList();
+        assertThat(days).extracting(UserStatsRollup::getBucketStart).containsExactly(now.toLocalDate());
+        assertThat(userStatsRollupRepository.existsById(new UserStatsRollupId(first.getUserFrn(), "WEEK",
+                StatsBucket.WEEK.startOf(now.minusDays(40).toLocalDate())))).isTrue();
+    }
+
+    private UserStatsRollup findRollup(User user, String bucketType, LocalDate start) {
+        return userStatsRollupRepository.findById(new UserStatsRollupId(user.getUserFrn(), bucketType, start)).orElseThrow();
+    }
+}
@@ -0,0 +1,87 @@
+package com.flashdash.core.service;
+
+import com.flashdash.core.exception.ErrorCode;
+import com.flashdash.core.exception.FlashDashException;
+import com.flashdash.core.repository.UserRepository;
+import com.flashdash.core.service.api.ActivityLogEntry;
+import com.flashdash.core.service.api.ActivityLoggedEvent;
+import com.flashdash.core.service.api.ActivityService;
+import com.p4r1nc3.flashdash.activity.model.ActivityStatisticsResponse;
+import com.p4r1nc3.flashdash.activity.model.LogActivityRequest.ActivityTypeEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StreakServiceTest {
+
+    @Autowired
+    private StreakService streakService;
+
+    @MockitoBean
+    private ActivityService activityService;
+
+    @MockitoBean
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        reset(activityService, userRepository);
+    }
+
+    @Test
+    void shouldUpdateStrikeOnlyOnceWithinTtl() {
+        // Arrange
+        String userFrn = "frn:flashdash:user:streak-cached";
+        ActivityStatisticsResponse statistics = new ActivityStatisticsResponse();
+        statistics.setCurrentStreak(5);
+        when(activityService.getActivityStatistics(userFrn)).thenReturn(statistics);
+
+        // Act
+        streakService.refreshStreak(userFrn);
+        streakService.refreshStreak(userFrn);
+
+        // Assert
+        verify(activityService, times(1)).getActivityStatistics(userFrn);
+        verify(userRepository, times(1)).updateStrike(eq(userFrn), eq(5), any(LocalDateTime.class));
+    }
+
+    @Test
+    void shouldNotUpdateStrikeWhenStatisticsAreUnavailable() {
+        // Arrange
+        String userFrn = "frn:flashdash:user:streak-unavailable";
+        when(activityService.getActivityStatistics(userFrn))
+                .thenThrow(new FlashDashException(ErrorCode.E500001, "Activity service unavailable."));
+
+        // Act
+        streakService.refreshStreak(userFrn);
+
+        // Assert
+        verify(userRepository, never()).updateStrike(anyString(), anyInt(), any(LocalDateTime.class));
+    }
+
+    @Test
+    void shouldRefreshStreakOnlyAfterLoginIsLogged() {
+        // Arrange
+        String userFrn = "frn:flashdash:user:streak-login";
+        ActivityStatisticsResponse statistics = new ActivityStatisticsResponse();
+        statistics.setCurrentStreak(3);
+        when(activityService.getActivityStatistics(userFrn)).thenReturn(statistics);
+
+        // Act
+        streakService.onActivityLogged(new ActivityLoggedEvent(ActivityLogEntry.of(userFrn, "deck", ActivityTypeEnum.DECK_CREATED)));
+        streakService.onActivityLogged(new ActivityLoggedEvent(ActivityLogEntry.of(userFrn, userFrn, ActivityTypeEnum.ACCOUNT_LOGIN)));
+
+        // Assert
+        verify(userRepository, timeout(1000)).updateStrike(eq(userFrn), eq(3), any(LocalDateTime.class));
+        verify(activityService, times(1)).getActivityStatistics(userFrn);
+    }
+}
@@ -1,12 +1,12 @@
 package com.flashdash.core.service;
 
 import com.flashdash.core.TestUtils;
+import com.flashdash.core.config.TokenVersionCache;
 import com.flashdash.core.exception.ErrorCode;
 import com.flashdash.core.exception.FlashDashException;
 import com.flashdash.core.model.User;
 import com.flashdash.core.repository.UserRepository;
 import com.flashdash.core.service.api.ActivityService;
-import com.flashdash.core.service.api.NotificationService;
 import com.p4r1nc3.flashdash.core.model.ChangePasswordRequest;
 import com.p4r1nc3.flashdash.core.model.UserResponse;
 import com.p4r1nc3.flashdash.notification.model.NotificationSubscriber;
@@ -39,16 +39,13 @@ class UserServiceTest {
     private ActivityService activityService;
 
     @MockitoBean
-    private NotificationService notificationService;
+    private AccountDeletionService accountDeletionService;
 
     @MockitoBean
-    private DeckService deckService;
+    private TokenVersionCache tokenVersionCache;
 
     @MockitoBean
-    private GameSessionService gameSessionService;
-
-    @MockitoBean
-    private FriendService friendService;
+    private RefreshTokenService refreshTokenService;
 
     @MockitoBean
     private UserRepository userRepository;
@@ -142,6 +139,9 @@ class UserServiceTest {
         verify(passwordEncoder).matches("oldPassword", "encodedOldPassword");
         verify(passwordEncoder).encode("newPassword");
         verify(userRepository).save(user);
+        verify(tokenVersionCache).update(user.getUserFrn(), 1);
+        verify(refreshTokenService).revokeAll(user.getUserFrn());
+        assertThat(user.getTokenVersion()).isEqualTo(1);
         verify(activityService).logUserActivity(
                 eq(user.getUserFrn()),
                 eq(user.getUserFrn()),
@@ -170,48 +170,29 @@ class UserServiceTest {
         verify(passwordEncoder).matches("wrongOldPassword", "encodedOldPassword");
         verify(passwordEncoder, never()).encode(anyString());
         verify(userRepository, never()).save(any(User.class));
+        verify(tokenVersionCache, never()).update(anyString(), anyInt());
     }
 
     @Test
-    void shouldDeleteUserSuccessfully() {
-        // Arrange
-        when(userRepository.findByUserFrn(user.getUserFrn())).thenReturn(Optional.of(user));
-        doNothing().when(deckService).deleteAllDecksForUser(user.getUserFrn());
-        doNothing().when(gameSessionService).removeAllGameSessionsForUser(user.getUserFrn());
-        doNothing().when(friendService).removeAllFriends(user.getUserFrn());
-        doNothing().when(notificationService).unregisterSubscriber(user.getUserFrn());
-
+    void shouldRequestDeletionOfUser() {
         // Act
         userService.deleteUser(user.getUserFrn());
 
         // Assert
-        verify(userRepository).findByUserFrn(user.getUserFrn());
-        verify(deckService).deleteAllDecksForUser(user.getUserFrn());
-        verify(gameSessionService).removeAllGameSessionsForUser(user.getUserFrn());
-        verify(friendService).removeAllFriends(user.getUserFrn());
-        verify(userRepository).delete(user);
-        verify(notificationService).unregisterSubscriber(user.getUserFrn());
-        verify(activityService).logUserActivity(user.getUserFrn(), user.getUserFrn(),
-                com.p4r1nc3.flashdash.activity.model.LogActivityRequest.ActivityTypeEnum.ACCOUNT_DELETED);
+        verify(accountDeletionService).requestDeletion(user.getUserFrn());
+        verify(userRepository, never()).delete(any(User.class));
     }
 
     @Test
     void shouldThrowExceptionWhenDeletingNonExistentUser() {
         // Arrange
         String nonExistentUserFrn = "nonexistent-frn";
-        when(userRepository.findByUserFrn(nonExistentUserFrn)).thenReturn(Optional.empty());
+        doThrow(new FlashDashException(ErrorCode.E404001, "User with userFrn " + nonExistentUserFrn + " not found."))
+                .when(accountDeletionService).requestDeletion(nonExistentUserFrn);
 
         // Act & Assert
         assertThatThrownBy(() -> userService.deleteUser(nonExistentUserFrn))
                 .isInstanceOf(FlashDashException.class)
-                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.E404001)
-                .hasMessage("User with email " + nonExistentUserFrn + " not found.");
-
-        verify(userRepository).findByUserFrn(nonExistentUserFrn);
-        verify(deckService, never()).deleteAllDecksForUser(anyString());
-        verify(gameSessionService, never()).removeAllGameSessionsForUser(anyString());
-        verify(friendService, never()).removeAllFriends(anyString());
-        verify(userRepository, never()).delete(any(User.class));
-        verify(notificationService, never()).unregisterSubscriber(anyString());
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.E404001);
     }
-}
\ No newline at end of file
+}
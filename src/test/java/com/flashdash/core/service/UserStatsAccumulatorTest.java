@@ -0,0 +1,217 @@
+package com.flashdash.core.service;
+
+import com.flashdash.core.TestUtils;
+import com.flashdash.core.model.StatsBucket;
+import com.flashdash.core.model.User;
+import com.flashdash.core.model.UserStatsRollup;
+import com.flashdash.core.model.UserStatsRollupId;
+import com.flashdash.core.repository.FriendshipRepository;
+import com.flashdash.core.repository.UserRepository;
+import com.flashdash.core.repository.UserStatsRollupRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UserStatsAccumulatorTest {
+
+    @Autowired
+    private UserStatsAccumulator userStatsAccumulator;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FriendshipRepository friendshipRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private StatsRollupService statsRollupService;
+
+    @Autowired
+    private UserStatsRollupRepository userStatsRollupRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        userStatsAccumulator.flush();
+        userStatsRollupRepository.deleteAll();
+        friendshipRepository.deleteAll();
+        userRepository.deleteAll();
+        user = userRepository.save(TestUtils.createUser());
+    }
+
+    @Test
+    void shouldShowPendingStatsBeforeFlush() {
+        // Arrange
+        userStatsAccumulator.recordGame(user.getUserFrn(), 10, Duration.ofMinutes(3), LocalDateTime.now());
+        userStatsAccumulator.recordGame(user.getUserFrn(), -4, Duration.ofMinutes(2), LocalDateTime.now());
+
+        // Act
+        User loaded = userRepository.findByUserFrn(user.getUserFrn()).orElseThrow();
+        userStatsAccumulator.applyPending(loaded);
+
+        // Assert
+        assertThat(loaded.getPoints()).isEqualTo(user.getPoints() + 6);
+        assertThat(loaded.getGamesPlayed()).isEqualTo(user.getGamesPlayed() + 2);
+        assertThat(loaded.getStudyTime()).isEqualTo(user.getStudyTime().plusMinutes(5));
+
+        User stored = userRepository.findByUserFrn(user.getUserFrn()).orElseThrow();
+        assertThat(stored.getPoints()).isEqualTo(user.getPoints());
+        assertThat(userStatsAccumulator.pendingUsers()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldWriteCoalescedStatsOnFlush() {
+        // Arrange
+        LocalDateTime finishedAt = LocalDateTime.now().withNano(0);
+        for (int i = 0; i < 5; i++) {
+            userStatsAccumulator.recordGame(user.getUserFrn(), 2, Duration.ofMinutes(1), finishedAt.minusMinutes(i));
+        }
+
+        // Act
+        userStatsAccumulator.flush();
+
+        // Assert
+        User stored = userRepository.findByUserFrn(user.getUserFrn()).orElseThrow();
+        assertThat(stored.getPoints()).isEqualTo(user.getPoints() + 10);
+        assertThat(stored.getGamesPlayed()).isEqualTo(user.getGamesPlayed() + 5);
+        assertThat(stored.getStudyTime()).isEqualTo(user.getStudyTime().plusMinutes(5));
+        assertThat(stored.getUpdatedAt()).isEqualTo(finishedAt);
+        assertThat(userStatsAccumulator.pendingUsers()).isZero();
+
+        // Nothing is pending any more, so reads see the stored values only
+        userStatsAccumulator.applyPending(stored);
+        assertThat(stored.getPoints()).isEqualTo(user.getPoints() + 10);
+    }
+
+    @Test
+    void shouldNeverCountStatsTwiceWhileFlushing() throws Exception {
+        // Arrange
+        int games = 200;
+        AtomicBoolean done = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // Act
+        int maxSeen;
+        try {
+            Future<?> writer = executor.submit(() -> {
+                for (int i = 0; i < games; i++) {
+                    userStatsAccumulator.recordGame(user.getUserFrn(), 1, Duration.ofSeconds(1), LocalDateTime.now());
+                    if (i % 10 == 0) {
+                        userStatsAccumulator.flush();
+                    }
+                }
+                done.set(true);
+            });
+            Future<Integer> reader = executor.submit(() -> {
+                int max = 0;
+                while (!done.get()) {
+                    User loaded = userRepository.findByUserFrn(user.getUserFrn()).orElseThrow();
+                    userStatsAccumulator.applyPending(loaded);
+                    max = Math.max(max, loaded.getGamesPlayed() - user.getGamesPlayed());
+                }
+                return max;
+            });
+            writer.get(30, TimeUnit.SECONDS);
+            maxSeen = reader.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        userStatsAccumulator.flush();
+
+        // Assert
+        assertThat(maxSeen).isLessThanOrEqualTo(games);
+        User stored = userRepository.findByUserFrn(user.getUserFrn()).orElseThrow();
+        assertThat(stored.getGamesPlayed()).isEqualTo(user.getGamesPlayed() + games);
+        userStatsAccumulator.applyPending(stored);
+        assertThat(stored.getGamesPlayed()).isEqualTo(user.getGamesPlayed() + games);
+    }
+
+    @Test
+    void shouldDropStatsOfMissingUserOnFlush() {
+        // Arrange
+        userStatsAccumulator.recordGame("frn:flashdash:user:missing", 10, Duration.ofMinutes(1), LocalDateTime.now());
+        userStatsAccumulator.recordGame(user.getUserFrn(), 3, Duration.ofMinutes(1), LocalDateTime.now());
+
+        // Act
+        userStatsAccumulator.flush();
+
+        // Assert
+        assertThat(userStatsAccumulator.pendingUsers()).isZero();
+        User stored = userRepository.findByUserFrn(user.getUserFrn()).orElseThrow();
+        assertThat(stored.getPoints()).isEqualTo(user.getPoints() + 3);
+    }
+
+    @Test
+    void shouldWriteImmediatelyWhenWriteBehindDisabled() {
+        // Arrange
+        UserStatsAccumulator direct = new UserStatsAccumulator(jdbcTemplate, transactionTemplate, userRepository,
+                statsRollupService, Optional.empty(), new SimpleMeterRegistry(), false, 16, 500);
+
+        // Act
+        direct.recordGame(user.getUserFrn(), 7, Duration.ofMinutes(2), LocalDateTime.now());
+
+        // Assert
+        assertThat(direct.pendingUsers()).isZero();
+        User stored = userRepository.findByUserFrn(user.getUserFrn()).orElseThrow();
+        assertThat(stored.getPoints()).isEqualTo(user.getPoints() + 7);
+        assertThat(stored.getGamesPlayed()).isEqualTo(user.getGamesPlayed() + 1);
+        assertThat(userStatsRollupRepository.count()).isEqualTo(StatsBucket.values().length);
+    }
+
+    @Test
+    void shouldWriteRollupsOfBufferedGamesOnFlush() {
+        // Arrange
+        LocalDateTime sunday = LocalDateTime.of(2026, 10, 18, 23, 0);
+        userStatsAccumulator.recordGame(user.getUserFrn(), 10, Duration.ofMinutes(3), sunday);
+        userStatsAccumulator.recordGame(user.getUserFrn(), 5, Duration.ofMinutes(2), sunday.plusMinutes(10));
+        userStatsAccumulator.recordGame(user.getUserFrn(), 4, Duration.ofMinutes(1), sunday.plusHours(2));
+        userStatsAccumulator.recordGame("frn:flashdash:user:missing", 10, Duration.ofMinutes(1), sunday);
+
+        // Act
+        userStatsAccumulator.flush();
+        userStatsAccumulator.recordGame(user.getUserFrn(), 1, Duration.ofMinutes(1), sunday);
+        userStatsAccumulator.flush();
+
+        // Assert
+        assertThat(userStatsRollupRepository.count()).isEqualTo(5);
+        assertRollup("DAY", LocalDate.of(2026, 10, 18), 3, 16, Duration.ofMinutes(6));
+        assertRollup("DAY", LocalDate.of(2026, 10, 19), 1, 4, Duration.ofMinutes(1));
+        assertRollup("WEEK", LocalDate.of(2026, 10, 12), 3, 16, Duration.ofMinutes(6));
+        assertRollup("WEEK", LocalDate.of(2026, 10, 19), 1, 4, Duration.ofMinutes(1));
+        assertRollup("MONTH", LocalDate.of(2026, 10, 1), 4, 20, Duration.ofMinutes(7));
+    }
+
+    private void assertRollup(String bucketType, LocalDate bucketStart, int gamesPlayed, int points, Duration studyTime) {
+        UserStatsRollup rollup = userStatsRollupRepository
+                .findById(new UserStatsRollupId(user.getUserFrn(), bucketType, bucketStart)).orElseThrow();
+        assertThat(rollup.getGamesPlayed()).isEqualTo(gamesPlayed);
+        assertThat(rollup.getPoints()).isEqualTo(points);
+        assertThat(rollup.getStudyTime()).isEqualTo(studyTime);
+    }
+}
@@ -0,0 +1,113 @@
+package com.flashdash.core.service.api;
+
+import com.p4r1nc3.flashdash.activity.model.LogActivityRequest.ActivityTypeEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ActivityLogJournalTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private Path path;
+    private ActivityLogJournal journal;
+
+    @BeforeEach
+    void setUp() {
+        path = tempDir.resolve("activity-journal.log");
+        journal = new ActivityLogJournal(path.toString());
+    }
+
+    @Test
+    void shouldContinueAfterAcknowledgedEntriesWithoutRewritingFile() throws Exception {
+        // Arrange
+        journal.append(entries("deck-1", "deck-2", "deck-3"));
+        long length = Files.size(path);
+        journal.peek(2);
+
+        // Act
+        journal.acknowledge(1);
+
+        // Assert
+        assertThat(journal.size()).isEqualTo(2);
+        assertThat(Files.size(path)).isEqualTo(length);
+        assertThat(journal.peek(10)).extracting(ActivityLogEntry::targetFrn).containsExactly("deck-2", "deck-3");
+    }
+
+    @Test
+    void shouldTruncateFileOnceEveryEntryIsAcknowledged() throws Exception {
+        // Arrange
+        journal.append(entries("deck-1", "deck-2"));
+        journal.acknowledge(journal.peek(10).size());
+
+        // Act
+        journal.append(entries("deck-3"));
+
+        // Assert
+        assertThat(journal.size()).isEqualTo(1);
+        assertThat(Files.readAllLines(path)).hasSize(1);
+        assertThat(journal.peek(10)).extracting(ActivityLogEntry::targetFrn).containsExactly("deck-3");
+    }
+
+    @Test
+    void shouldReadEntriesAppendedDuringReplay() {
+        // Arrange
+        journal.append(entries("deck-1", "deck-2"));
+        journal.peek(1);
+
+        // Act
+        journal.append(entries("deck-3"));
+        journal.acknowledge(1);
+
+        // Assert
+        assertThat(journal.size()).isEqualTo(2);
+        assertThat(journal.peek(10)).extracting(ActivityLogEntry::targetFrn).containsExactly("deck-2", "deck-3");
+    }
+
+    @Test
+    void shouldReturnLineCutShortByCrash() throws Exception {
+        // Arrange
+        journal.append(entries("deck-1"));
+        Files.writeString(path, "{\"userFrn\":\"user-1\"", StandardOpenOption.APPEND);
+        ActivityLogJournal reopened = new ActivityLogJournal(path.toString());
+
+        // Act
+        List<ActivityLogEntry> entries = reopened.peek(10);
+        reopened.acknowledge(entries.size());
+
+        // Assert
+        assertThat(entries).hasSize(2);
+        assertThat(entries.get(1)).isNull();
+        assertThat(reopened.size()).isZero();
+        assertThat(Files.size(path)).isZero();
+    }
+
+    @Test
+    void shouldDropEntriesWhenJournalFileIsDeleted() throws Exception {
+        // Arrange
+        journal.append(entries("deck-1", "deck-2"));
+        Files.delete(path);
+
+        // Act
+        List<ActivityLogEntry> entries = journal.peek(10);
+
+        // Assert
+        assertThat(entries).isEmpty();
+        assertThat(journal.size()).isZero();
+    }
+
+    private List<ActivityLogEntry> entries(String... targetFrns) {
+        return Arrays.stream(targetFrns)
+                .map(targetFrn -> ActivityLogEntry.of("user-1", targetFrn, ActivityTypeEnum.DECK_CREATED))
+                .toList();
+    }
+}
@@ -0,0 +1,132 @@
+package com.flashdash.core.service.api;
+
+import com.flashdash.core.config.ServiceTokenCache;
+import com.p4r1nc3.flashdash.activity.ApiException;
+import com.p4r1nc3.flashdash.activity.api.ActivitiesApi;
+import com.p4r1nc3.flashdash.activity.model.LogActivityRequest;
+import com.p4r1nc3.flashdash.activity.model.LogActivityRequest.ActivityTypeEnum;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.mockito.Mockito.*;
+
+class ActivityLogPipelineTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private ActivitiesApi activitiesApi;
+    private ApplicationEventPublisher eventPublisher;
+    private ActivityLogJournal journal;
+    private ActivityLogPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        activitiesApi = mock(ActivitiesApi.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        ServiceTokenCache serviceTokenCache = mock(ServiceTokenCache.class);
+        when(serviceTokenCache.getToken(anyString())).thenReturn(Optional.of("service-token"));
+
+        journal = new ActivityLogJournal(tempDir.resolve("activity-journal.log").toString());
+        pipeline = new ActivityLogPipeline(activitiesApi, serviceTokenCache, journal, eventPublisher, new SimpleMeterRegistry(),
+                2, 10, 50, 60_000);
+    }
+
+    @Test
+    void shouldDeliverBatchInOrder() throws Exception {
+        // Arrange
+        List<ActivityLogEntry> batch = List.of(
+                ActivityLogEntry.of("user-1", "deck-1", ActivityTypeEnum.DECK_CREATED),
+                ActivityLogEntry.of("user-1", "deck-1", ActivityTypeEnum.DECK_UPDATED)
+        );
+
+        // Act
+        pipeline.flush(batch);
+
+        // Assert
+        verify(activitiesApi, times(2)).logActivity(any(LogActivityRequest.class));
+        verify(eventPublisher, times(2)).publishEvent(any(ActivityLoggedEvent.class));
+        assertThat(journal.size()).isZero();
+    }
+
+    @Test
+    void shouldJournalUndeliveredEntriesAndSkipRemoteWhileUnavailable() throws Exception {
+        // Arrange
+        doNothing().doThrow(new ApiException("unavailable")).when(activitiesApi).logActivity(any(LogActivityRequest.class));
+        List<ActivityLogEntry> batch = List.of(
+                ActivityLogEntry.of("user-1", "deck-1", ActivityTypeEnum.DECK_CREATED),
+                ActivityLogEntry.of("user-1", "deck-2", ActivityTypeEnum.DECK_CREATED),
+                ActivityLogEntry.of("user-1", "deck-3", ActivityTypeEnum.DECK_CREATED)
+        );
+
+        // Act
+        pipeline.flush(batch);
+        pipeline.flush(List.of(ActivityLogEntry.of("user-1", "deck-4", ActivityTypeEnum.DECK_CREATED)));
+
+        // Assert
+        verify(activitiesApi, times(2)).logActivity(any(LogActivityRequest.class));
+        assertThat(journal.peek(10))
+                .extracting(ActivityLogEntry::targetFrn)
+                .containsExactly("deck-2", "deck-3", "deck-4");
+    }
+
+    @Test
+    void shouldJournalEntriesThatDoNotFitInQueue() {
+        // Arrange
+        ActivityLogEntry entry = ActivityLogEntry.of("user-1", "game-1", ActivityTypeEnum.GAME_STARTED);
+
+        // Act
+        pipeline.submit(entry);
+        pipeline.submit(entry);
+        pipeline.submit(entry);
+
+        // Assert
+        assertThat(journal.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReplayJournalAndRemoveDeliveredEntries() throws Exception {
+        // Arrange
+        journal.append(List.of(
+                ActivityLogEntry.of("user-1", "game-1", ActivityTypeEnum.GAME_STARTED),
+                ActivityLogEntry.of("user-1", "game-1", ActivityTypeEnum.GAME_FINISHED)
+        ));
+        ActivityLogJournal reopened = new ActivityLogJournal(tempDir.resolve("activity-journal.log").toString());
+
+        // Act
+        pipeline.replayJournal();
+
+        // Assert
+        assertThat(reopened.size()).isEqualTo(2);
+        verify(activitiesApi, times(2)).logActivity(any(LogActivityRequest.class));
+        assertThat(journal.size()).isZero();
+        assertThat(journal.peek(10)).isEmpty();
+    }
+
+    @Test
+    void shouldStopReplayWhenJournalCannotBeRead() throws Exception {
+        // Arrange
+        Path path = tempDir.resolve("activity-journal.log");
+        journal.append(List.of(ActivityLogEntry.of("user-1", "game-1", ActivityTypeEnum.GAME_STARTED)));
+        Files.delete(path);
+        Files.createDirectory(path);
+
+        // Act
+        assertTimeout(Duration.ofSeconds(5), () -> pipeline.replayJournal());
+
+        // Assert
+        assertThat(journal.size()).isEqualTo(1);
+        verify(activitiesApi, never()).logActivity(any(LogActivityRequest.class));
+    }
+}
@@ -0,0 +1,37 @@
+package com.flashdash.core.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    void shouldContainEveryAddedValue() {
+        // Arrange
+        BloomFilter bloomFilter = new BloomFilter(1_000, 0.01);
+
+        // Act
+        IntStream.range(0, 1_000).forEach(i -> bloomFilter.put("user" + i + "@example.com"));
+
+        // Assert
+        assertThat(IntStream.range(0, 1_000).allMatch(i -> bloomFilter.mightContain("user" + i + "@example.com"))).isTrue();
+    }
+
+    @Test
+    void shouldKeepFalsePositiveRateNearConfiguredRate() {
+        // Arrange
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> bloomFilter.put("member-" + i));
+
+        // Act
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> bloomFilter.mightContain("stranger-" + i))
+                .count();
+
+        // Assert
+        assertThat(falsePositives).isLessThan(300);
+    }
+}
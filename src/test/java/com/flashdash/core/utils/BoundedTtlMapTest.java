@@ -0,0 +1,97 @@
+package com.flashdash.core.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedTtlMapTest {
+
+    @Test
+    void shouldReturnValueUntilTtlElapses() throws InterruptedException {
+        // Arrange
+        BoundedTtlMap<String, Integer> map = new BoundedTtlMap<>(20, 10);
+        map.put("alice", 1);
+
+        // Act
+        Integer fresh = map.get("alice");
+        Thread.sleep(40);
+        Integer expired = map.get("alice");
+
+        // Assert
+        assertThat(fresh).isEqualTo(1);
+        assertThat(expired).isNull();
+        assertThat(map.size()).isZero();
+    }
+
+    @Test
+    void shouldExpireEntryAtGivenTime() {
+        // Arrange
+        BoundedTtlMap<String, Integer> map = new BoundedTtlMap<>(60_000, 10);
+
+        // Act
+        map.put("alice", 1, System.currentTimeMillis() - 1);
+        map.put("bob", 2, System.currentTimeMillis() + 60_000);
+
+        // Assert
+        assertThat(map.get("alice")).isNull();
+        assertThat(map.get("bob")).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEvictExpiredEntriesFirstWhenFull() {
+        // Arrange
+        BoundedTtlMap<String, Integer> map = new BoundedTtlMap<>(60_000, 2);
+        map.put("expired", 1, System.currentTimeMillis() - 1);
+        map.put("alice", 2);
+
+        // Act
+        map.put("bob", 3);
+
+        // Assert
+        assertThat(map.size()).isEqualTo(2);
+        assertThat(map.get("alice")).isEqualTo(2);
+        assertThat(map.get("bob")).isEqualTo(3);
+    }
+
+    @Test
+    void shouldNeverHoldMoreThanMaxSizeEntries() {
+        // Arrange
+        BoundedTtlMap<Integer, Integer> map = new BoundedTtlMap<>(60_000, 100);
+
+        // Act
+        for (int i = 0; i < 1_000; i++) {
+            map.put(i, i);
+        }
+
+        // Assert
+        assertThat(map.size()).isEqualTo(100);
+        assertThat(map.get(999)).isEqualTo(999);
+    }
+
+    @Test
+    void shouldReplaceExistingKeyWithoutEvicting() {
+        // Arrange
+        BoundedTtlMap<String, Integer> map = new BoundedTtlMap<>(60_000, 2);
+        map.put("alice", 1);
+        map.put("bob", 2);
+
+        // Act
+        map.put("alice", 3);
+
+        // Assert
+        assertThat(map.get("alice")).isEqualTo(3);
+        assertThat(map.get("bob")).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotOverflowForUnboundedTtl() {
+        // Arrange
+        BoundedTtlMap<String, Integer> map = new BoundedTtlMap<>(Long.MAX_VALUE, 10);
+
+        // Act
+        map.put("alice", 1);
+
+        // Assert
+        assertThat(map.get("alice")).isEqualTo(1);
+    }
+}
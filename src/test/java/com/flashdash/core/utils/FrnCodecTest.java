@@ -0,0 +1,47 @@
+package com.flashdash.core.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FrnCodecTest {
+
+    @Test
+    void shouldEncodeGeneratedFrnsInCompactForm() {
+        for (ResourceType resourceType : ResourceType.values()) {
+            // Arrange
+            String frn = FrnGenerator.generateFrn(resourceType);
+
+            // Act
+            byte[] encoded = FrnCodec.encode(frn);
+
+            // Assert
+            assertThat(encoded).hasSize(FrnCodec.COMPACT_LENGTH);
+            assertThat(encoded[0]).isEqualTo((byte) resourceType.getCode());
+            assertThat(FrnCodec.decode(encoded)).isEqualTo(frn);
+        }
+    }
+
+    @Test
+    void shouldKeepNonCanonicalFrnsVerbatim() {
+        for (String frn : new String[] {"frn:flashdash:user:AAb", "frn:flashdash:user:not-base62", "frn:flashdash:unknown:abc", "random-frn", ""}) {
+            // Act
+            byte[] encoded = FrnCodec.encode(frn);
+
+            // Assert
+            assertThat(encoded[0]).isZero();
+            assertThat(FrnCodec.decode(encoded)).isEqualTo(frn);
+        }
+    }
+
+    @Test
+    void shouldRejectUnknownTypeCode() {
+        // Arrange
+        byte[] encoded = new byte[FrnCodec.COMPACT_LENGTH];
+        encoded[0] = (byte) 99;
+
+        // Act & Assert
+        assertThatThrownBy(() -> FrnCodec.decode(encoded)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
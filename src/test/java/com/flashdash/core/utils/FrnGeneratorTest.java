@@ -5,7 +5,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Random;
 import java.util.Set;
 import java.util.regex.Pattern;
 
@@ -48,4 +52,61 @@ class FrnGeneratorTest {
             generatedFrns.add(newFrn);
         }
     }
+
+    @Test
+    void shouldEncodeExactlyLikeBigIntegerBase62() {
+        // Arrange
+        Random random = new Random(42);
+
+        for (int i = 0; i < 1000; i++) {
+            long msb = random.nextLong() >>> random.nextInt(64);
+            long lsb = random.nextLong();
+            BigInteger value = new BigInteger(1, ByteBuffer.allocate(16).putLong(msb).putLong(lsb).array());
+
+            // Act
+            String encoded = FrnGenerator.encodeBase62(msb, lsb);
+
+            // Assert
+            assertThat(encoded).isEqualTo(referenceBase62(value));
+        }
+    }
+
+    @Test
+    void shouldGenerateStrictlyIncreasingTimeOrderedIds() {
+        // Arrange
+        byte[] previous = FrnCodec.encode(FrnGenerator.generateFrn(ResourceType.QUESTION, FrnGenerator.Mode.TIME_ORDERED));
+
+        for (int i = 0; i < 10000; i++) {
+            // Act
+            String frn = FrnGenerator.generateFrn(ResourceType.QUESTION, FrnGenerator.Mode.TIME_ORDERED);
+            byte[] current = FrnCodec.encode(frn);
+
+            // Assert
+            assertThat(current).hasSize(FrnCodec.COMPACT_LENGTH);
+            assertThat(Arrays.compareUnsigned(current, previous)).isPositive();
+            previous = current;
+        }
+    }
+
+    @Test
+    void shouldGenerateValidFrnsInRandomMode() {
+        // Act
+        String frn = FrnGenerator.generateFrn(ResourceType.DECK, FrnGenerator.Mode.RANDOM);
+
+        // Assert
+        assertThat(frn).startsWith(FRN_PREFIX + ":deck:");
+        assertThat(BASE62_PATTERN.matcher(frn.split(":")[3]).matches()).isTrue();
+        assertThat(FrnCodec.decode(FrnCodec.encode(frn))).isEqualTo(frn);
+    }
+
+    private static String referenceBase62(BigInteger value) {
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+        StringBuilder sb = new StringBuilder();
+        while (value.signum() > 0) {
+            BigInteger[] divmod = value.divideAndRemainder(BigInteger.valueOf(62));
+            value = divmod[0];
+            sb.insert(0, alphabet.charAt(divmod[1].intValue()));
+        }
+        return sb.toString();
+    }
 }
@@ -0,0 +1,69 @@
+package com.flashdash.core.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderStatisticTreeTest {
+
+    @Test
+    void shouldReturnRankAndRangeInSortOrder() {
+        // Arrange
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.reverseOrder());
+        List.of(5, 1, 9, 3, 7).forEach(tree::add);
+
+        // Act & Assert
+        assertThat(tree.size()).isEqualTo(5);
+        assertThat(tree.rankOf(9)).isZero();
+        assertThat(tree.rankOf(3)).isEqualTo(3);
+        assertThat(tree.rankOf(4)).isEqualTo(-1);
+        assertThat(tree.range(1, 3)).containsExactly(7, 5, 3);
+        assertThat(tree.range(3, 10)).containsExactly(3, 1);
+    }
+
+    @Test
+    void shouldIgnoreDuplicatesAndMissingValues() {
+        // Arrange
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+
+        // Act & Assert
+        assertThat(tree.add(1)).isTrue();
+        assertThat(tree.add(1)).isFalse();
+        assertThat(tree.remove(2)).isFalse();
+        assertThat(tree.remove(1)).isTrue();
+        assertThat(tree.size()).isZero();
+        assertThat(tree.range(0, 5)).isEmpty();
+    }
+
+    @Test
+    void shouldMatchSortedSetUnderRandomUpdates() {
+        // Arrange
+        Random random = new Random(42);
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        TreeSet<Integer> expected = new TreeSet<>();
+
+        // Act
+        for (int i = 0; i < 20_000; i++) {
+            int value = random.nextInt(2_000);
+            if (random.nextBoolean()) {
+                assertThat(tree.add(value)).isEqualTo(expected.add(value));
+            } else {
+                assertThat(tree.remove(value)).isEqualTo(expected.remove(value));
+            }
+        }
+
+        // Assert
+        List<Integer> sorted = new ArrayList<>(expected);
+        assertThat(tree.size()).isEqualTo(sorted.size());
+        assertThat(tree.range(0, sorted.size())).isEqualTo(sorted);
+        for (int i = 0; i < sorted.size(); i += 37) {
+            assertThat(tree.rankOf(sorted.get(i))).isEqualTo(i);
+        }
+    }
+}
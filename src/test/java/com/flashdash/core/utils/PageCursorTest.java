@@ -0,0 +1,43 @@
+package com.flashdash.core.utils;
+
+import com.flashdash.core.exception.ErrorCode;
+import com.flashdash.core.exception.FlashDashException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PageCursorTest {
+
+    @Test
+    void shouldRoundTripThroughToken() {
+        // Arrange
+        PageCursor cursor = new PageCursor(LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123456000), FrnGenerator.generateFrn(ResourceType.DECK));
+
+        // Act
+        String token = cursor.encode();
+
+        // Assert
+        assertThat(token).doesNotContain("=", "+", "/");
+        assertThat(PageCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    void shouldStartAtFirstPageWithoutToken() {
+        // Act & Assert
+        assertThat(PageCursor.decode(null)).isEqualTo(PageCursor.FIRST);
+        assertThat(PageCursor.decode(" ")).isEqualTo(PageCursor.FIRST);
+    }
+
+    @Test
+    void shouldRejectMalformedToken() {
+        for (String token : new String[] {"not base64!", "bm8tc2VwYXJhdG9y", "bm90LWEtZGF0ZXxmcm4"}) {
+            // Act & Assert
+            assertThatThrownBy(() -> PageCursor.decode(token))
+                    .isInstanceOf(FlashDashException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.E400007);
+        }
+    }
+}